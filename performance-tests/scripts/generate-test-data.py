@@ -52,10 +52,25 @@ class VotingTestDataGenerator:
     
     def generate_valid_cpf(self):
         """Generate a valid Brazilian CPF for testing"""
-        response = self.session.get(f"{self.base_url}/api/cpf-generator/generate")
+        response = self.session.get(f"{self.base_url}/api/cpf-generator/v1/generate")
         response.raise_for_status()
         return response.json()["cpf"]
     
+    def generate_valid_cpfs(self, count, seed=None, offset=0):
+        """Stream `count` unique valid CPFs in one request.
+        
+        CPFs are unique within a run; pass the same seed with a new offset to
+        extend a run without repeats.
+        """
+        params = {"count": count, "offset": offset}
+        if seed is not None:
+            params["seed"] = seed
+        with self.session.get(f"{self.base_url}/api/cpf-generator/v1/bulk",
+                              params=params, stream=True) as response:
+            response.raise_for_status()
+            self.cpf_seed = int(response.headers["X-Cpf-Seed"])
+            return [line.decode("ascii") for line in response.iter_lines() if line]
+    
     def submit_vote(self, agenda_id, member_id, vote_type="YES"):
         """Submit a single vote"""
         data = {
@@ -93,12 +108,12 @@ class VotingTestDataGenerator:
         """Create test members for voting"""
         print(f"Creating {count} test members...")
         members = []
+        cpfs = self.generate_valid_cpfs(count)
         
         with ThreadPoolExecutor(max_workers=50) as executor:
             futures = []
             
-            for i in range(count):
-                cpf = self.generate_valid_cpf()
+            for i, cpf in enumerate(cpfs):
                 name = f"Test Member {i+1}"
                 future = executor.submit(self.create_member, cpf, name)
                 futures.append(future)
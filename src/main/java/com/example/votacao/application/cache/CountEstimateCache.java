@@ -0,0 +1,34 @@
+package com.example.votacao.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Row count estimates for listing totals, reloaded at most once per TTL.
+ *
+ * Design Decision: Listings report an approximate total from the database
+ * statistics instead of a {@code COUNT(*)} per page, which would scan the
+ * whole table on every request; a total that lags by a few seconds is fine
+ * for paging UIs.
+ */
+@Component
+public class CountEstimateCache {
+
+    private final Cache<String, Long> estimates;
+
+    public CountEstimateCache(@Value("${voting.listing.count-estimate-ttl:30s}") Duration ttl) {
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long get(String listing, LongSupplier estimator) {
+        return estimates.get(listing, key -> estimator.getAsLong());
+    }
+}
@@ -0,0 +1,534 @@
+package com.example.votacao.application.cache;
+
+import com.example.votacao.domain.event.MembersCreatedEvent;
+import com.example.votacao.domain.model.MemberSummary;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over member names for typeahead search.
+ *
+ * Names are folded (accents stripped, lower case, single spaces) and kept in
+ * two tiers:
+ * - a sorted, immutable snapshot packed into a few primitive arrays, searched
+ *   by binary search
+ * - a concurrent skip list of members created since the snapshot was built
+ * A search reads the matching run of both tiers in folded-name order and
+ * merges them. Once the skip list holds {@code voting.member-search.merge-threshold}
+ * members, a background thread merges it into a new snapshot.
+ *
+ * Design Decision: The snapshot stores names as UTF-8 bytes behind offset
+ * arrays instead of one {@code String} per member, which keeps millions of
+ * members in a few hundred megabytes and out of the way of the garbage
+ * collector. Members are added after their insert commits, so a rolled back
+ * insert never shows up in search.
+ */
+@Component
+@Slf4j
+public class MemberNameIndex {
+
+    public static final int MAX_RESULTS = 50;
+
+    /** Folded form of every Latin-1 character, so most names skip Unicode normalization. */
+    private static final char[] LATIN1_FOLDED = new char[256];
+
+    static {
+        for (char c = 0; c < LATIN1_FOLDED.length; c++) {
+            String folded = foldDecomposed(String.valueOf(c));
+            // every Latin-1 letter folds to a single character; whitespace folds to nothing
+            LATIN1_FOLDED[c] = folded.isEmpty() ? c : folded.charAt(0);
+        }
+    }
+
+    private final int mergeThreshold;
+    private final ConcurrentSkipListMap<Key, MemberSummary> recent = new ConcurrentSkipListMap<>();
+    private final AtomicInteger recentCount = new AtomicInteger();
+    private final AtomicBoolean mergePending = new AtomicBoolean();
+    private final Object writeLock = new Object();
+    private final ExecutorService mergeExecutor;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public MemberNameIndex(@Value("${voting.member-search.merge-threshold:50000}") int mergeThreshold) {
+        if (mergeThreshold < 1) {
+            throw new IllegalArgumentException("merge-threshold must be positive");
+        }
+        this.mergeThreshold = mergeThreshold;
+        this.mergeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-name-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        mergeExecutor.shutdownNow();
+    }
+
+    /**
+     * Replaces the snapshot with the given members. Members added meanwhile
+     * stay in the recent tier, so none are lost if they also appear here.
+     */
+    public void load(Stream<MemberSummary> members) {
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            SnapshotBuilder builder = new SnapshotBuilder(1024);
+            members.forEach(member -> builder.add(foldToBytes(member.name()), member));
+            snapshot = builder.buildSorted();
+        }
+        log.info("Member name index loaded {} members in {} ms", snapshot.size,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public void add(Collection<MemberSummary> members) {
+        for (MemberSummary member : members) {
+            if (recent.put(new Key(foldToBytes(member.name()), member.id()), member) == null) {
+                recentCount.incrementAndGet();
+            }
+        }
+        if (recentCount.get() >= mergeThreshold && mergePending.compareAndSet(false, true)) {
+            mergeExecutor.execute(this::merge);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembersCreated(MembersCreatedEvent event) {
+        add(event.members());
+    }
+
+    /**
+     * Returns up to {@code limit} members whose folded name starts with the
+     * folded prefix, in folded-name order.
+     *
+     * @throws IllegalArgumentException if the limit is out of range or the prefix is blank
+     */
+    public List<MemberSummary> search(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RESULTS);
+        }
+        String folded = prefix == null ? "" : fold(prefix);
+        if (folded.isEmpty()) {
+            throw new IllegalArgumentException("Name prefix must not be blank");
+        }
+        byte[] key = folded.getBytes(StandardCharsets.UTF_8);
+
+        Snapshot base = snapshot;
+        int index = base.lowerBound(key);
+        Iterator<Map.Entry<Key, MemberSummary>> recentMatches = recent.tailMap(new Key(key, null)).entrySet().iterator();
+        Map.Entry<Key, MemberSummary> nextRecent = nextMatch(recentMatches, key);
+
+        List<MemberSummary> matches = new ArrayList<>(limit);
+        while (matches.size() < limit) {
+            boolean inBase = index < base.size && base.startsWith(index, key);
+            if (!inBase && nextRecent == null) {
+                break;
+            }
+            MemberSummary match;
+            if (inBase && (nextRecent == null || base.compareTo(index, nextRecent.getKey()) <= 0)) {
+                match = base.get(index++);
+            } else {
+                match = nextRecent.getValue();
+                nextRecent = nextMatch(recentMatches, key);
+            }
+            // a member in both tiers (merged, not yet removed from recent) comes out twice in a row
+            if (matches.isEmpty() || !matches.get(matches.size() - 1).id().equals(match.id())) {
+                matches.add(match);
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return snapshot.size + recentCount.get();
+    }
+
+    /**
+     * Members added since the last snapshot was built, still waiting to be merged into it.
+     */
+    public int pendingCount() {
+        return recentCount.get();
+    }
+
+    /**
+     * Folds a name for matching: accents and other combining marks removed,
+     * lower case, runs of whitespace collapsed to one space, no leading or
+     * trailing whitespace.
+     */
+    static String fold(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= LATIN1_FOLDED.length) {
+                // outside Latin-1, which covers Portuguese names: take the general path
+                return foldDecomposed(name);
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
+            }
+            folded.append(LATIN1_FOLDED[c]);
+        }
+        return folded.toString();
+    }
+
+    private static String foldDecomposed(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
+            }
+            folded.append(Character.toLowerCase(c));
+        }
+        return folded.toString();
+    }
+
+    private void merge() {
+        try {
+            long start = System.nanoTime();
+            List<Map.Entry<Key, MemberSummary>> batch;
+            synchronized (writeLock) {
+                batch = new ArrayList<>(recent.entrySet());
+                Snapshot base = snapshot;
+                SnapshotBuilder builder = new SnapshotBuilder(base.size + batch.size());
+                int index = 0;
+                for (Map.Entry<Key, MemberSummary> entry : batch) {
+                    while (index < base.size && base.compareTo(index, entry.getKey()) < 0) {
+                        builder.copy(base, index++);
+                    }
+                    if (index < base.size && base.compareTo(index, entry.getKey()) == 0) {
+                        index++;
+                    }
+                    builder.add(entry.getKey().folded(), entry.getValue());
+                }
+                while (index < base.size) {
+                    builder.copy(base, index++);
+                }
+                snapshot = builder.build();
+            }
+            // only now, so every member is in at least one tier at all times
+            for (Map.Entry<Key, MemberSummary> entry : batch) {
+                if (recent.remove(entry.getKey()) != null) {
+                    recentCount.decrementAndGet();
+                }
+            }
+            log.debug("Merged {} members into the name index in {} ms", batch.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.error("Failed to merge recent members into the name index", e);
+        } finally {
+            mergePending.set(false);
+        }
+    }
+
+    private static Map.Entry<Key, MemberSummary> nextMatch(Iterator<Map.Entry<Key, MemberSummary>> entries,
+                                                           byte[] prefix) {
+        if (!entries.hasNext()) {
+            return null;
+        }
+        Map.Entry<Key, MemberSummary> entry = entries.next();
+        byte[] folded = entry.getKey().folded();
+        return folded.length >= prefix.length && Arrays.equals(folded, 0, prefix.length, prefix, 0, prefix.length)
+                ? entry : null;
+    }
+
+    private static byte[] foldToBytes(String name) {
+        return fold(name).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int compareIds(long high, long low, UUID id) {
+        return id == null ? 1 : compareIds(high, low, id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    private static int compareIds(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+        int byHigh = Long.compare(leftHigh, rightHigh);
+        return byHigh != 0 ? byHigh : Long.compare(leftLow, rightLow);
+    }
+
+    /**
+     * Folded name and id; a null id sorts before every member with that name.
+     */
+    private record Key(byte[] folded, UUID id) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int byName = Arrays.compareUnsigned(folded, other.folded);
+            if (byName != 0) {
+                return byName;
+            }
+            if (id == null || other.id == null) {
+                return id == other.id ? 0 : id == null ? -1 : 1;
+            }
+            return compareIds(id.getMostSignificantBits(), id.getLeastSignificantBits(), other.id);
+        }
+    }
+
+    /**
+     * Members in {@code (folded name, id)} order, column by column.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new SnapshotBuilder(0, 0, 0).build();
+
+        final int size;
+        final byte[] keys;
+        final int[] keyOffsets;
+        final byte[] names;
+        final int[] nameOffsets;
+        final long[] idHigh;
+        final long[] idLow;
+        final long[] cpfs;
+
+        Snapshot(int size, byte[] keys, int[] keyOffsets, byte[] names, int[] nameOffsets,
+                 long[] idHigh, long[] idLow, long[] cpfs) {
+            this.size = size;
+            this.keys = keys;
+            this.keyOffsets = keyOffsets;
+            this.names = names;
+            this.nameOffsets = nameOffsets;
+            this.idHigh = idHigh;
+            this.idLow = idLow;
+            this.cpfs = cpfs;
+        }
+
+        /**
+         * Index of the first member whose folded name is not less than the prefix.
+         */
+        int lowerBound(byte[] prefix) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (Arrays.compareUnsigned(keys, keyOffsets[middle], keyOffsets[middle + 1],
+                        prefix, 0, prefix.length) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        boolean startsWith(int index, byte[] prefix) {
+            int start = keyOffsets[index];
+            return keyOffsets[index + 1] - start >= prefix.length
+                    && Arrays.equals(keys, start, start + prefix.length, prefix, 0, prefix.length);
+        }
+
+        int compareTo(int index, Key key) {
+            int byName = Arrays.compareUnsigned(keys, keyOffsets[index], keyOffsets[index + 1],
+                    key.folded(), 0, key.folded().length);
+            return byName != 0 ? byName : compareIds(idHigh[index], idLow[index], key.id());
+        }
+
+        MemberSummary get(int index) {
+            String name = new String(names, nameOffsets[index], nameOffsets[index + 1] - nameOffsets[index],
+                    StandardCharsets.UTF_8);
+            return new MemberSummary(new UUID(idHigh[index], idLow[index]), name, cpfs[index]);
+        }
+    }
+
+    /**
+     * Appends members column by column, growing the arrays as needed.
+     */
+    private static final class SnapshotBuilder {
+
+        private int size;
+        private byte[] keys;
+        private int[] keyOffsets;
+        private byte[] names;
+        private int[] nameOffsets;
+        private long[] idHigh;
+        private long[] idLow;
+        private long[] cpfs;
+
+        SnapshotBuilder(int capacity) {
+            this(capacity, capacity * 16, capacity * 16);
+        }
+
+        SnapshotBuilder(int capacity, int keyBytes, int nameBytes) {
+            keys = new byte[keyBytes];
+            keyOffsets = new int[capacity + 1];
+            names = new byte[nameBytes];
+            nameOffsets = new int[capacity + 1];
+            idHigh = new long[capacity];
+            idLow = new long[capacity];
+            cpfs = new long[capacity];
+        }
+
+        void add(byte[] folded, MemberSummary member) {
+            byte[] name = member.name().getBytes(StandardCharsets.UTF_8);
+            append(folded, 0, folded.length, name, 0, name.length,
+                    member.id().getMostSignificantBits(), member.id().getLeastSignificantBits(), member.cpf());
+        }
+
+        void copy(Snapshot source, int index) {
+            append(source.keys, source.keyOffsets[index], source.keyOffsets[index + 1],
+                    source.names, source.nameOffsets[index], source.nameOffsets[index + 1],
+                    source.idHigh[index], source.idLow[index], source.cpfs[index]);
+        }
+
+        private void append(byte[] key, int keyFrom, int keyTo, byte[] name, int nameFrom, int nameTo,
+                            long high, long low, long cpf) {
+            if (size == idHigh.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                keyOffsets = Arrays.copyOf(keyOffsets, capacity + 1);
+                nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+                idHigh = Arrays.copyOf(idHigh, capacity);
+                idLow = Arrays.copyOf(idLow, capacity);
+                cpfs = Arrays.copyOf(cpfs, capacity);
+            }
+            keys = ensureCapacity(keys, keyOffsets[size] + keyTo - keyFrom);
+            System.arraycopy(key, keyFrom, keys, keyOffsets[size], keyTo - keyFrom);
+            keyOffsets[size + 1] = keyOffsets[size] + keyTo - keyFrom;
+            names = ensureCapacity(names, nameOffsets[size] + nameTo - nameFrom);
+            System.arraycopy(name, nameFrom, names, nameOffsets[size], nameTo - nameFrom);
+            nameOffsets[size + 1] = nameOffsets[size] + nameTo - nameFrom;
+            idHigh[size] = high;
+            idLow[size] = low;
+            cpfs[size] = cpf;
+            size++;
+        }
+
+        private static byte[] ensureCapacity(byte[] array, int required) {
+            if (required < 0) {
+                throw new IllegalStateException("Member name index exceeds 2 GiB of names");
+            }
+            if (required <= array.length) {
+                return array;
+            }
+            long grown = Math.max(required, array.length + ((long) array.length >> 1));
+            return Arrays.copyOf(array, (int) Math.min(grown, Integer.MAX_VALUE - 8));
+        }
+
+        Snapshot build() {
+            return new Snapshot(size, trim(keys, keyOffsets[size]), trim(keyOffsets, size + 1),
+                    trim(names, nameOffsets[size]), trim(nameOffsets, size + 1),
+                    trim(idHigh, size), trim(idLow, size), trim(cpfs, size));
+        }
+
+        /**
+         * Builds a snapshot of the members added so far in sorted order; duplicates are dropped.
+         */
+        Snapshot buildSorted() {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            sortByKey(order, 0, size, 0, new long[size]);
+            Snapshot unsorted = new Snapshot(size, keys, keyOffsets, names, nameOffsets, idHigh, idLow, cpfs);
+            SnapshotBuilder sorted = new SnapshotBuilder(size, keyOffsets[size], nameOffsets[size]);
+            for (int index : order) {
+                if (sorted.size > 0 && sorted.idHigh[sorted.size - 1] == idHigh[index]
+                        && sorted.idLow[sorted.size - 1] == idLow[index]) {
+                    continue;
+                }
+                sorted.copy(unsorted, index);
+            }
+            return sorted.build();
+        }
+
+        /**
+         * MSD radix sort of {@code order[from, to)} by folded name, three key
+         * bytes per pass, then by id among equal names. Each pass sorts
+         * primitive {@code (digit, index)} pairs, so key bytes are read once per
+         * pass rather than once per comparison, which matters at millions of
+         * members scattered over the heap.
+         */
+        private void sortByKey(int[] order, int from, int to, int offset, long[] pairs) {
+            for (int i = from; i < to; i++) {
+                pairs[i] = (digit(order[i], offset) ^ 0x8000_0000L) << 32 | order[i];
+            }
+            Arrays.sort(pairs, from, to);
+            for (int i = from; i < to; i++) {
+                order[i] = (int) pairs[i];
+            }
+            int runStart = from;
+            for (int i = from + 1; i <= to; i++) {
+                if (i < to && pairs[i] >>> 32 == pairs[runStart] >>> 32) {
+                    continue;
+                }
+                if (i - runStart > 1) {
+                    // the low byte counts the key bytes in the digit: fewer than three means the names ended
+                    if ((pairs[runStart] >>> 32 & 0xFF) == 3) {
+                        sortByKey(order, runStart, i, offset + 3, pairs);
+                    } else {
+                        sortById(order, runStart, i);
+                    }
+                }
+                runStart = i;
+            }
+        }
+
+        /**
+         * Up to three key bytes from {@code offset}, followed by how many there were.
+         */
+        private long digit(int index, int offset) {
+            int start = keyOffsets[index] + offset;
+            int count = Math.max(0, Math.min(3, keyOffsets[index + 1] - start));
+            long digit = 0;
+            for (int i = 0; i < 3; i++) {
+                digit = digit << 8 | (i < count ? keys[start + i] & 0xFF : 0);
+            }
+            return digit << 8 | count;
+        }
+
+        private void sortById(int[] order, int from, int to) {
+            Integer[] run = new Integer[to - from];
+            for (int i = from; i < to; i++) {
+                run[i - from] = order[i];
+            }
+            Arrays.sort(run, (left, right) -> compareIds(idHigh[left], idLow[left], idHigh[right], idLow[right]));
+            for (int i = from; i < to; i++) {
+                order[i] = run[i - from];
+            }
+        }
+
+        private static byte[] trim(byte[] array, int length) {
+            return array.length == length ? array : Arrays.copyOf(array, length);
+        }
+
+        private static int[] trim(int[] array, int length) {
+            return array.length == length ? array : Arrays.copyOf(array, length);
+        }
+
+        private static long[] trim(long[] array, int length) {
+            return array.length == length ? array : Arrays.copyOf(array, length);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.votacao.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of ids and CPFs known not to exist.
+ *
+ * Lookups that miss in the repository are recorded here so repeated
+ * requests for the same unknown id are rejected without a query. Entries
+ * expire after a TTL and are dropped as soon as an entity with that id or
+ * CPF is created, both immediately and again after the creating
+ * transaction commits, so a lookup racing with the insert cannot leave a
+ * stale entry behind.
+ */
+@Component
+public class NegativeLookupCache {
+
+    public enum Kind {
+        AGENDA,
+        MEMBER,
+        MEMBER_CPF
+    }
+
+    private final Cache<Key, Boolean> missing;
+
+    public NegativeLookupCache(@Value("${voting.negative-cache.maximum-size:100000}") long maximumSize,
+                               @Value("${voting.negative-cache.ttl:5m}") Duration ttl) {
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public boolean isKnownMissing(Kind kind, Object id) {
+        return id != null && missing.getIfPresent(new Key(kind, id)) != null;
+    }
+
+    public void recordMissing(Kind kind, Object id) {
+        if (id != null) {
+            missing.put(new Key(kind, id), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Forgets a previously missing id because an entity with it is being created.
+     */
+    public void forget(Kind kind, Object id) {
+        if (id == null) {
+            return;
+        }
+        Key key = new Key(kind, id);
+        missing.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    missing.invalidate(key);
+                }
+            });
+        }
+    }
+
+    public Cache<?, ?> nativeCache() {
+        return missing;
+    }
+
+    private record Key(Kind kind, Object id) {
+    }
+}
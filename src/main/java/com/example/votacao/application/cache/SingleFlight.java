@@ -0,0 +1,119 @@
+package com.example.votacao.application.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent computations for the same key into one execution.
+ *
+ * The first caller for a key runs the computation; callers arriving while it
+ * is in flight wait for and share its outcome, including its exception.
+ * Nothing is retained once the computation finishes, so this complements a
+ * cache rather than replacing one.
+ *
+ * Design Decision: No lock is held while the computation runs, unlike
+ * Caffeine's {@code get(key, loader)}, which blocks the whole hash bin and
+ * therefore unrelated keys during a slow database read.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the computation, or joins the one already in flight for the key.
+     *
+     * @param key the key identifying the computation
+     * @param work the computation to run if none is in flight
+     * @return the computed value
+     * @throws Exception whatever the computation threw
+     */
+    public V execute(K key, Callable<V> work) throws Exception {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> shared = inFlight.putIfAbsent(key, own);
+        if (shared != null) {
+            coalesced.increment();
+            return await(shared);
+        }
+        return run(key, work, own);
+    }
+
+    /**
+     * Starts the computation on the executor unless one is already in flight for the key.
+     *
+     * @return {@code true} if a new computation was started
+     */
+    public boolean executeInBackground(K key, Callable<V> work, Executor executor) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, own) != null) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(key, work, own);
+                } catch (Exception ignored) {
+                    // outcome is delivered through the future to any joined callers
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    /**
+     * Number of computations actually executed.
+     */
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * Number of callers that joined an in-flight computation instead of running their own.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private V run(K key, Callable<V> work, CompletableFuture<V> own) throws Exception {
+        executions.increment();
+        try {
+            V value = work.call();
+            own.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> shared) throws Exception {
+        try {
+            return shared.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.votacao.application.cache;
+
+import com.example.votacao.application.dto.Versioned;
+import com.example.votacao.application.dto.VotingResultResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Versioned, stale-while-revalidate cache for voting results.
+ *
+ * Every agenda has a version that is bumped when a vote or a status change
+ * commits; it also serves as the agenda's HTTP entity tag.
+ * Cached results remember the version they were computed at, which gives:
+ * - Fresh hits while the version is unchanged
+ * - Stale hits within the staleness bound, with one background refresh per interval
+ * - A single shared computation when several readers miss at the same time
+ *
+ * At most {@code voting.results-cache.maximum-size} results are kept. Once an
+ * agenda is finalized its result is served from the final results cache, so
+ * its entry and counter are dropped and only its final version is remembered,
+ * for as many finalized agendas as the same bound allows.
+ *
+ * Design Decision: Votes bump a counter instead of evicting the entry, so a
+ * busy session no longer turns every result read into a full recount.
+ *
+ * Design Decision: Versions are drawn from one sequence shared by all agendas
+ * rather than counted per agenda, so a version that was dropped and later
+ * bumped again can never repeat an entity tag that was already handed out.
+ */
+@Component
+@Slf4j
+public class VotingResultCache {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<UUID, Long> versions = new ConcurrentHashMap<>();
+    private final Cache<UUID, Long> finalVersions;
+    private final AtomicLong openSessionsVersion = new AtomicLong();
+    private final Cache<UUID, Entry> entries;
+    private final SingleFlight<UUID, Entry> singleFlight = new SingleFlight<>();
+    private final ThreadPoolExecutor refreshExecutor;
+    private final long refreshIntervalNanos;
+    private final long maxStalenessNanos;
+
+    public VotingResultCache(@Value("${voting.results-cache.refresh-interval:1s}") Duration refreshInterval,
+                             @Value("${voting.results-cache.max-staleness:5s}") Duration maxStaleness,
+                             @Value("${voting.results-cache.refresh-threads:2}") int refreshThreads,
+                             @Value("${voting.results-cache.maximum-size:10000}") long maximumSize) {
+        if (maxStaleness.compareTo(refreshInterval) < 0) {
+            throw new IllegalArgumentException("max-staleness must not be shorter than refresh-interval");
+        }
+        this.entries = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.finalVersions = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1024), runnable -> {
+                    Thread thread = new Thread(runnable, "result-refresh-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns the cached result for the agenda, loading it when absent or too stale.
+     *
+     * @param agendaId the agenda whose result is requested
+     * @param loader computes the result from the repository
+     * @return the cached or freshly computed result
+     */
+    public VotingResultResponse get(UUID agendaId, Function<UUID, VotingResultResponse> loader) {
+        return getVersioned(agendaId, loader).value();
+    }
+
+    /**
+     * Like {@link #get}, but also returns the version the result was computed
+     * at, which is older than {@link #currentVersion} for a stale hit.
+     */
+    public Versioned<VotingResultResponse> getVersioned(UUID agendaId,
+                                                        Function<UUID, VotingResultResponse> loader) {
+        Entry entry = entries.getIfPresent(agendaId);
+        long current = currentVersion(agendaId);
+        if (entry != null) {
+            if (entry.version == current) {
+                return entry.versioned();
+            }
+            long age = System.nanoTime() - entry.computedAt;
+            if (age <= maxStalenessNanos) {
+                if (age >= refreshIntervalNanos) {
+                    refreshInBackground(agendaId, loader);
+                }
+                return entry.versioned();
+            }
+        }
+        return load(agendaId, loader).versioned();
+    }
+
+    /**
+     * Returns the cached result only if it is at the current version, loading
+     * it otherwise; never serves a stale result. The load is shared with
+     * concurrent readers and refreshes the entry for them.
+     */
+    public VotingResultResponse getFresh(UUID agendaId, Function<UUID, VotingResultResponse> loader) {
+        Entry entry = entries.getIfPresent(agendaId);
+        if (entry != null && entry.version == currentVersion(agendaId)) {
+            return entry.value;
+        }
+        return load(agendaId, loader).value;
+    }
+
+    /**
+     * Like {@link #getVersioned} for several agendas, but all misses are
+     * loaded together with a single call to {@code loader}, which receives the
+     * missing ids and must return a result for every one of them.
+     *
+     * Design Decision: A stale entry counts as a miss once it is due for a
+     * refresh instead of being refreshed in the background: the shared load
+     * refreshes it at almost no extra cost, where the background would take
+     * one query per agenda. Bulk loads are not coalesced with concurrent
+     * single-agenda loads.
+     *
+     * @return the results in the order of {@code agendaIds}
+     */
+    public Map<UUID, Versioned<VotingResultResponse>> getAllVersioned(
+            Collection<UUID> agendaIds, Function<Collection<UUID>, Map<UUID, VotingResultResponse>> loader) {
+        Map<UUID, Versioned<VotingResultResponse>> results = new LinkedHashMap<>();
+        Map<UUID, Long> missing = new LinkedHashMap<>();
+        for (UUID agendaId : agendaIds) {
+            Entry entry = entries.getIfPresent(agendaId);
+            long current = currentVersion(agendaId);
+            if (entry != null && (entry.version == current
+                    || System.nanoTime() - entry.computedAt < refreshIntervalNanos)) {
+                results.put(agendaId, entry.versioned());
+            } else {
+                // keeps the requested order; filled in after the load
+                results.put(agendaId, null);
+                missing.put(agendaId, current);
+            }
+        }
+        if (missing.isEmpty()) {
+            return results;
+        }
+        long computedAt = System.nanoTime();
+        Map<UUID, VotingResultResponse> loaded = loader.apply(missing.keySet());
+        missing.forEach((agendaId, version) -> {
+            VotingResultResponse value = loaded.get(agendaId);
+            if (value == null) {
+                throw new IllegalStateException("No voting result loaded for agenda " + agendaId);
+            }
+            Entry entry = new Entry(value, version, computedAt);
+            store(agendaId, entry);
+            results.put(agendaId, entry.versioned());
+        });
+        return results;
+    }
+
+    /**
+     * Returns the current version of the agenda's result.
+     */
+    public long currentVersion(UUID agendaId) {
+        Long version = versions.get(agendaId);
+        if (version == null) {
+            version = finalVersions.getIfPresent(agendaId);
+        }
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * Version of the set of open voting sessions, bumped whenever a session
+     * opens or is finalized.
+     */
+    public long openSessionsVersion() {
+        return openSessionsVersion.get();
+    }
+
+    /**
+     * Whether the agenda's result was finalized since startup, as far as the
+     * bounded memory of finalized agendas reaches. Finalized results only
+     * change through an administrative recompute.
+     */
+    public boolean isFinalized(UUID agendaId) {
+        return finalVersions.getIfPresent(agendaId) != null;
+    }
+
+    /**
+     * Number of result reads that joined an in-flight computation.
+     */
+    public long coalescedCount() {
+        return singleFlight.coalescedCount();
+    }
+
+    /**
+     * Bumps the agenda's version once the surrounding transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * Design Decision: The bump runs after completion rather than after commit,
+     * so it follows the after-commit evictions of the transaction-aware Spring
+     * caches. Whoever sees the new version reads the new state, which is what
+     * makes the version usable as an entity tag.
+     */
+    public void markChanged(UUID agendaId) {
+        runAfterCommit(() -> bump(agendaId));
+    }
+
+    /**
+     * Bumps the agenda's version and the open sessions version once the
+     * surrounding transaction, which opened the agenda's session, commits.
+     */
+    public void markOpened(UUID agendaId) {
+        runAfterCommit(() -> {
+            bump(agendaId);
+            openSessionsVersion.incrementAndGet();
+        });
+    }
+
+    /**
+     * Marks the agenda's result as final and bumps its version and the open
+     * sessions version, once the surrounding transaction commits. The cached
+     * result and the counter are dropped; the final result is read from the
+     * final results cache from then on.
+     */
+    public void markFinalized(UUID agendaId) {
+        runAfterCommit(() -> {
+            // remembered before the counter goes, so readers never see the version drop to 0
+            finalVersions.put(agendaId, bump(agendaId));
+            versions.remove(agendaId);
+            entries.invalidate(agendaId);
+            openSessionsVersion.incrementAndGet();
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private long bump(UUID agendaId) {
+        // concurrent bumps may draw out of order; the highest wins
+        return versions.merge(agendaId, sequence.incrementAndGet(), Math::max);
+    }
+
+    private Entry load(UUID agendaId, Function<UUID, VotingResultResponse> loader) {
+        try {
+            return singleFlight.execute(agendaId, () -> compute(agendaId, loader));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to compute voting result for agenda " + agendaId, e);
+        }
+    }
+
+    private void refreshInBackground(UUID agendaId, Function<UUID, VotingResultResponse> loader) {
+        singleFlight.executeInBackground(agendaId, () -> {
+            try {
+                return compute(agendaId, loader);
+            } catch (RuntimeException e) {
+                log.warn("Background refresh of voting result for agenda {} failed", agendaId, e);
+                throw e;
+            }
+        }, refreshExecutor);
+    }
+
+    private Entry compute(UUID agendaId, Function<UUID, VotingResultResponse> loader) {
+        long version = currentVersion(agendaId);
+        long computedAt = System.nanoTime();
+        Entry entry = new Entry(loader.apply(agendaId), version, computedAt);
+        store(agendaId, entry);
+        return entry;
+    }
+
+    private void store(UUID agendaId, Entry entry) {
+        if (isFinalized(agendaId)) {
+            // served from the final results cache
+            return;
+        }
+        entries.asMap().merge(agendaId, entry,
+                (existing, fresh) -> fresh.version >= existing.version ? fresh : existing);
+    }
+
+    private record Entry(VotingResultResponse value, long version, long computedAt) {
+
+        Versioned<VotingResultResponse> versioned() {
+            return new Versioned<>(value, version);
+        }
+    }
+}
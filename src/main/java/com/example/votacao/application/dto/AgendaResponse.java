@@ -20,4 +20,5 @@ public class AgendaResponse {
     private LocalDateTime sessionStartTime;
     private LocalDateTime sessionEndTime;
     private boolean votingOpen;
+    private LocalDateTime finalizedAt;
 }
\ No newline at end of file
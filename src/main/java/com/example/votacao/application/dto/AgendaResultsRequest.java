@@ -0,0 +1,21 @@
+package com.example.votacao.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaResultsRequest {
+    
+    @NotEmpty(message = "Agenda ID list cannot be empty")
+    @Size(max = 500, message = "Cannot request more than 500 agendas at once")
+    private List<@NotNull(message = "Agenda ID is required") UUID> agendaIds;
+}
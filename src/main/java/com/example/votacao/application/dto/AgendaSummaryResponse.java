@@ -0,0 +1,21 @@
+package com.example.votacao.application.dto;
+
+import com.example.votacao.domain.model.VotingSessionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaSummaryResponse {
+    private UUID id;
+    private String title;
+    private VotingSessionStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime sessionEndTime;
+    private boolean votingOpen;
+}
@@ -0,0 +1,20 @@
+package com.example.votacao.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * The voting result of one agenda in a bulk read, with the version it
+ * reflects; the version is the one the single-agenda endpoint uses as ETag.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaVotingResultResponse {
+    private UUID agendaId;
+    private long version;
+    private VotingResultResponse result;
+}
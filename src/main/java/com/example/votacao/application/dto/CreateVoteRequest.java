@@ -1,5 +1,6 @@
 package com.example.votacao.application.dto;
 
+import com.example.votacao.domain.model.Cpf;
 import com.example.votacao.domain.model.VoteType;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
@@ -38,6 +39,14 @@ public class CreateVoteRequest {
             return;
         }
 
+        // A formatted CPF is at most 14 characters, far shorter than a UUID,
+        // so a valid one skips the exception-driven UUID parse
+        if (value.length() <= 14 && Cpf.isValid(value)) {
+            this.memberCpf = value;
+            this.memberId = null;
+            return;
+        }
+
         // Try to parse as UUID first
         try {
             this.memberId = UUID.fromString(value);
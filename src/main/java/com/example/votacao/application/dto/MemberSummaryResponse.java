@@ -0,0 +1,16 @@
+package com.example.votacao.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSummaryResponse {
+    private UUID id;
+    private String name;
+    private String cpf;
+}
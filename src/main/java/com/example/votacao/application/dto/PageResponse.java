@@ -0,0 +1,21 @@
+package com.example.votacao.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the
+ * last page. {@code totalEstimate} is the approximate size of the whole,
+ * unfiltered listing, refreshed periodically; it is null when filters apply.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private Long totalEstimate;
+}
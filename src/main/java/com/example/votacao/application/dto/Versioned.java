@@ -0,0 +1,8 @@
+package com.example.votacao.application.dto;
+
+/**
+ * A response together with the agenda version it reflects; the web layer
+ * turns the version into an entity tag.
+ */
+public record Versioned<T>(T value, long version) {
+}
@@ -0,0 +1,19 @@
+package com.example.votacao.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of an agenda's votes, ordered by vote time. {@code nextCursor} is
+ * null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VotePageResponse {
+    private List<VoteResponse> votes;
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.example.votacao.application.dto;
+
+import com.example.votacao.domain.model.VoteReceiptStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteReceiptResponse {
+    private UUID receiptId;
+    private UUID agendaId;
+    private VoteReceiptStatus status;
+    private String reason;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
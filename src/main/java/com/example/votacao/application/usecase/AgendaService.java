@@ -1,17 +1,38 @@
 package com.example.votacao.application.usecase;
 
+import com.example.votacao.application.cache.CountEstimateCache;
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.application.cache.VotingResultCache;
 import com.example.votacao.application.dto.*;
+import com.example.votacao.domain.event.VotingSessionOpenedEvent;
+import com.example.votacao.domain.exception.UnknownEntityException;
 import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.AgendaResult;
+import com.example.votacao.domain.model.AgendaSummary;
 import com.example.votacao.domain.model.VotingResult;
 import com.example.votacao.domain.model.VotingSessionStatus;
 import com.example.votacao.domain.repository.AgendaRepository;
+import com.example.votacao.domain.repository.AgendaResultRepository;
+import com.example.votacao.domain.repository.VoteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -20,31 +41,43 @@ import java.util.UUID;
 public class AgendaService {
 
     private static final String AGENDA_NOT_FOUND_WITH_ID = "Agenda not found with id:";
+    private static final String FINAL_RESULTS_CACHE = "agenda-results";
+    static final int MAX_BULK_RESULTS = 500;
     private final AgendaRepository agendaRepository;
+    private final VoteRepository voteRepository;
+    private final AgendaResultRepository agendaResultRepository;
+    private final VotingResultCache votingResultCache;
+    private final NegativeLookupCache negativeLookupCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final CountEstimateCache countEstimateCache;
     
     public AgendaResponse createAgenda(CreateAgendaRequest request) {
         Agenda agenda = new Agenda(request.getTitle(), request.getDescription());
+        negativeLookupCache.forget(NegativeLookupCache.Kind.AGENDA, agenda.getId());
         Agenda savedAgenda = agendaRepository.save(agenda);
+        votingResultCache.markChanged(agenda.getId());
         return mapToResponse(savedAgenda);
     }
     
+    @CacheEvict(value = "agendas", key = "#agendaId")
     public AgendaResponse openVotingSession(UUID agendaId, OpenVotingSessionRequest request) {
-        Agenda agenda = agendaRepository.findById(agendaId)
-                .orElseThrow(() -> new IllegalArgumentException(AGENDA_NOT_FOUND_WITH_ID +  agendaId));
+        Agenda agenda = findAgenda(agendaId);
         
         int duration = request.getDurationInMinutes() != null ? request.getDurationInMinutes() : 1;
         agenda.openVotingSession(duration);
         agenda.setStatus(VotingSessionStatus.OPEN);
 
         Agenda savedAgenda = agendaRepository.save(agenda);
+        votingResultCache.markOpened(agendaId);
+        eventPublisher.publishEvent(new VotingSessionOpenedEvent(agendaId, savedAgenda.getSessionEndTime()));
         return mapToResponse(savedAgenda);
     }
     
     @Transactional(readOnly = true)
-    @Cacheable(value = "agendas", key = "#agendaId")
+    @Cacheable(value = "agendas", key = "#agendaId", sync = true)
     public AgendaResponse getAgenda(UUID agendaId) {
-        Agenda agenda = agendaRepository.findById(agendaId)
-                .orElseThrow(() -> new IllegalArgumentException(AGENDA_NOT_FOUND_WITH_ID + agendaId));
+        Agenda agenda = findAgenda(agendaId);
         return mapToResponse(agenda);
     }
     
@@ -55,6 +88,125 @@ public class AgendaService {
                 .toList();
     }
     
+    /**
+     * Lists agendas newest first, one keyset page at a time, as lightweight
+     * projections. Every filter is optional.
+     *
+     * @param createdFrom inclusive lower bound of the creation time
+     * @param createdTo exclusive upper bound of the creation time
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<AgendaSummaryResponse> listAgendas(VotingSessionStatus status, LocalDateTime createdFrom,
+                                                           LocalDateTime createdTo, String cursor, int limit) {
+        KeysetCursor.checkLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        List<AgendaSummary> agendas = agendaRepository.findSummaries(status, createdFrom, createdTo,
+                after == null ? null : after.keyAsDateTime(), after == null ? null : after.id(), limit + 1);
+        String nextCursor = nextCursor(agendas, limit);
+        if (nextCursor != null) {
+            agendas = agendas.subList(0, limit);
+        }
+        List<AgendaSummaryResponse> items = agendas.stream()
+                .map(agenda -> new AgendaSummaryResponse(agenda.id(), agenda.title(), agenda.status(),
+                        agenda.createdAt(), agenda.sessionEndTime(), agenda.isVotingOpen()))
+                .toList();
+        boolean filtered = status != null || createdFrom != null || createdTo != null;
+        Long totalEstimate = filtered ? null : countEstimateCache.get("agendas", agendaRepository::estimateCount);
+        return new PageResponse<>(items, nextCursor, totalEstimate);
+    }
+    
+    /**
+     * Results of up to {@value #MAX_BULK_RESULTS} agendas in the order of the
+     * ids, duplicates removed. Cached results are reused; the rest are
+     * computed together, with one grouped tally query for all agendas that are
+     * still open.
+     *
+     * Design Decision: A results board used to make one request, one agenda
+     * lookup and one tally query per agenda. Reading the misses by id lists
+     * keeps the work for 200 agendas at three queries, and the results it
+     * computes are cached for the single-agenda endpoint as well.
+     *
+     * @throws IllegalArgumentException if more than {@value #MAX_BULK_RESULTS} ids are given
+     * @throws UnknownEntityException if any of the agendas does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<AgendaVotingResultResponse> getVotingResults(List<UUID> agendaIds) {
+        Set<UUID> ids = new LinkedHashSet<>(agendaIds);
+        if (ids.size() > MAX_BULK_RESULTS) {
+            throw new IllegalArgumentException("Cannot read more than " + MAX_BULK_RESULTS + " results at once");
+        }
+        List<UUID> knownMissing = ids.stream()
+                .filter(id -> negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, id))
+                .toList();
+        if (!knownMissing.isEmpty()) {
+            throw new UnknownEntityException("Agendas not found with ids: " + knownMissing);
+        }
+        return votingResultsOf(ids);
+    }
+    
+    /**
+     * Results of the agendas of one {@link #listAgendas} page, newest first,
+     * optionally filtered by status.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<AgendaVotingResultResponse> listVotingResults(VotingSessionStatus status, String cursor,
+                                                                      int limit) {
+        if (limit < 1 || limit > MAX_BULK_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_BULK_RESULTS);
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        List<AgendaSummary> agendas = agendaRepository.findSummaries(status, null, null,
+                after == null ? null : after.keyAsDateTime(), after == null ? null : after.id(), limit + 1);
+        String nextCursor = nextCursor(agendas, limit);
+        if (nextCursor != null) {
+            agendas = agendas.subList(0, limit);
+        }
+        List<UUID> ids = agendas.stream().map(AgendaSummary::id).toList();
+        return new PageResponse<>(votingResultsOf(ids), nextCursor, null);
+    }
+    
+    private static String nextCursor(List<AgendaSummary> agendas, int limit) {
+        if (agendas.size() <= limit) {
+            return null;
+        }
+        AgendaSummary last = agendas.get(limit - 1);
+        return new KeysetCursor(last.createdAt(), last.id()).encode();
+    }
+    
+    private List<AgendaVotingResultResponse> votingResultsOf(Collection<UUID> agendaIds) {
+        Map<UUID, Versioned<VotingResultResponse>> results = new HashMap<>();
+        List<UUID> notFinal = new ArrayList<>();
+        for (UUID agendaId : agendaIds) {
+            long version = votingResultCache.currentVersion(agendaId);
+            VotingResultResponse finalResult = cachedFinalResult(agendaId);
+            if (finalResult != null) {
+                results.put(agendaId, new Versioned<>(finalResult, version));
+            } else {
+                notFinal.add(agendaId);
+            }
+        }
+        results.putAll(votingResultCache.getAllVersioned(notFinal, this::computeVotingResults));
+        return agendaIds.stream()
+                .map(agendaId -> new AgendaVotingResultResponse(agendaId, results.get(agendaId).version(),
+                        results.get(agendaId).value()))
+                .toList();
+    }
+    
+    /**
+     * Version of the open sessions list, answered from memory; bumped after
+     * every committed session opening and closing.
+     */
+    public long getOpenVotingSessionsVersion() {
+        return votingResultCache.openSessionsVersion();
+    }
+    
     @Transactional(readOnly = true)
     public List<AgendaResponse> getOpenVotingSessions() {
         return agendaRepository.findByStatus(VotingSessionStatus.OPEN).stream()
@@ -63,12 +215,252 @@ public class AgendaService {
     }
     
     @Transactional(readOnly = true)
-    @Cacheable(value = "voting-results", key = "#agendaId")
     public VotingResultResponse getVotingResult(UUID agendaId) {
-        Agenda agenda = agendaRepository.findById(agendaId)
-                .orElseThrow(() -> new IllegalArgumentException(AGENDA_NOT_FOUND_WITH_ID + " " + agendaId));
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)) {
+            throw new UnknownEntityException(AGENDA_NOT_FOUND_WITH_ID + " " + agendaId);
+        }
+        VotingResultResponse finalResult = cachedFinalResult(agendaId);
+        if (finalResult != null) {
+            return finalResult;
+        }
+        return votingResultCache.get(agendaId, this::computeVotingResult);
+    }
+    
+    /**
+     * Like {@link #getVotingResult(UUID)}, together with the version the result
+     * reflects. A stale result carries the older version it was computed at.
+     */
+    @Transactional(readOnly = true)
+    public Versioned<VotingResultResponse> getVersionedVotingResult(UUID agendaId) {
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)) {
+            throw new UnknownEntityException(AGENDA_NOT_FOUND_WITH_ID + " " + agendaId);
+        }
+        // read before the result: the result is then at least as new as the version
+        long version = votingResultCache.currentVersion(agendaId);
+        VotingResultResponse finalResult = cachedFinalResult(agendaId);
+        if (finalResult != null) {
+            return new Versioned<>(finalResult, version);
+        }
+        return votingResultCache.getVersioned(agendaId, this::computeVotingResult);
+    }
+    
+    /**
+     * Current version of the agenda and its result, answered from memory. It is
+     * bumped after every committed vote and status change; 0 means the agenda
+     * has not changed since startup, or does not exist.
+     */
+    public long getVersion(UUID agendaId) {
+        return votingResultCache.currentVersion(agendaId);
+    }
+    
+    /**
+     * Whether the agenda's result is known, from memory, to be final.
+     */
+    public boolean isResultFinal(UUID agendaId) {
+        return votingResultCache.isFinalized(agendaId);
+    }
+    
+    /**
+     * Like {@link #getVotingResult(UUID)}, but never serves a stale result:
+     * a result older than the latest vote is recomputed first.
+     */
+    @Transactional(readOnly = true)
+    public VotingResultResponse getLatestVotingResult(UUID agendaId) {
+        VotingResultResponse finalResult = cachedFinalResult(agendaId);
+        if (finalResult != null) {
+            return finalResult;
+        }
+        return votingResultCache.getFresh(agendaId, this::computeVotingResult);
+    }
+    
+    private VotingResultResponse cachedFinalResult(UUID agendaId) {
+        Cache finalResults = cacheManager.getCache(FINAL_RESULTS_CACHE);
+        Cache.ValueWrapper finalResult = finalResults != null ? finalResults.get(agendaId) : null;
+        return finalResult != null ? (VotingResultResponse) finalResult.get() : null;
+    }
+    
+    /**
+     * Computes the voting result straight from the repository, bypassing the
+     * results cache. Used for read-your-writes reads after an async vote.
+     */
+    @Transactional(readOnly = true)
+    public VotingResultResponse getCurrentVotingResult(UUID agendaId) {
+        return computeVotingResult(agendaId);
+    }
+    
+    /**
+     * Reads the stored final result of a closed agenda, which is cached without
+     * expiry, or tallies the votes of an agenda that is still open.
+     */
+    private VotingResultResponse computeVotingResult(UUID agendaId) {
+        Optional<AgendaResult> finalResult = agendaResultRepository.findByAgendaId(agendaId);
+        if (finalResult.isPresent()) {
+            VotingResultResponse response = mapToResponse(finalResult.get().toVotingResult());
+            Cache finalResults = cacheManager.getCache(FINAL_RESULTS_CACHE);
+            if (finalResults != null) {
+                finalResults.put(agendaId, response);
+            }
+            return response;
+        }
+        
+        requireAgendaExists(agendaId);
+        return mapToResponse(voteRepository.tallyByAgendaId(agendaId));
+    }
+    
+    /**
+     * Like {@link #computeVotingResult} for several agendas: the stored final
+     * results are read with one query and the remaining agendas are tallied
+     * with one grouped query.
+     */
+    private Map<UUID, VotingResultResponse> computeVotingResults(Collection<UUID> agendaIds) {
+        Map<UUID, VotingResultResponse> results = new HashMap<>();
+        Cache finalResults = cacheManager.getCache(FINAL_RESULTS_CACHE);
+        for (AgendaResult finalResult : agendaResultRepository.findByAgendaIds(agendaIds)) {
+            VotingResultResponse response = mapToResponse(finalResult.toVotingResult());
+            if (finalResults != null) {
+                finalResults.put(finalResult.getAgendaId(), response);
+            }
+            results.put(finalResult.getAgendaId(), response);
+        }
         
-        VotingResult result = agenda.getVotingResult();
+        List<UUID> open = agendaIds.stream().filter(agendaId -> !results.containsKey(agendaId)).toList();
+        if (open.isEmpty()) {
+            return results;
+        }
+        requireAgendasExist(open);
+        Map<UUID, VotingResult> tallies = voteRepository.tallyByAgendaIds(open);
+        for (UUID agendaId : open) {
+            results.put(agendaId, mapToResponse(tallies.getOrDefault(agendaId, new VotingResult(0, 0, 0))));
+        }
+        return results;
+    }
+    
+    /**
+     * Closes a single session whose end time has passed with one targeted update.
+     *
+     * @return {@code true} if the session was open and is now closed
+     */
+    @CacheEvict(value = "agendas", key = "#agendaId")
+    public boolean closeExpiredVotingSession(UUID agendaId) {
+        boolean closed = agendaRepository.closeIfExpired(agendaId, LocalDateTime.now());
+        if (closed) {
+            finalizeResult(agendaId);
+        }
+        return closed;
+    }
+    
+    /**
+     * Closes every expired session with a single bulk update, finalizes their
+     * results together and evicts exactly the affected agendas from the cache.
+     *
+     * @return ids of the agendas that were closed
+     */
+    public List<UUID> closeExpiredVotingSessions() {
+        List<UUID> closed = agendaRepository.closeExpiredSessions(LocalDateTime.now());
+        if (closed.isEmpty()) {
+            return closed;
+        }
+        finalizeResults(closed);
+        Cache agendas = cacheManager.getCache("agendas");
+        if (agendas != null) {
+            closed.forEach(agendas::evict);
+        }
+        return closed;
+    }
+    
+    /**
+     * Recomputes and stores the final result of a closed agenda from its votes.
+     * Repairs snapshots that are missing or out of date.
+     *
+     * @throws IllegalStateException if the agenda's voting session has not closed
+     */
+    @CacheEvict(value = "agendas", key = "#agendaId")
+    public VotingResultResponse recomputeFinalResult(UUID agendaId) {
+        Agenda agenda = findAgenda(agendaId);
+        if (agenda.getStatus() != VotingSessionStatus.CLOSED || agenda.getSessionEndTime() == null) {
+            throw new IllegalStateException("Voting session has not closed for this agenda");
+        }
+        return finalizeResult(agendaId);
+    }
+    
+    /**
+     * Tallies the votes once, stores the result and marks the agenda as final.
+     *
+     * Design Decision: Finalization runs in the closing transaction, after the
+     * update that closed the session. Votes close to the session's end check it
+     * while holding a lock on the agenda's row that conflicts with that update,
+     * so every vote that saw the session open has committed before the tally
+     * reads the votes, and every later one sees it closed.
+     */
+    private VotingResultResponse finalizeResult(UUID agendaId) {
+        VotingResult result = voteRepository.tallyByAgendaId(agendaId);
+        LocalDateTime now = LocalDateTime.now();
+        agendaResultRepository.save(AgendaResult.of(agendaId, result, now));
+        agendaRepository.markFinalized(agendaId, now);
+        
+        Cache finalResults = cacheManager.getCache(FINAL_RESULTS_CACHE);
+        if (finalResults != null) {
+            finalResults.evict(agendaId);
+        }
+        votingResultCache.markFinalized(agendaId);
+        return mapToResponse(result);
+    }
+    
+    /**
+     * Like {@link #finalizeResult} for several agendas: one grouped tally,
+     * batched inserts of the results and one update marking them final.
+     */
+    private void finalizeResults(List<UUID> agendaIds) {
+        Map<UUID, VotingResult> tallies = voteRepository.tallyByAgendaIds(agendaIds);
+        LocalDateTime now = LocalDateTime.now();
+        agendaResultRepository.saveAll(agendaIds.stream()
+                .map(agendaId -> AgendaResult.of(agendaId,
+                        tallies.getOrDefault(agendaId, new VotingResult(0, 0, 0)), now))
+                .toList());
+        agendaRepository.markFinalized(agendaIds, now);
+        
+        Cache finalResults = cacheManager.getCache(FINAL_RESULTS_CACHE);
+        for (UUID agendaId : agendaIds) {
+            if (finalResults != null) {
+                finalResults.evict(agendaId);
+            }
+            votingResultCache.markFinalized(agendaId);
+        }
+    }
+    
+    /**
+     * Loads the agenda, short-circuiting ids already known to be missing.
+     */
+    private Agenda findAgenda(UUID agendaId) {
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)) {
+            throw new UnknownEntityException(AGENDA_NOT_FOUND_WITH_ID + agendaId);
+        }
+        Optional<Agenda> agenda = agendaRepository.findById(agendaId);
+        if (agenda.isEmpty()) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+            throw new UnknownEntityException(AGENDA_NOT_FOUND_WITH_ID + agendaId);
+        }
+        return agenda.get();
+    }
+    
+    private void requireAgendaExists(UUID agendaId) {
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)
+                || !agendaRepository.existsById(agendaId)) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+            throw new UnknownEntityException(AGENDA_NOT_FOUND_WITH_ID + " " + agendaId);
+        }
+    }
+    
+    private void requireAgendasExist(List<UUID> agendaIds) {
+        Set<UUID> existing = new HashSet<>(agendaRepository.findExistingIds(agendaIds));
+        List<UUID> missing = agendaIds.stream().filter(agendaId -> !existing.contains(agendaId)).toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(agendaId -> negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId));
+            throw new UnknownEntityException("Agendas not found with ids: " + missing);
+        }
+    }
+    
+    private VotingResultResponse mapToResponse(VotingResult result) {
         return new VotingResultResponse(
                 result.getYesVotes(),
                 result.getNoVotes(),
@@ -79,16 +471,6 @@ public class AgendaService {
         );
     }
     
-    public void closeExpiredVotingSessions() {
-        List<Agenda> openAgendas = agendaRepository.findByStatus(VotingSessionStatus.OPEN);
-        openAgendas.stream()
-                .filter(agenda -> !agenda.isVotingOpen())
-                .forEach(agenda -> {
-                    agenda.closeVotingSession();
-                    agendaRepository.save(agenda);
-                });
-    }
-    
     private AgendaResponse mapToResponse(Agenda agenda) {
         return new AgendaResponse(
                 agenda.getId(),
@@ -98,7 +480,8 @@ public class AgendaService {
                 agenda.getStatus(),
                 agenda.getSessionStartTime(),
                 agenda.getSessionEndTime(),
-                agenda.isVotingOpen()
+                agenda.isVotingOpen(),
+                agenda.getFinalizedAt()
         );
     }
 }
\ No newline at end of file
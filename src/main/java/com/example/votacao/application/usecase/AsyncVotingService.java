@@ -0,0 +1,213 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.dto.CreateVoteRequest;
+import com.example.votacao.application.dto.VoteReceiptResponse;
+import com.example.votacao.domain.model.VoteReceiptStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service for accepting single votes asynchronously.
+ *
+ * Votes are validated cheaply on the request thread, placed on a bounded
+ * queue and applied by a small pool of worker threads through
+ * {@link VotingService#vote}. Callers get a receipt immediately and can:
+ * - Poll the receipt until it is ACCEPTED or REJECTED
+ * - Use the receipt id as a read-your-writes token on the result endpoint
+ *
+ * Design Decision: Receipts live in memory only. They are short-lived
+ * tracking handles, not a durable outbox; a vote still pending when the
+ * application stops is lost and its receipt will be unknown after restart.
+ */
+@Service
+@Slf4j
+public class AsyncVotingService {
+
+    private static final String QUEUE_FULL_REASON = "Vote queue is full, retry later";
+
+    private final VotingService votingService;
+    private final BlockingQueue<VoteReceipt> queue;
+    private final Map<UUID, VoteReceipt> receipts = new ConcurrentHashMap<>();
+    private final int workerCount;
+    private final Duration receiptRetention;
+    private final Duration consistencyTimeout;
+
+    private volatile boolean running;
+    private Thread[] workers;
+
+    public AsyncVotingService(VotingService votingService,
+                              @Value("${voting.async.queue-capacity:10000}") int queueCapacity,
+                              @Value("${voting.async.workers:4}") int workerCount,
+                              @Value("${voting.async.receipt-retention:10m}") Duration receiptRetention,
+                              @Value("${voting.async.consistency-timeout:5s}") Duration consistencyTimeout) {
+        this.votingService = votingService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.receiptRetention = receiptRetention;
+        this.consistencyTimeout = consistencyTimeout;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(this::drainQueue, "async-vote-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Stopping with {} async votes still pending", queue.size());
+        }
+    }
+
+    /**
+     * Validates the request shape and enqueues the vote.
+     *
+     * @param agendaId the agenda to vote on
+     * @param request the vote request containing member and vote type
+     * @return a PENDING receipt, or a REJECTED one if the queue is full
+     * @throws IllegalArgumentException if the request is malformed
+     */
+    public VoteReceiptResponse submit(UUID agendaId, CreateVoteRequest request) {
+        // resolves a legacy vote value now, so a missing or unknown one is rejected before queueing
+        request.setVoteType(request.getVoteType());
+        if (request.getMemberId() == null
+                && (request.getMemberCpf() == null || request.getMemberCpf().isBlank())) {
+            throw new IllegalArgumentException("Either memberId or memberCpf must be provided");
+        }
+
+        VoteReceipt receipt = new VoteReceipt(UUID.randomUUID(), agendaId, request);
+        receipts.put(receipt.id, receipt);
+        if (!queue.offer(receipt)) {
+            receipts.remove(receipt.id);
+            receipt.complete(VoteReceiptStatus.REJECTED, QUEUE_FULL_REASON);
+        }
+        return receipt.toResponse();
+    }
+
+    /**
+     * Returns the current state of a receipt issued for the given agenda.
+     */
+    public Optional<VoteReceiptResponse> getReceipt(UUID agendaId, UUID receiptId) {
+        VoteReceipt receipt = receipts.get(receiptId);
+        if (receipt == null || !receipt.agendaId.equals(agendaId)) {
+            return Optional.empty();
+        }
+        return Optional.of(receipt.toResponse());
+    }
+
+    /**
+     * Blocks until the receipt leaves PENDING, so a subsequent read observes the vote.
+     *
+     * @param agendaId the agenda the receipt was issued for
+     * @param receiptId the receipt used as consistency token
+     * @throws IllegalArgumentException if the receipt is unknown for this agenda
+     * @throws IllegalStateException if the vote is still pending after the consistency timeout
+     */
+    public void awaitCompletion(UUID agendaId, UUID receiptId) {
+        VoteReceipt receipt = receipts.get(receiptId);
+        if (receipt == null || !receipt.agendaId.equals(agendaId)) {
+            throw new IllegalArgumentException("Unknown consistency token: " + receiptId);
+        }
+        try {
+            receipt.completion.get(consistencyTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Vote " + receiptId + " is still pending");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for vote " + receiptId);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Vote " + receiptId + " failed", e.getCause());
+        }
+    }
+
+    /**
+     * Drops completed receipts older than the configured retention.
+     */
+    @Scheduled(fixedDelayString = "${voting.async.purge-interval:60000}")
+    public void purgeExpiredReceipts() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(receiptRetention);
+        receipts.values().removeIf(receipt -> receipt.completedAt != null
+                && receipt.completedAt.isBefore(cutoff));
+    }
+
+    private void drainQueue() {
+        while (running) {
+            VoteReceipt receipt;
+            try {
+                receipt = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            process(receipt);
+        }
+    }
+
+    private void process(VoteReceipt receipt) {
+        try {
+            votingService.vote(receipt.agendaId, receipt.request);
+            receipt.complete(VoteReceiptStatus.ACCEPTED, null);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.debug("Async vote {} rejected: {}", receipt.id, e.getMessage());
+            receipt.complete(VoteReceiptStatus.REJECTED, e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error processing async vote {}", receipt.id, e);
+            receipt.complete(VoteReceiptStatus.REJECTED, "Unexpected error processing vote");
+        }
+    }
+
+    private static final class VoteReceipt {
+        private final UUID id;
+        private final UUID agendaId;
+        private final CreateVoteRequest request;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private volatile VoteReceiptStatus status = VoteReceiptStatus.PENDING;
+        private volatile String reason;
+        private volatile LocalDateTime completedAt;
+
+        private VoteReceipt(UUID id, UUID agendaId, CreateVoteRequest request) {
+            this.id = id;
+            this.agendaId = agendaId;
+            this.request = request;
+        }
+
+        private void complete(VoteReceiptStatus status, String reason) {
+            this.reason = reason;
+            this.completedAt = LocalDateTime.now();
+            this.status = status;
+            completion.complete(null);
+        }
+
+        private VoteReceiptResponse toResponse() {
+            return new VoteReceiptResponse(id, agendaId, status, reason, submittedAt, completedAt);
+        }
+    }
+}
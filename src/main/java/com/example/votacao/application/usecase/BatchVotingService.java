@@ -1,7 +1,10 @@
 package com.example.votacao.application.usecase;
 
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.application.cache.VotingResultCache;
 import com.example.votacao.application.dto.BatchVotingRequest;
 import com.example.votacao.application.dto.BatchVotingResponse;
+import com.example.votacao.domain.exception.UnknownEntityException;
 import com.example.votacao.domain.model.Agenda;
 import com.example.votacao.domain.model.Vote;
 import com.example.votacao.domain.repository.AgendaRepository;
@@ -37,6 +40,8 @@ public class BatchVotingService {
     
     private final AgendaRepository agendaRepository;
     private final VoteRepository voteRepository;
+    private final VotingResultCache votingResultCache;
+    private final NegativeLookupCache negativeLookupCache;
     
     /**
      * Processes a batch of votes for a specific agenda.
@@ -47,7 +52,7 @@ public class BatchVotingService {
      * @throws IllegalStateException if voting session is not open
      */
     @Transactional
-    @CacheEvict(value = {"voting-results", "agendas"}, key = "#request.agendaId")
+    @CacheEvict(value = "votes", key = "#request.agendaId")
     public BatchVotingResponse processBatchVotes(BatchVotingRequest request) {
         long startTime = System.currentTimeMillis();
         
@@ -79,6 +84,7 @@ public class BatchVotingService {
         // 4. Save all valid votes in a single transaction
         if (!validVotes.isEmpty()) {
             voteRepository.saveAll(validVotes);
+            votingResultCache.markChanged(agenda.getId());
             log.info("Successfully saved {} votes", validVotes.size());
         }
         
@@ -97,11 +103,18 @@ public class BatchVotingService {
     }
     
     /**
-     * Finds and validates the agenda for voting.
+     * Finds and validates the agenda for voting; near the session's end it is
+     * locked against closing until the votes commit.
      */
     private Agenda findAndValidateAgenda(UUID agendaId) {
-        Agenda agenda = agendaRepository.findById(agendaId)
-                .orElseThrow(() -> new IllegalArgumentException("Agenda not found: " + agendaId));
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)) {
+            throw new UnknownEntityException("Agenda not found: " + agendaId);
+        }
+        Agenda agenda = agendaRepository.findByIdForVoting(agendaId)
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+                    return new UnknownEntityException("Agenda not found: " + agendaId);
+                });
         
         if (!agenda.isVotingOpen()) {
             throw new IllegalStateException("Voting session is not open for agenda: " + agendaId);
@@ -0,0 +1,65 @@
+package com.example.votacao.application.usecase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page: its sort key and id as the tie
+ * breaker. Handed to clients as an opaque URL-safe token so the encoding can
+ * change without breaking them.
+ */
+record KeysetCursor(String key, UUID id) {
+
+    static final int MAX_LIMIT = 1_000;
+
+    private static final int UUID_LENGTH = 36;
+    private static final char SEPARATOR = '|';
+
+    KeysetCursor(LocalDateTime key, UUID id) {
+        this(key.toString(), id);
+    }
+
+    String encode() {
+        // the fixed-length id goes first, so the key may contain any character
+        String position = id.toString() + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key is not a timestamp
+     */
+    LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * @return the decoded cursor, or null for a missing token (first page)
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    static KeysetCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        if (position.length() <= UUID_LENGTH || position.charAt(UUID_LENGTH) != SEPARATOR) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new KeysetCursor(position.substring(UUID_LENGTH + 1), UUID.fromString(position.substring(0, UUID_LENGTH)));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the page size is out of range
+     */
+    static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
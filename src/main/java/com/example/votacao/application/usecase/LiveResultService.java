@@ -0,0 +1,409 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.cache.VotingResultCache;
+import com.example.votacao.application.dto.VotingResultResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes voting result updates to live subscribers, e.g. dashboards over SSE.
+ *
+ * Each agenda with subscribers has one feed. Once per {@code voting.live-results.interval}
+ * the feed compares the agenda's result version with the last one it published;
+ * if votes arrived it reads the result once and offers it to every subscriber,
+ * so any number of votes within an interval become a single event. When the
+ * session is over, the final result is sent and the subscriptions complete.
+ * Quiet feeds send a heartbeat every {@code voting.live-results.heartbeat}
+ * so dead connections are noticed.
+ *
+ * Every subscriber has a buffer of {@code voting.live-results.buffer-size}
+ * events, drained by a small sender pool. A subscriber that reads slower than
+ * results change loses the oldest buffered states rather than holding up the
+ * feed or the other subscribers; it always ends up with the latest one.
+ * A subscriber whose send takes longer than {@code voting.live-results.send-timeout}
+ * is dropped and its stream completed.
+ *
+ * Design Decision: Sink writes block (an SSE write waits for the client's
+ * socket, and the emitter holds its lock meanwhile), so they run on writer
+ * threads and a sender waits for each one at most the send timeout. A stalled
+ * client then costs one writer thread until its connection times out, not one
+ * of the senders every other subscriber depends on. Completing the sink needs
+ * the same lock, so the abandoned write completes it once it returns; the
+ * request is then released at the connection's write timeout, not the much
+ * longer stream timeout. Beyond one write per sender, at most
+ * {@code voting.live-results.max-stalled-writes} abandoned writes hold a
+ * thread; a write refused for lack of one counts as stalled as well.
+ *
+ * Design Decision: Feeds read the result through the versioned results cache
+ * at the current version, so the tally is computed once per change however
+ * many viewers there are, and polling readers get the fresh entry as well.
+ */
+@Service
+@Slf4j
+public class LiveResultService {
+
+    /**
+     * Delivers events to one subscriber. Calls for one subscriber never overlap.
+     */
+    public interface ResultSink {
+
+        void send(long version, VotingResultResponse result) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void complete();
+    }
+
+    private final AgendaService agendaService;
+    private final VotingResultCache votingResultCache;
+    private final long intervalNanos;
+    private final long heartbeatNanos;
+    private final long sendTimeoutNanos;
+    private final int bufferSize;
+    private final ConcurrentMap<UUID, Feed> feeds = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService senders;
+    private final ExecutorService writers;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+
+    public LiveResultService(AgendaService agendaService,
+                             VotingResultCache votingResultCache,
+                             @Value("${voting.live-results.interval:1s}") Duration interval,
+                             @Value("${voting.live-results.heartbeat:15s}") Duration heartbeat,
+                             @Value("${voting.live-results.send-timeout:5s}") Duration sendTimeout,
+                             @Value("${voting.live-results.buffer-size:4}") int bufferSize,
+                             @Value("${voting.live-results.sender-threads:4}") int senderThreads,
+                             @Value("${voting.live-results.max-stalled-writes:64}") int maxStalledWrites) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("buffer-size must be positive");
+        }
+        this.agendaService = agendaService;
+        this.votingResultCache = votingResultCache;
+        this.intervalNanos = interval.toNanos();
+        this.heartbeatNanos = heartbeat.toNanos();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.bufferSize = bufferSize;
+        this.ticker = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "live-results-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "live-results-sender-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // at most one write per sender in progress, plus the abandoned ones of stalled clients
+        AtomicInteger writerCount = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(0, senderThreads + maxStalledWrites, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "live-results-writer-" + writerCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+        senders.shutdownNow();
+        writers.shutdownNow();
+        feeds.values().forEach(feed -> feed.subscribers.forEach(Subscriber::complete));
+    }
+
+    /**
+     * Subscribes to the agenda's results. The current result is sent right
+     * away; for an agenda whose session is over it is also the last event.
+     *
+     * @return a handle to cancel the subscription, e.g. when the client disconnects
+     * @throws com.example.votacao.domain.exception.UnknownEntityException if the agenda does not exist
+     */
+    public Subscription subscribe(UUID agendaId, ResultSink sink) {
+        boolean open = agendaService.getAgenda(agendaId).isVotingOpen();
+        Subscriber subscriber = new Subscriber(sink);
+        long version = votingResultCache.currentVersion(agendaId);
+        VotingResultResponse result = agendaService.getLatestVotingResult(agendaId);
+        subscriber.offer(Event.result(version, result));
+        if (!open) {
+            subscriber.offer(Event.COMPLETE);
+            return subscriber;
+        }
+        subscriber.feed = agendaId;
+        Feed joined = feeds.compute(agendaId, (id, feed) -> {
+            Feed current = feed != null ? feed : new Feed(id, version);
+            current.subscribers.add(subscriber);
+            return current;
+        });
+        // a first send that already failed could not remove the subscriber before it joined
+        if (subscriber.isClosed()) {
+            joined.subscribers.remove(subscriber);
+            return subscriber;
+        }
+        // the feed may have published a newer result between reading ours and joining
+        if (joined.publishedVersion > version) {
+            long current = votingResultCache.currentVersion(agendaId);
+            subscriber.offer(Event.result(current, agendaService.getLatestVotingResult(agendaId)));
+        }
+        return subscriber;
+    }
+
+    public int subscriberCount() {
+        return feeds.values().stream().mapToInt(feed -> feed.subscribers.size()).sum();
+    }
+
+    public long sentCount() {
+        return sent.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long stalledCount() {
+        return stalled.sum();
+    }
+
+    /**
+     * Publishes the agenda's result to its subscribers if it changed since the
+     * last event, or a heartbeat if the feed has been quiet for too long, and
+     * completes the subscriptions once the session is over. Runs every interval.
+     */
+    void publish(UUID agendaId) {
+        Feed feed = feeds.get(agendaId);
+        if (feed == null) {
+            return;
+        }
+        if (feed.subscribers.isEmpty()) {
+            stopIfIdle(feed);
+            return;
+        }
+        try {
+            // read before the version, so the result published on closing is the final one
+            boolean open = agendaService.getAgenda(agendaId).isVotingOpen();
+            long version = votingResultCache.currentVersion(agendaId);
+            if (version != feed.publishedVersion) {
+                VotingResultResponse result = agendaService.getLatestVotingResult(agendaId);
+                feed.publishedVersion = version;
+                feed.broadcast(Event.result(version, result));
+            } else if (open && System.nanoTime() - feed.lastEventNanos >= heartbeatNanos) {
+                feed.broadcast(Event.HEARTBEAT);
+            }
+            if (!open) {
+                feeds.remove(agendaId, feed);
+                feed.stop();
+                feed.broadcast(Event.COMPLETE);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish live result of agenda {}", agendaId, e);
+        }
+    }
+
+    private void stopIfIdle(Feed feed) {
+        // only remove it if nobody subscribed in the meantime
+        if (feeds.computeIfPresent(feed.agendaId, (id, current) ->
+                current == feed && feed.subscribers.isEmpty() ? null : current) == null) {
+            feed.stop();
+        }
+    }
+
+    public interface Subscription {
+
+        void cancel();
+    }
+
+    private record Event(long version, VotingResultResponse result, boolean heartbeat) {
+
+        static final Event HEARTBEAT = new Event(0, null, true);
+        static final Event COMPLETE = new Event(0, null, false);
+
+        static Event result(long version, VotingResultResponse result) {
+            return new Event(version, result, false);
+        }
+    }
+
+    private final class Feed {
+
+        final UUID agendaId;
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final ScheduledFuture<?> task;
+        // written by the ticker thread only, read by joining subscribers
+        volatile long publishedVersion;
+        long lastEventNanos = System.nanoTime();
+
+        Feed(UUID agendaId, long publishedVersion) {
+            this.agendaId = agendaId;
+            this.publishedVersion = publishedVersion;
+            this.task = ticker.scheduleAtFixedRate(() -> publish(agendaId), intervalNanos, intervalNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+
+        void broadcast(Event event) {
+            lastEventNanos = System.nanoTime();
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+        }
+
+        void stop() {
+            task.cancel(false);
+        }
+    }
+
+    private final class Subscriber implements Subscription {
+
+        private final ResultSink sink;
+        private final Deque<Event> buffer = new ArrayDeque<>(bufferSize);
+        private boolean draining;
+        private boolean closed;
+        private volatile UUID feed;
+
+        Subscriber(ResultSink sink) {
+            this.sink = sink;
+        }
+
+        void offer(Event event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() == bufferSize) {
+                    buffer.pollFirst();
+                    dropped.increment();
+                }
+                buffer.addLast(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            senders.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                Event event;
+                synchronized (this) {
+                    event = buffer.pollFirst();
+                    if (event == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                if (event == Event.COMPLETE) {
+                    complete();
+                    return;
+                }
+                if (!write(event)) {
+                    cancel();
+                    return;
+                }
+            }
+        }
+
+        private boolean write(Event event) {
+            // whichever of the write and a sender giving up on it comes second ends the stream
+            AtomicBoolean settled = new AtomicBoolean();
+            Future<?> write;
+            try {
+                write = writers.submit(() -> {
+                    try {
+                        if (event.heartbeat()) {
+                            sink.heartbeat();
+                        } else {
+                            sink.send(event.version(), event.result());
+                        }
+                    } finally {
+                        if (!settled.compareAndSet(false, true)) {
+                            sink.complete();
+                        }
+                    }
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                stalled.increment();
+                log.debug("Dropping live result subscriber: too many stalled writes");
+                sink.complete();
+                return false;
+            }
+            try {
+                write.get(sendTimeoutNanos, TimeUnit.NANOSECONDS);
+                if (!event.heartbeat()) {
+                    sent.increment();
+                }
+                return true;
+            } catch (TimeoutException e) {
+                // interrupting does not unblock a socket write; the write keeps its
+                // thread until the connection times out and then completes the sink
+                stalled.increment();
+                if (!settled.compareAndSet(false, true)) {
+                    sink.complete();
+                }
+                log.debug("Dropping live result subscriber whose send exceeded {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                return false;
+            } catch (ExecutionException e) {
+                // the client went away; the sink's own callbacks cancel as well
+                log.debug("Dropping live result subscriber: {}", e.getCause().getMessage());
+                return false;
+            } catch (InterruptedException e) {
+                write.cancel(true);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void complete() {
+            cancel();
+            sink.complete();
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                closed = true;
+                buffer.clear();
+            }
+            UUID agendaId = feed;
+            if (agendaId != null) {
+                Feed current = feeds.get(agendaId);
+                if (current != null) {
+                    current.subscribers.remove(this);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.domain.event.MembersCreatedEvent;
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.MemberSummary;
+import com.example.votacao.domain.repository.MemberRepository;
+import com.example.votacao.domain.service.CpfValidationService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Streaming member import from CSV ({@code cpf,name}) or NDJSON
+ * ({@code {"cpf":...,"name":...}}).
+ *
+ * The input flows through a three-stage pipeline:
+ * - read: lines are grouped into chunks of {@code voting.member-import.chunk-size}
+ * - validate (parallel): each chunk is parsed, checked for format, check digits,
+ *   existing members and CPF eligibility on a bounded pool
+ * - write (in file order): duplicates within the file are dropped, the rest is
+ *   inserted as one batch per chunk, and per-row errors are streamed back as NDJSON
+ * The output ends with a summary line reporting rows/sec.
+ *
+ * Design Decision: Uniqueness is checked against a set of packed CPFs loaded
+ * once per import instead of one {@code existsByCpf} query per row; the unique
+ * index still guards against members created concurrently, in which case the
+ * chunk is retried row by row.
+ */
+@Service
+@Slf4j
+public class MemberImportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    public enum RowError {
+        MALFORMED_ROW,
+        INVALID_CPF,
+        INVALID_NAME,
+        ALREADY_EXISTS,
+        DUPLICATE_IN_FILE,
+        CPF_REJECTED,
+        INSERT_FAILED
+    }
+
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final MemberRepository memberRepository;
+    private final CpfValidationService cpfValidationService;
+    private final NegativeLookupCache negativeLookupCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final ExecutorService validationExecutor;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               CpfValidationService cpfValidationService,
+                               NegativeLookupCache negativeLookupCache,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper,
+                               @Value("${voting.member-import.chunk-size:1000}") int chunkSize,
+                               @Value("${voting.member-import.validation-threads:8}") int validationThreads) {
+        this.memberRepository = memberRepository;
+        this.cpfValidationService = cpfValidationService;
+        this.negativeLookupCache = negativeLookupCache;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = validationThreads * 2;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.validationExecutor = new ThreadPoolExecutor(validationThreads, validationThreads, 0L,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "member-import-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
+    /**
+     * Imports members, writing one NDJSON line per rejected row and a final summary line.
+     */
+    public Summary importMembers(InputStream in, Format format, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        PackedCpfSet existing = loadExistingCpfs();
+        PackedCpfSet seen = new PackedCpfSet(chunkSize);
+        Progress progress = new Progress();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+
+            Deque<CompletableFuture<List<Row>>> inFlight = new ArrayDeque<>();
+            try {
+                List<Row> chunk = new ArrayList<>(chunkSize);
+                long rowNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    rowNumber++;
+                    if (line.isBlank() || rowNumber == 1 && format == Format.CSV && isHeader(line)) {
+                        continue;
+                    }
+                    chunk.add(new Row(rowNumber, line));
+                    if (chunk.size() == chunkSize) {
+                        inFlight.add(validate(chunk, format, existing));
+                        chunk = new ArrayList<>(chunkSize);
+                        if (inFlight.size() >= maxChunksInFlight) {
+                            write(inFlight.poll().join(), seen, progress, json);
+                        }
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    inFlight.add(validate(chunk, format, existing));
+                }
+                while (!inFlight.isEmpty()) {
+                    write(inFlight.poll().join(), seen, progress, json);
+                }
+
+                long elapsedNanos = System.nanoTime() - startNanos;
+                Summary summary = new Summary(progress.rows, progress.imported, progress.rows - progress.imported,
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        elapsedNanos == 0 ? 0 : Math.round(progress.rows * 1e9 / elapsedNanos));
+                json.writeStartObject();
+                json.writeObjectField("summary", summary);
+                json.writeEndObject();
+                json.writeRaw('\n');
+                log.info("Member import: {} rows, {} imported, {} failed in {} ms ({} rows/s)",
+                        summary.rows(), summary.imported(), summary.failed(), summary.elapsedMillis(),
+                        summary.rowsPerSecond());
+                return summary;
+            } finally {
+                // a no-op after success; after a failed write, e.g. a disconnected client, queued
+                // chunks are never validated (cancelling does not interrupt running ones)
+                inFlight.forEach(validation -> validation.cancel(true));
+            }
+        }
+    }
+
+    private PackedCpfSet loadExistingCpfs() {
+        return transactionTemplate.execute(status -> {
+            PackedCpfSet cpfs = new PackedCpfSet(chunkSize);
+            try (Stream<Long> stream = memberRepository.streamAllCpfs()) {
+                stream.forEach(cpfs::add);
+            }
+            return cpfs;
+        });
+    }
+
+    private CompletableFuture<List<Row>> validate(List<Row> chunk, Format format, PackedCpfSet existing) {
+        // existing is only read once loaded, so validation threads can share it
+        return CompletableFuture.supplyAsync(() -> {
+            for (Row row : chunk) {
+                validate(row, format, existing);
+            }
+            return chunk;
+        }, validationExecutor);
+    }
+
+    private void validate(Row row, Format format, PackedCpfSet existing) {
+        if (!(format == Format.CSV ? parseCsv(row) : parseNdjson(row))) {
+            row.reject(RowError.MALFORMED_ROW, "Expected " + (format == Format.CSV
+                    ? "cpf,name" : "{\"cpf\":...,\"name\":...}"));
+            return;
+        }
+        row.packed = Cpf.parse(row.cpf);
+        if (row.packed == Cpf.INVALID) {
+            row.reject(RowError.INVALID_CPF, "CPF is not valid");
+        } else if (row.name == null || row.name.isBlank() || row.name.length() > MAX_NAME_LENGTH) {
+            row.reject(RowError.INVALID_NAME, "Name is required and must not exceed " + MAX_NAME_LENGTH + " characters");
+        } else if (existing.contains(row.packed)) {
+            row.reject(RowError.ALREADY_EXISTS, "Member with this CPF already exists");
+        } else {
+            try {
+                cpfValidationService.validateCpf(Cpf.toDigits(row.packed));
+            } catch (RuntimeException e) {
+                row.reject(RowError.CPF_REJECTED, e.getMessage());
+            }
+        }
+    }
+
+    private void write(List<Row> chunk, PackedCpfSet seen, Progress progress, JsonGenerator json) throws IOException {
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (row.error == null && !seen.add(row.packed)) {
+                row.reject(RowError.DUPLICATE_IN_FILE, "CPF appears earlier in the file");
+            }
+            if (row.error == null) {
+                accepted.add(row);
+            }
+        }
+        if (!accepted.isEmpty()) {
+            insert(accepted);
+        }
+        for (Row row : chunk) {
+            progress.rows++;
+            if (row.error == null) {
+                progress.imported++;
+                continue;
+            }
+            json.writeStartObject();
+            json.writeNumberField("row", row.number);
+            json.writeStringField("cpf", row.cpf);
+            json.writeStringField("error", row.error.name());
+            json.writeStringField("message", row.message);
+            json.writeEndObject();
+        }
+        json.flush();
+    }
+
+    private void insert(List<Row> rows) {
+        try {
+            insertInTransaction(rows);
+        } catch (DataAccessException e) {
+            // someone else created one of these members meanwhile: find out which, row by row
+            log.debug("Chunk insert failed, retrying {} rows individually: {}", rows.size(), e.getMessage());
+            for (Row row : rows) {
+                try {
+                    insertInTransaction(List.of(row));
+                } catch (DataAccessException rowFailure) {
+                    row.reject(RowError.INSERT_FAILED, "Could not insert member; the CPF may already exist");
+                }
+            }
+        }
+    }
+
+    private void insertInTransaction(List<Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Member> members = new ArrayList<>(rows.size());
+            List<MemberSummary> created = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                Member member = new Member(row.packed, row.name.trim());
+                negativeLookupCache.forget(NegativeLookupCache.Kind.MEMBER, member.getId());
+                negativeLookupCache.forget(NegativeLookupCache.Kind.MEMBER_CPF, row.packed);
+                members.add(member);
+                created.add(MemberService.toSummary(member));
+            }
+            memberRepository.insertAll(members);
+            eventPublisher.publishEvent(new MembersCreatedEvent(created));
+        });
+    }
+
+    private boolean parseCsv(Row row) {
+        int comma = row.line.indexOf(',');
+        if (comma < 0) {
+            return false;
+        }
+        row.cpf = unquote(row.line.substring(0, comma).trim());
+        row.name = unquote(row.line.substring(comma + 1).trim());
+        return true;
+    }
+
+    private boolean parseNdjson(Row row) {
+        try {
+            JsonNode node = objectMapper.readTree(row.line);
+            if (node == null || !node.hasNonNull("cpf")) {
+                return false;
+            }
+            row.cpf = node.get("cpf").asText();
+            row.name = node.hasNonNull("name") ? node.get("name").asText() : null;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String unquote(String field) {
+        if (field.length() >= 2 && field.charAt(0) == '"' && field.charAt(field.length() - 1) == '"') {
+            return field.substring(1, field.length() - 1).replace("\"\"", "\"");
+        }
+        return field;
+    }
+
+    private static boolean isHeader(String line) {
+        return line.regionMatches(true, 0, "cpf", 0, 3) || line.regionMatches(true, 0, "\"cpf", 0, 4);
+    }
+
+    public record Summary(long rows, long imported, long failed, long elapsedMillis, long rowsPerSecond) {
+    }
+
+    private static final class Row {
+
+        final long number;
+        final String line;
+        String cpf;
+        String name;
+        long packed = Cpf.INVALID;
+        RowError error;
+        String message;
+
+        Row(long number, String line) {
+            this.number = number;
+            this.line = line;
+        }
+
+        void reject(RowError error, String message) {
+            this.error = error;
+            this.message = message;
+        }
+    }
+
+    private static final class Progress {
+        long rows;
+        long imported;
+    }
+}
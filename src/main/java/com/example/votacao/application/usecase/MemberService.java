@@ -1,12 +1,25 @@
 package com.example.votacao.application.usecase;
 
+import com.example.votacao.application.cache.CountEstimateCache;
+import com.example.votacao.application.cache.MemberNameIndex;
+import com.example.votacao.application.cache.NegativeLookupCache;
 import com.example.votacao.application.dto.CreateMemberRequest;
+import com.example.votacao.application.dto.MemberSummaryResponse;
+import com.example.votacao.application.dto.PageResponse;
+import com.example.votacao.domain.event.MembersCreatedEvent;
+import com.example.votacao.domain.exception.UnknownEntityException;
+import com.example.votacao.domain.model.Cpf;
 import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.MemberSummary;
 import com.example.votacao.domain.repository.MemberRepository;
 import com.example.votacao.domain.service.CpfValidationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,33 +31,125 @@ public class MemberService {
     
     private final MemberRepository memberRepository;
     private final CpfValidationService cpfValidationService;
+    private final NegativeLookupCache negativeLookupCache;
+    private final TransactionTemplate transactionTemplate;
+    private final CountEstimateCache countEstimateCache;
+    private final MemberNameIndex memberNameIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
+    /**
+     * Creates a member after checking the CPF with the external service.
+     *
+     * Design Decision: The external check runs before the transaction starts,
+     * so a slow eligibility service never holds a pooled connection; only the
+     * duplicate check and the insert run inside the transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Member createMember(CreateMemberRequest request) {
         // Validate CPF with external service
         cpfValidationService.validateCpf(request.getCpf());
         
-        if (memberRepository.existsByCpf(request.getCpf())) {
-            throw new IllegalArgumentException("Member with CPF " + request.getCpf() + " already exists");
+        long cpf = Cpf.parse(request.getCpf());
+        if (cpf == Cpf.INVALID) {
+            throw new IllegalArgumentException("Invalid CPF: " + request.getCpf());
         }
         
-        Member member = new Member(request.getCpf(), request.getName());
-        return memberRepository.save(member);
+        return transactionTemplate.execute(status -> {
+            if (memberRepository.existsByCpf(cpf)) {
+                throw new IllegalArgumentException("Member with CPF " + request.getCpf() + " already exists");
+            }
+            
+            Member member = new Member(cpf, request.getName());
+            negativeLookupCache.forget(NegativeLookupCache.Kind.MEMBER, member.getId());
+            negativeLookupCache.forget(NegativeLookupCache.Kind.MEMBER_CPF, cpf);
+            Member saved = memberRepository.save(member);
+            eventPublisher.publishEvent(new MembersCreatedEvent(List.of(toSummary(saved))));
+            return saved;
+        });
     }
     
     @Transactional(readOnly = true)
     public Member getMemberById(UUID id) {
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.MEMBER, id)) {
+            throw new UnknownEntityException("Member not found with id: " + id);
+        }
         return memberRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(NegativeLookupCache.Kind.MEMBER, id);
+                    return new UnknownEntityException("Member not found with id: " + id);
+                });
     }
     
+    /**
+     * Looks up a member by CPF through the {@code members} cache, which also
+     * resolves CPF votes and is preloaded at startup. Formatted and unformatted
+     * CPFs share one entry, keyed by the packed CPF.
+     */
     @Transactional(readOnly = true)
+    @Cacheable(value = "members", key = "T(com.example.votacao.domain.model.Cpf).parse(#cpf)", sync = true)
     public Member getMemberByCpf(String cpf) {
-        return memberRepository.findByCpf(cpf)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found with CPF: " + cpf));
+        long packed = Cpf.parse(cpf);
+        if (packed == Cpf.INVALID
+                || negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.MEMBER_CPF, packed)) {
+            throw new UnknownEntityException("Member not found with CPF: " + cpf);
+        }
+        return memberRepository.findByCpf(packed)
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(NegativeLookupCache.Kind.MEMBER_CPF, packed);
+                    return new UnknownEntityException("Member not found with CPF: " + cpf);
+                });
     }
     
     @Transactional(readOnly = true)
     public List<Member> getAllMembers() {
         return memberRepository.findAll();
     }
+    
+    /**
+     * Lists members by name, one keyset page at a time, as lightweight projections.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<MemberSummaryResponse> listMembers(String cursor, int limit) {
+        KeysetCursor.checkLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        List<MemberSummary> members = after == null
+                ? memberRepository.findSummariesByName(null, null, limit + 1)
+                : memberRepository.findSummariesByName(after.key(), after.id(), limit + 1);
+        String nextCursor = null;
+        if (members.size() > limit) {
+            members = members.subList(0, limit);
+            MemberSummary last = members.get(limit - 1);
+            nextCursor = new KeysetCursor(last.name(), last.id()).encode();
+        }
+        List<MemberSummaryResponse> items = members.stream()
+                .map(MemberService::toResponse)
+                .toList();
+        return new PageResponse<>(items, nextCursor, countEstimateCache.get("members", memberRepository::estimateCount));
+    }
+    
+    /**
+     * Typeahead lookup: members whose name starts with the prefix, ignoring
+     * case, accents and repeated spaces, served from the in-memory name index
+     * without touching the database.
+     *
+     * @throws IllegalArgumentException if the limit is out of range or the prefix is blank
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MemberSummaryResponse> searchMembersByName(String prefix, int limit) {
+        return memberNameIndex.search(prefix, limit).stream()
+                .map(MemberService::toResponse)
+                .toList();
+    }
+    
+    static MemberSummary toSummary(Member member) {
+        return new MemberSummary(member.getId(), member.getName(), member.packedCpf());
+    }
+    
+    private static MemberSummaryResponse toResponse(MemberSummary member) {
+        return new MemberSummaryResponse(member.id(), member.name(), Cpf.toDigits(member.cpf()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.domain.exception.UnknownEntityException;
+import com.example.votacao.domain.repository.AgendaRepository;
+import com.example.votacao.domain.repository.VoteRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports every vote of an agenda as CSV or NDJSON for audits.
+ *
+ * Design Decision: Rows go from a forward-only JDBC cursor straight to the
+ * output stream, one at a time, without managed {@code Vote} entities or an
+ * intermediate list, so heap use does not grow with the agenda. The export
+ * holds one pooled connection for as long as the client takes to read it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AgendaRepository agendaRepository;
+    private final VoteRepository voteRepository;
+    private final NegativeLookupCache negativeLookupCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Checks the agenda before the response is committed, so a missing agenda
+     * is still reported as an error status rather than an empty export.
+     *
+     * @throws UnknownEntityException if the agenda does not exist
+     */
+    @Transactional(readOnly = true)
+    public void verifyAgendaExists(UUID agendaId) {
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)
+                || !agendaRepository.existsById(agendaId)) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+            throw new UnknownEntityException("Agenda not found with id: " + agendaId);
+        }
+    }
+
+    /**
+     * Writes the agenda's votes in {@code (votedAt, id)} order.
+     *
+     * @return the number of votes written
+     */
+    @Transactional(readOnly = true)
+    public long export(UUID agendaId, Format format, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        long rows;
+        try {
+            rows = format == Format.CSV ? writeCsv(agendaId, out) : writeNdjson(agendaId, out);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} votes of agenda {} as {} in {} ms", rows, agendaId, format,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return rows;
+    }
+
+    private long writeCsv(UUID agendaId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write("id,member_id,vote_type,voted_at\n");
+        long[] rows = new long[1];
+        voteRepository.forEachVoteOfAgenda(agendaId, (id, memberId, voteType, votedAt) -> {
+            try {
+                writer.write(id.toString());
+                writer.write(',');
+                writer.write(memberId.toString());
+                writer.write(',');
+                writer.write(voteType.name());
+                writer.write(',');
+                writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(votedAt));
+                writer.write('\n');
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows[0];
+    }
+
+    private long writeNdjson(UUID agendaId, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            long[] rows = new long[1];
+            voteRepository.forEachVoteOfAgenda(agendaId, (id, memberId, voteType, votedAt) -> {
+                try {
+                    json.writeStartObject();
+                    json.writeStringField("id", id.toString());
+                    json.writeStringField("memberId", memberId.toString());
+                    json.writeStringField("voteType", voteType.name());
+                    json.writeStringField("votedAt", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(votedAt));
+                    json.writeEndObject();
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (rows[0] > 0) {
+                json.writeRaw('\n');
+            }
+            return rows[0];
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.votacao.application.usecase;
 
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.application.cache.VotingResultCache;
 import com.example.votacao.application.dto.CreateVoteRequest;
+import com.example.votacao.application.dto.VotePageResponse;
 import com.example.votacao.application.dto.VoteResponse;
+import com.example.votacao.domain.exception.UnknownEntityException;
 import com.example.votacao.domain.model.Agenda;
 import com.example.votacao.domain.model.Vote;
 import com.example.votacao.domain.repository.AgendaRepository;
@@ -34,9 +38,14 @@ import java.util.UUID;
 @Slf4j
 public class VotingService {
     
+    public static final int MAX_PAGE_SIZE = KeysetCursor.MAX_LIMIT;
+    
     private final AgendaRepository agendaRepository;
     private final MemberRepository memberRepository;
     private final VoteRepository voteRepository;
+    private final VotingResultCache votingResultCache;
+    private final NegativeLookupCache negativeLookupCache;
+    private final MemberService memberService;
     
     /**
      * Submits a vote for a member on a specific agenda.
@@ -46,20 +55,28 @@ public class VotingService {
      * @throws IllegalArgumentException if member or agenda not found
      * @throws IllegalStateException if voting session is closed or member already voted
      */
-    @CacheEvict(value = {"voting-results", "agendas"}, key = "#agendaId")
+    @CacheEvict(value = "votes", key = "#agendaId")
     public void vote(UUID agendaId, CreateVoteRequest request) {
         // Determine member ID from request
         UUID memberId = resolveMemberId(request);
         log.debug("Processing vote for member {} on agenda {}", memberId, agendaId);
 
         // Validate member exists
-        if (!memberRepository.existsById(memberId)) {
-            throw new IllegalArgumentException("Member not found with id: " + memberId);
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.MEMBER, memberId)
+                || !memberRepository.existsById(memberId)) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.Kind.MEMBER, memberId);
+            throw new UnknownEntityException("Member not found with id: " + memberId);
         }
         
-        // Get agenda
-        Agenda agenda = agendaRepository.findById(agendaId)
-                .orElseThrow(() -> new IllegalArgumentException("Agenda not found with id: " + agendaId));
+        // Get agenda; near the session's end it is locked against closing until the vote commits
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)) {
+            throw new UnknownEntityException("Agenda not found with id: " + agendaId);
+        }
+        Agenda agenda = agendaRepository.findByIdForVoting(agendaId)
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+                    return new UnknownEntityException("Agenda not found with id: " + agendaId);
+                });
         
         // Check if voting session is open
         if (!agenda.isVotingOpen()) {
@@ -74,37 +91,81 @@ public class VotingService {
         // Create and save vote
         Vote vote = new Vote(agenda, memberId, request.getVoteType());
         voteRepository.save(vote);
+        votingResultCache.markChanged(agendaId);
 
         log.info("Vote successfully submitted for member {} on agenda {}", memberId, agendaId);
     }
 
     /**
-     * Retrieves all votes for a specific agenda.
+     * Retrieves all votes for a specific agenda. The whole list is materialized
+     * and cached; large agendas should be read with {@link #getVotesPage}.
      *
      * @param agendaId the agenda to get votes for
      * @return list of votes for the agenda
      * @throws IllegalArgumentException if agenda not found
      */
-    @Cacheable(value = "votes", key = "#agendaId")
+    @Cacheable(value = "votes", key = "#agendaId", sync = true)
     @Transactional(readOnly = true)
     public List<VoteResponse> getVotesByAgenda(UUID agendaId) {
         log.debug("Retrieving votes for agenda {}", agendaId);
 
         // Validate agenda exists
-        if (!agendaRepository.existsById(agendaId)) {
-            throw new IllegalArgumentException("Agenda not found with id: " + agendaId);
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)
+                || !agendaRepository.existsById(agendaId)) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+            throw new UnknownEntityException("Agenda not found with id: " + agendaId);
         }
 
         List<Vote> votes = voteRepository.findByAgendaId(agendaId);
         return votes.stream()
-                .map(vote -> new VoteResponse(
-                        vote.getId(),
-                        vote.getMemberId(),
-                        vote.getVoteType(),
-                        vote.getVotedAt()))
+                .map(VotingService::toResponse)
                 .toList();
     }
 
+    /**
+     * Retrieves one page of votes for an agenda, ordered by {@code (votedAt, id)}.
+     *
+     * Design Decision: Keyset pagination seeks straight to the position after
+     * the cursor on {@code idx_vote_agenda_voted_at_id}, so every page costs
+     * the same however deep it is, unlike an offset. Pages are not cached;
+     * each one is a bounded index range read.
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or null for the first page
+     * @param limit the page size, between 1 and {@value #MAX_PAGE_SIZE}
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public VotePageResponse getVotesPage(UUID agendaId, String cursor, int limit) {
+        KeysetCursor.checkLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)
+                || !agendaRepository.existsById(agendaId)) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+            throw new UnknownEntityException("Agenda not found with id: " + agendaId);
+        }
+
+        // one extra row tells whether another page follows
+        List<Vote> votes = after == null
+                ? voteRepository.findPageByAgendaId(agendaId, null, null, limit + 1)
+                : voteRepository.findPageByAgendaId(agendaId, after.keyAsDateTime(), after.id(), limit + 1);
+        String nextCursor = null;
+        if (votes.size() > limit) {
+            votes = votes.subList(0, limit);
+            Vote last = votes.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getVotedAt(), last.getId()).encode();
+        }
+        return new VotePageResponse(votes.stream().map(VotingService::toResponse).toList(), nextCursor);
+    }
+
+    private static VoteResponse toResponse(Vote vote) {
+        return new VoteResponse(
+                vote.getId(),
+                vote.getMemberId(),
+                vote.getVoteType(),
+                vote.getVotedAt());
+    }
+
     /**
      * Resolves member ID from the request, supporting both direct ID and CPF lookup.
      *
@@ -117,10 +178,9 @@ public class VotingService {
             return request.getMemberId();
         }
 
-        if (request.getMemberCpf() != null && !request.getMemberCpf().trim().isEmpty()) {
-            return memberRepository.findByCpf(request.getMemberCpf())
-                    .map(member -> member.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("Member not found with CPF: " + request.getMemberCpf()));
+        String cpf = request.getMemberCpf();
+        if (cpf != null && !cpf.trim().isEmpty()) {
+            return memberService.getMemberByCpf(cpf).getId();
         }
 
         throw new IllegalArgumentException("Either memberId or memberCpf must be provided");
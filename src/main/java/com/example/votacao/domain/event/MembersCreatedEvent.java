@@ -0,0 +1,11 @@
+package com.example.votacao.domain.event;
+
+import com.example.votacao.domain.model.MemberSummary;
+
+import java.util.List;
+
+/**
+ * Published when members are created, one event per insert transaction.
+ */
+public record MembersCreatedEvent(List<MemberSummary> members) {
+}
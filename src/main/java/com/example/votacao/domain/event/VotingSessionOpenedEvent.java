@@ -0,0 +1,10 @@
+package com.example.votacao.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a voting session is opened, carrying the time it must close.
+ */
+public record VotingSessionOpenedEvent(UUID agendaId, LocalDateTime sessionEndTime) {
+}
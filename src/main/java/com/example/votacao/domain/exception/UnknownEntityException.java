@@ -0,0 +1,21 @@
+package com.example.votacao.domain.exception;
+
+/**
+ * Lightweight "not found" signal for lookups by id or CPF.
+ * 
+ * Extends IllegalArgumentException so existing handlers and callers keep
+ * treating unknown ids as invalid arguments, but skips stack trace capture:
+ * unknown ids are a routine outcome (bad clients, retries) and the trace
+ * would never be logged.
+ */
+public class UnknownEntityException extends IllegalArgumentException {
+    
+    public UnknownEntityException(String message) {
+        super(message);
+    }
+    
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
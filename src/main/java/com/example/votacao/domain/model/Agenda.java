@@ -24,9 +24,10 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "agendas", indexes = {
-    @Index(name = "idx_agenda_status", columnList = "status"),
+    // status and created-at listings page newest first on these, with id as the tie breaker
+    @Index(name = "idx_agenda_status", columnList = "status, createdAt DESC, id DESC"),
     @Index(name = "idx_agenda_session_times", columnList = "sessionStartTime, sessionEndTime"),
-    @Index(name = "idx_agenda_created_at", columnList = "createdAt")
+    @Index(name = "idx_agenda_created_at", columnList = "createdAt DESC, id DESC")
 })
 @Data
 @NoArgsConstructor
@@ -53,6 +54,12 @@ public class Agenda {
     
     private LocalDateTime sessionEndTime;
     
+    /**
+     * Set once the session has closed and its final result is stored;
+     * the agenda never changes afterwards.
+     */
+    private LocalDateTime finalizedAt;
+    
     @OneToMany(mappedBy = "agenda", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Vote> votes = new ArrayList<>();
     
@@ -68,6 +75,9 @@ public class Agenda {
         if (this.status == VotingSessionStatus.OPEN) {
             throw new IllegalStateException("Voting session is already open for this agenda");
         }
+        if (isFinalized()) {
+            throw new IllegalStateException("Voting session has already been finalized for this agenda");
+        }
         
         this.status = VotingSessionStatus.OPEN;
         this.sessionStartTime = LocalDateTime.now();
@@ -83,6 +93,10 @@ public class Agenda {
                LocalDateTime.now().isBefore(sessionEndTime);
     }
     
+    public boolean isFinalized() {
+        return finalizedAt != null;
+    }
+    
     public boolean hasVoted(UUID memberId) {
         return votes.stream()
                 .anyMatch(vote -> vote.getMemberId().equals(memberId));
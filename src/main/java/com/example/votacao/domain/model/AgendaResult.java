@@ -0,0 +1,43 @@
+package com.example.votacao.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Final tally of an agenda whose voting session has closed.
+ *
+ * Written once when the session closes, so reading the result of a closed
+ * agenda is a single-row lookup instead of a count over its votes.
+ */
+@Entity
+@Table(name = "agenda_results")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaResult {
+
+    @Id
+    private UUID agendaId;
+
+    @Column(nullable = false)
+    private long yesVotes;
+
+    @Column(nullable = false)
+    private long noVotes;
+
+    @Column(nullable = false)
+    private LocalDateTime finalizedAt;
+
+    public static AgendaResult of(UUID agendaId, VotingResult result, LocalDateTime finalizedAt) {
+        return new AgendaResult(agendaId, result.getYesVotes(), result.getNoVotes(), finalizedAt);
+    }
+
+    public VotingResult toVotingResult() {
+        return new VotingResult(yesVotes, noVotes, yesVotes + noVotes);
+    }
+}
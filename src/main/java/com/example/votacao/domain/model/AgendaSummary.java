@@ -0,0 +1,17 @@
+package com.example.votacao.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an agenda for listings; carries no description and
+ * is never managed by the persistence context.
+ */
+public record AgendaSummary(UUID id, String title, VotingSessionStatus status, LocalDateTime createdAt,
+                            LocalDateTime sessionEndTime) {
+
+    public boolean isVotingOpen() {
+        return status == VotingSessionStatus.OPEN && sessionEndTime != null
+                && LocalDateTime.now().isBefore(sessionEndTime);
+    }
+}
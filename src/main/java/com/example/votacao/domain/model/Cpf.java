@@ -0,0 +1,224 @@
+package com.example.votacao.domain.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free parsing, validation and formatting of CPF numbers.
+ *
+ * A CPF is handled in its packed form: the 11 digits as a {@code long}
+ * (leading zeros implied), which is cheap to compare, hash and store.
+ * Parsing makes a single pass over the input, ignoring any non-digit
+ * character, and verifies both check digits and the repeated-digit rule
+ * on the way; invalid input yields {@link #INVALID}.
+ *
+ * Design Decision: Static methods over primitives instead of a value object,
+ * so the hot validation path does not allocate at all.
+ */
+public final class Cpf {
+
+    /**
+     * Returned by the parse methods for input that is not a valid CPF.
+     */
+    public static final long INVALID = -1L;
+
+    public static final int DIGITS = 11;
+
+    public static final int FORMATTED_LENGTH = 14;
+
+    private static final String MASKED_UNKNOWN = "***.***.**-**";
+
+    private Cpf() {
+    }
+
+    public static boolean isValid(CharSequence cpf) {
+        return parse(cpf) != INVALID;
+    }
+
+    /**
+     * Parses a CPF, formatted or not, into its packed form.
+     *
+     * @return the packed CPF, or {@link #INVALID}
+     */
+    public static long parse(CharSequence cpf) {
+        if (cpf == null) {
+            return INVALID;
+        }
+        long packed = 0;
+        int count = 0;
+        int first = -1;
+        boolean allSame = true;
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 0, n = cpf.length(); i < n; i++) {
+            int digit = cpf.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                continue;
+            }
+            if (count == DIGITS) {
+                return INVALID;
+            }
+            if (count == 0) {
+                first = digit;
+            } else if (digit != first) {
+                allSame = false;
+            }
+            if (count < 9) {
+                sum1 += digit * (10 - count);
+            } else if (count == 9 && digit != checkDigit(sum1)) {
+                return INVALID;
+            }
+            if (count < 10) {
+                sum2 += digit * (11 - count);
+            } else if (digit != checkDigit(sum2)) {
+                return INVALID;
+            }
+            packed = packed * 10 + digit;
+            count++;
+        }
+        return count == DIGITS && !allSame ? packed : INVALID;
+    }
+
+    /**
+     * Parses an ASCII-encoded CPF from a byte range, e.g. a line of a request body.
+     *
+     * @return the packed CPF, or {@link #INVALID}
+     */
+    public static long parse(byte[] bytes, int offset, int length) {
+        // same single pass as parse(CharSequence), duplicated so byte input needs no CharSequence wrapper
+        long packed = 0;
+        int count = 0;
+        int first = -1;
+        boolean allSame = true;
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                continue;
+            }
+            if (count == DIGITS) {
+                return INVALID;
+            }
+            if (count == 0) {
+                first = digit;
+            } else if (digit != first) {
+                allSame = false;
+            }
+            if (count < 9) {
+                sum1 += digit * (10 - count);
+            } else if (count == 9 && digit != checkDigit(sum1)) {
+                return INVALID;
+            }
+            if (count < 10) {
+                sum2 += digit * (11 - count);
+            } else if (digit != checkDigit(sum2)) {
+                return INVALID;
+            }
+            packed = packed * 10 + digit;
+            count++;
+        }
+        return count == DIGITS && !allSame ? packed : INVALID;
+    }
+
+    /**
+     * Completes a 9-digit base number with its two check digits.
+     *
+     * @param base a number between 0 and 999,999,999
+     * @return the packed CPF
+     */
+    public static long withCheckDigits(int base) {
+        if (base < 0 || base > 999_999_999) {
+            throw new IllegalArgumentException("CPF base must have at most 9 digits: " + base);
+        }
+        int sum1 = 0;
+        int sum2 = 0;
+        int remaining = base;
+        // walk the base from its last digit (weights 2..10 and 3..11)
+        for (int position = 8; position >= 0; position--) {
+            int digit = remaining % 10;
+            remaining /= 10;
+            sum1 += digit * (10 - position);
+            sum2 += digit * (11 - position);
+        }
+        int first = checkDigit(sum1);
+        int second = checkDigit(sum2 + first * 2);
+        return base * 100L + first * 10L + second;
+    }
+
+    /**
+     * Appends the 11 digits of a packed CPF, without punctuation.
+     */
+    public static StringBuilder appendDigits(long packed, StringBuilder target) {
+        for (long divisor = 10_000_000_000L; divisor > 0; divisor /= 10) {
+            target.append((char) ('0' + (packed / divisor) % 10));
+        }
+        return target;
+    }
+
+    /**
+     * Formats a packed CPF as its 11 digits.
+     */
+    public static String toDigits(long packed) {
+        return appendDigits(packed, new StringBuilder(DIGITS)).toString();
+    }
+
+    /**
+     * Writes the 11 ASCII digits of a packed CPF into {@code target} at {@code offset}.
+     */
+    public static void putDigits(long packed, byte[] target, int offset) {
+        long remaining = packed;
+        for (int i = offset + DIGITS - 1; i >= offset; i--) {
+            target[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+    }
+
+    /**
+     * Writes a packed CPF as ASCII {@code 000.000.000-00} into {@code target} at {@code offset}.
+     */
+    public static void putFormatted(long packed, byte[] target, int offset) {
+        long remaining = packed;
+        for (int i = FORMATTED_LENGTH - 1; i >= 0; i--) {
+            if (i == 3 || i == 7) {
+                target[offset + i] = '.';
+            } else if (i == 11) {
+                target[offset + i] = '-';
+            } else {
+                target[offset + i] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+        }
+    }
+
+    /**
+     * Formats a packed CPF as {@code 000.000.000-00}.
+     */
+    public static String format(long packed) {
+        byte[] bytes = new byte[FORMATTED_LENGTH];
+        putFormatted(packed, bytes, 0);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Masks a packed CPF for logging as {@code 000.***.**-00}, keeping the
+     * first three and the check digits.
+     */
+    public static String mask(long packed) {
+        if (packed == INVALID) {
+            return MASKED_UNKNOWN;
+        }
+        char[] chars = MASKED_UNKNOWN.toCharArray();
+        long prefix = packed / 100_000_000L;
+        chars[0] = (char) ('0' + prefix / 100);
+        chars[1] = (char) ('0' + prefix / 10 % 10);
+        chars[2] = (char) ('0' + prefix % 10);
+        chars[11] = (char) ('0' + packed / 10 % 10);
+        chars[12] = (char) ('0' + packed % 10);
+        return new String(chars);
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
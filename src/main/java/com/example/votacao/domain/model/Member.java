@@ -7,10 +7,19 @@ import lombok.NoArgsConstructor;
 
 import java.util.UUID;
 
+/**
+ * Cooperative member.
+ *
+ * Design Decision: The CPF is stored in packed form (see {@link Cpf}) in a
+ * BIGINT column, normalized once at the boundary; the unique index on an
+ * 8-byte number is smaller and faster to probe than one on a formatted
+ * string, and formatted and unformatted input map to the same key. It is
+ * still exposed as its 11 digits.
+ */
 @Entity
 @Table(name = "members", indexes = {
-    @Index(name = "idx_member_cpf", columnList = "cpf", unique = true),
-    @Index(name = "idx_member_name", columnList = "name")
+    @Index(name = "idx_member_cpf", columnList = "cpf_number", unique = true),
+    @Index(name = "idx_member_name", columnList = "name, id")
 })
 @Data
 @NoArgsConstructor
@@ -20,15 +29,41 @@ public class Member {
     @Id
     private UUID id;
     
-    @Column(nullable = false, unique = true)
-    private String cpf;
+    @Column(name = "cpf_number", nullable = false)
+    private long cpf;
     
     @Column(nullable = false)
     private String name;
     
+    /**
+     * @throws IllegalArgumentException if {@code cpf} is not a valid CPF
+     */
     public Member(String cpf, String name) {
+        this(packed(cpf), name);
+    }
+    
+    public Member(long cpf, String name) {
         this.id = UUID.randomUUID();
         this.cpf = cpf;
         this.name = name;
     }
-}
\ No newline at end of file
+    
+    /**
+     * The CPF as 11 digits.
+     */
+    public String getCpf() {
+        return Cpf.toDigits(cpf);
+    }
+    
+    public long packedCpf() {
+        return cpf;
+    }
+    
+    private static long packed(String cpf) {
+        long packed = Cpf.parse(cpf);
+        if (packed == Cpf.INVALID) {
+            throw new IllegalArgumentException("Invalid CPF");
+        }
+        return packed;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.votacao.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a member for listings, with the packed CPF (see {@link Cpf}).
+ */
+public record MemberSummary(UUID id, String name, long cpf) {
+}
@@ -16,7 +16,9 @@ import java.util.UUID;
            @Index(name = "idx_vote_member_id", columnList = "member_id"),
            @Index(name = "idx_vote_type", columnList = "voteType"),
            @Index(name = "idx_vote_voted_at", columnList = "votedAt"),
-           @Index(name = "idx_vote_agenda_member", columnList = "agenda_id, member_id")
+           @Index(name = "idx_vote_agenda_member", columnList = "agenda_id, member_id"),
+           // keyset pagination: seek on (agenda_id, votedAt, id), read the rest from the index
+           @Index(name = "idx_vote_agenda_voted_at_id", columnList = "agenda_id, votedAt, id, member_id, voteType")
        })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,7 @@
+package com.example.votacao.domain.model;
+
+public enum VoteReceiptStatus {
+    PENDING,
+    ACCEPTED,
+    REJECTED
+}
@@ -1,8 +1,11 @@
 package com.example.votacao.domain.repository;
 
 import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.AgendaSummary;
 import com.example.votacao.domain.model.VotingSessionStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,8 +13,38 @@ import java.util.UUID;
 public interface AgendaRepository {
     Agenda save(Agenda agenda);
     Optional<Agenda> findById(UUID id);
+
+    /**
+     * Like {@link #findById}, but when the session is about to close it locks
+     * the agenda's row against closing until the transaction ends, so a vote
+     * checked against an open session commits before the session can close
+     * and be tallied.
+     */
+    Optional<Agenda> findByIdForVoting(UUID id);
     List<Agenda> findAll();
     List<Agenda> findByStatus(VotingSessionStatus status);
+
+    /**
+     * Up to {@code limit} agendas, newest first by {@code (createdAt, id)}, starting
+     * after the given position or from the newest when it is null. Null filters
+     * are ignored; {@code createdFrom} is inclusive and {@code createdTo} exclusive.
+     */
+    List<AgendaSummary> findSummaries(VotingSessionStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                      LocalDateTime afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * Approximate number of agendas from the database statistics.
+     */
+    long estimateCount();
+    boolean closeIfExpired(UUID id, LocalDateTime now);
+    List<UUID> closeExpiredSessions(LocalDateTime now);
+    void markFinalized(UUID id, LocalDateTime finalizedAt);
+    void markFinalized(Collection<UUID> ids, LocalDateTime finalizedAt);
     void delete(Agenda agenda);
     boolean existsById(UUID id);
+
+    /**
+     * Those of the given ids that belong to an existing agenda.
+     */
+    List<UUID> findExistingIds(Collection<UUID> ids);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.votacao.domain.repository;
+
+import com.example.votacao.domain.model.AgendaResult;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AgendaResultRepository {
+    AgendaResult save(AgendaResult result);
+
+    /**
+     * Stores several results with one lookup of the existing rows and batched
+     * inserts; existing results are overwritten.
+     */
+    void saveAll(Collection<AgendaResult> results);
+    Optional<AgendaResult> findByAgendaId(UUID agendaId);
+    List<AgendaResult> findByAgendaIds(Collection<UUID> agendaIds);
+}
@@ -1,17 +1,46 @@
 package com.example.votacao.domain.repository;
 
 import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.MemberSummary;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MemberRepository {
     Member save(Member member);
     Optional<Member> findById(UUID id);
-    Optional<Member> findByCpf(String cpf);
+    Optional<Member> findByCpf(long cpf);
     List<Member> findAll();
+    List<Member> findFirst(int limit);
     void delete(Member member);
     boolean existsById(UUID id);
-    boolean existsByCpf(String cpf);
+    boolean existsByCpf(long cpf);
+
+    /**
+     * Up to {@code limit} members ordered by {@code (name, id)}, starting after
+     * the given position or from the first when it is null.
+     */
+    List<MemberSummary> findSummariesByName(String afterName, UUID afterId, int limit);
+
+    /**
+     * Approximate number of members from the database statistics.
+     */
+    long estimateCount();
+
+    /**
+     * Inserts new members as one batch, without checking for existing rows first.
+     */
+    void insertAll(List<Member> members);
+
+    /**
+     * Streams the packed CPF of every member. Must be consumed and closed inside a transaction.
+     */
+    Stream<Long> streamAllCpfs();
+
+    /**
+     * Streams every member as a summary, in no particular order. Must be consumed and closed inside a transaction.
+     */
+    Stream<MemberSummary> streamAllSummaries();
 }
\ No newline at end of file
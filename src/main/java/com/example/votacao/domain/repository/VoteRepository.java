@@ -1,8 +1,13 @@
 package com.example.votacao.domain.repository;
 
 import com.example.votacao.domain.model.Vote;
+import com.example.votacao.domain.model.VoteType;
+import com.example.votacao.domain.model.VotingResult;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,8 +16,33 @@ public interface VoteRepository {
     List<Vote> saveAll(List<Vote> votes);
     Optional<Vote> findById(UUID id);
     List<Vote> findByAgendaId(UUID agendaId);
+
+    /**
+     * Up to {@code limit} votes of an agenda in {@code (votedAt, id)} order,
+     * starting after the given position, or from the first vote when it is null.
+     */
+    List<Vote> findPageByAgendaId(UUID agendaId, LocalDateTime afterVotedAt, UUID afterId, int limit);
+
+    /**
+     * Hands every vote of an agenda to {@code handler} in {@code (votedAt, id)}
+     * order, straight from a forward-only cursor and without loading entities.
+     * Must run inside a transaction.
+     */
+    void forEachVoteOfAgenda(UUID agendaId, VoteRowHandler handler);
     List<Vote> findByMemberId(UUID memberId);
     Optional<Vote> findByAgendaIdAndMemberId(UUID agendaId, UUID memberId);
     void delete(Vote vote);
     boolean existsByAgendaIdAndMemberId(UUID agendaId, UUID memberId);
+    VotingResult tallyByAgendaId(UUID agendaId);
+
+    /**
+     * Tallies the votes of several agendas with one grouped query. Agendas
+     * without votes are missing from the map.
+     */
+    Map<UUID, VotingResult> tallyByAgendaIds(Collection<UUID> agendaIds);
+
+    @FunctionalInterface
+    interface VoteRowHandler {
+        void accept(UUID id, UUID memberId, VoteType voteType, LocalDateTime votedAt);
+    }
 }
\ No newline at end of file
@@ -1,24 +1,112 @@
 package com.example.votacao.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache configuration backed by Caffeine.
+ *
+ * Every cache is bounded by the estimated heap size of its entries and
+ * expires entries after write, as configured under {@code voting.cache}.
+ * Caches read through sync {@code @Cacheable} methods can also reload hot
+ * entries in the background once they reach {@code refresh-after-write}.
+ * Caffeine's W-TinyLFU policy keeps frequently read agendas resident while
+ * one-off lookups are evicted first. Each cache is wrapped in an
+ * {@link InstrumentedCache} that publishes its statistics to Micrometer.
+ *
+ * Design Decision: The manager is wrapped so evictions and puts issued
+ * inside a transaction are applied only after it commits; otherwise a
+ * concurrent reader could re-cache pre-commit data right after an eviction.
+ */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+@Slf4j
 public class CacheConfig {
-    
-    @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
+
+    public static final List<String> CACHE_NAMES = List.of(
             "agendas",
+            "agenda-results",
             "members",
-            "voting-results",
             "voting-sessions",
             "member-votes",
-            "votes"
-        );
+            "votes",
+            "serialized-responses"
+    );
+
+    // background reloads are best effort: when all threads are busy the entry waits for its next read
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(256), runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties, MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return new InstrumentedCache((CaffeineCache) super.adaptCaffeineCache(name, cache), meterRegistry,
+                        properties.specFor(name).getRefreshAfterWrite(), refreshExecutor);
+            }
+        };
+        cacheManager.setCaffeine(builder("default", properties.getDefaults()));
+
+        Set<String> names = new LinkedHashSet<>(CACHE_NAMES);
+        names.addAll(properties.getSpecs().keySet());
+        for (String name : names) {
+            cacheManager.registerCustomCache(name, buildCache(name, properties.specFor(name)));
+        }
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    static Cache<Object, Object> buildCache(String name, CacheProperties.Spec spec) {
+        return builder(name, spec).build();
+    }
+
+    private static Caffeine<Object, Object> builder(String name, CacheProperties.Spec spec) {
+        if (spec.getRefreshAfterWrite() != null && (spec.getExpireAfterWrite() == null
+                || spec.getRefreshAfterWrite().compareTo(spec.getExpireAfterWrite()) >= 0)) {
+            throw new IllegalArgumentException("Cache " + name
+                    + ": refresh-after-write must be shorter than expire-after-write");
+        }
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumWeight(spec.getMaximumWeight().toBytes())
+                .recordStats()
+                .weigher((key, value) -> (int) Math.min(Integer.MAX_VALUE,
+                        EntrySizeEstimator.estimate(key) + EntrySizeEstimator.estimate(value)))
+                .evictionListener((key, value, cause) ->
+                        log.debug("Cache {} evicted key {} ({})", name, key, cause));
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return builder;
     }
-}
\ No newline at end of file
+}
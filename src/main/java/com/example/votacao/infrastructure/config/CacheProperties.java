@@ -0,0 +1,48 @@
+package com.example.votacao.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache sizing and expiry, bound from {@code voting.cache}.
+ *
+ * Caches are bounded by the estimated heap size of their entries rather
+ * than by entry count, because a single {@code votes} entry can hold an
+ * entire agenda's vote list while an {@code agendas} entry is a few hundred bytes.
+ */
+@Data
+@ConfigurationProperties(prefix = "voting.cache")
+public class CacheProperties {
+
+    /**
+     * Spec applied to caches without an explicit entry in {@link #specs}.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * Specs keyed by cache name.
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class Spec {
+        private DataSize maximumWeight = DataSize.ofMegabytes(16);
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        private Duration expireAfterAccess;
+        /**
+         * Age after which a sync {@code @Cacheable} read still returns the
+         * entry but reloads it in the background; must be shorter than
+         * {@link #expireAfterWrite}. Unset: entries are only reloaded on expiry.
+         */
+        private Duration refreshAfterWrite;
+    }
+}
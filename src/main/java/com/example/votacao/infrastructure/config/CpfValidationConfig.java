@@ -0,0 +1,23 @@
+package com.example.votacao.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+
+/**
+ * HTTP client used to reach the external CPF eligibility service.
+ */
+@Configuration
+@EnableConfigurationProperties(CpfValidationProperties.class)
+public class CpfValidationConfig {
+
+    @Bean
+    public HttpClient cpfValidationHttpClient(CpfValidationProperties properties) {
+        return HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.votacao.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Settings of the external CPF eligibility client, bound from {@code voting.cpf-validation}.
+ *
+ * Without a {@link #baseUrl} the client simulates the external service locally.
+ */
+@Data
+@ConfigurationProperties(prefix = "voting.cpf-validation")
+public class CpfValidationProperties {
+
+    /**
+     * Base URL of the eligibility service; CPFs are checked at {@code {baseUrl}/users/{cpf}}.
+     */
+    private URI baseUrl;
+
+    /**
+     * Deadline for a single attempt, from sending the request to receiving the response headers.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Bulkhead: calls allowed in flight at once; further calls are rejected immediately.
+     */
+    private int maxConcurrentCalls = 20;
+
+    /**
+     * Attempts per call, including the first one.
+     */
+    private int maxAttempts = 3;
+
+    private Duration retryBackoff = Duration.ofMillis(100);
+
+    /**
+     * Retries allowed as a fraction of calls, so retries cannot multiply load during an outage.
+     */
+    private double retryBudgetRatio = 0.2;
+
+    /**
+     * Retries always allowed regardless of traffic, so a quiet instance can still retry.
+     */
+    private int retryBudgetMinimum = 10;
+
+    /**
+     * Consecutive failed attempts that open the circuit breaker.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * How long the circuit stays open before a single trial call is let through.
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+}
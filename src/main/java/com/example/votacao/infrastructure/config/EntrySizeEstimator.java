@@ -0,0 +1,128 @@
+package com.example.votacao.infrastructure.config;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rough, allocation-light estimate of the retained heap size of cache values.
+ *
+ * Assumes a 64-bit JVM with compressed oops (12 byte headers, 4 byte
+ * references, 8 byte alignment). The numbers are meant for bounding caches,
+ * not for exact accounting; they err on the high side for DTO graphs.
+ *
+ * Design Decision: Field layouts are reflected once per class and cached,
+ * so weighing an entry costs a walk over its values only.
+ */
+public final class EntrySizeEstimator {
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+    private static final int MAX_DEPTH = 8;
+
+    private static final Map<Class<?>, ClassLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private EntrySizeEstimator() {
+    }
+
+    public static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null || value instanceof Enum<?> || value instanceof Class<?>) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return align(HEADER + 4 + 4 + REFERENCE) + align(ARRAY_HEADER + string.length());
+        }
+        if (value instanceof UUID) {
+            return align(HEADER + 16);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return align(HEADER + 8);
+        }
+        if (value instanceof Temporal) {
+            return 72;
+        }
+        if (depth >= MAX_DEPTH) {
+            return align(HEADER + REFERENCE);
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = align(HEADER + 16) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+            for (Object element : collection) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = align(HEADER + 32) + align(ARRAY_HEADER + (long) map.size() * REFERENCE);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += align(HEADER + 3 * REFERENCE + 4)
+                        + estimate(entry.getKey(), depth + 1)
+                        + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof byte[] bytes) {
+            return align(ARRAY_HEADER + bytes.length);
+        }
+        if (value instanceof Object[] array) {
+            long size = align(ARRAY_HEADER + (long) array.length * REFERENCE);
+            for (Object element : array) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        return estimateObject(value, depth);
+    }
+
+    private static long estimateObject(Object value, int depth) {
+        ClassLayout layout = LAYOUTS.computeIfAbsent(value.getClass(), ClassLayout::of);
+        long size = layout.shallowSize;
+        for (Field field : layout.referenceFields) {
+            try {
+                size += estimate(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                size += REFERENCE;
+            }
+        }
+        return size;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private record ClassLayout(long shallowSize, List<Field> referenceFields) {
+
+        static ClassLayout of(Class<?> type) {
+            long size = HEADER;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    Class<?> fieldType = field.getType();
+                    if (fieldType.isPrimitive()) {
+                        size += fieldType == long.class || fieldType == double.class ? 8 : 4;
+                    } else {
+                        size += REFERENCE;
+                        if (field.trySetAccessible()) {
+                            references.add(field);
+                        }
+                    }
+                }
+            }
+            return new ClassLayout(align(size), List.copyOf(references));
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.votacao.infrastructure.config;
+
+import com.example.votacao.application.cache.SingleFlight;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Spring {@link Cache} decorator that publishes Micrometer metrics for a Caffeine cache.
+ *
+ * On top of Caffeine's own hit, miss and eviction counters it records:
+ * - {@code cache.load.latency}: histogram of the time spent computing a missed value
+ * - {@code cache.estimated.bytes}: the cache's weighted size, i.e. estimated heap bytes
+ * - {@code cache.coalesced.calls}: sync misses that joined an in-flight load for the same key
+ *
+ * Sync {@code @Cacheable} reads go through a {@link SingleFlight}, so concurrent
+ * misses for one key run the underlying method once. With a refresh-after-write
+ * age, such a read of an older entry returns it right away and reloads it in the
+ * background with the same method, so hot entries are replaced before they
+ * expire instead of blocking the reader that finds them expired.
+ *
+ * Design Decision: A background reload runs outside the reader's transaction,
+ * so it may read data that an eviction, applied after the writer's commit,
+ * has since invalidated. Each reload registers a generation for its key, and
+ * every put, eviction or clear drops it; the reload stores its value only if
+ * its generation is still current, checked atomically with the store, and
+ * otherwise discards it. The next read then loads the committed data.
+ *
+ * Design Decision: Non-sync {@code @Cacheable} methods report a miss through
+ * {@link #get(Object)} and store the computed value through {@link #put} on the
+ * same thread, so the load time is measured between those two calls. Only a put
+ * that directly follows the miss counts: any other read or eviction on the
+ * thread forgets the pending miss, so plain lookups that never put, like probes
+ * for an optional entry, are not charged to a later unrelated put.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final CaffeineCache delegate;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+    private final Timer loadTimer;
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+    private final SingleFlight<Object, Object> singleFlight = new SingleFlight<>();
+    private final ConcurrentMap<Object, Object> refreshGenerations = new ConcurrentHashMap<>();
+    private final Duration refreshAfterWrite;
+    private final Executor refreshExecutor;
+
+    public InstrumentedCache(CaffeineCache delegate, MeterRegistry registry) {
+        this(delegate, registry, null, Runnable::run);
+    }
+
+    /**
+     * @param refreshAfterWrite age after which sync reads reload the entry in the
+     *                          background, or null to reload only on expiry; needs
+     *                          an expire-after-write policy to know entry ages
+     * @param refreshExecutor runs the background reloads
+     */
+    public InstrumentedCache(CaffeineCache delegate, MeterRegistry registry, Duration refreshAfterWrite,
+                             Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.nativeCache = delegate.getNativeCache();
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.refreshExecutor = refreshExecutor;
+        this.loadTimer = Timer.builder("cache.load.latency")
+                .description("Time spent computing values for cache misses")
+                .tag("cache", delegate.getName())
+                .publishPercentileHistogram()
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, nativeCache, delegate.getName());
+        Gauge.builder("cache.estimated.bytes", this, InstrumentedCache::estimatedBytes)
+                .description("Estimated heap size of the cache entries")
+                .tag("cache", delegate.getName())
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("cache.coalesced.calls", singleFlight, SingleFlight::coalescedCount)
+                .description("Cache misses that shared an in-flight load instead of running their own")
+                .tag("cache", delegate.getName())
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return nativeCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            pendingLoad.set(new PendingLoad(key, System.nanoTime()));
+        } else {
+            pendingLoad.remove();
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        pendingLoad.remove();
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        pendingLoad.remove();
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            if (isDueForRefresh(key)) {
+                singleFlight.executeInBackground(key, () -> refresh(key, valueLoader), refreshExecutor);
+            }
+            return (T) cached.get();
+        }
+        try {
+            return (T) singleFlight.execute(key, () -> load(key, valueLoader));
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        try {
+            T value = valueLoader.call();
+            delegate.put(key, value);
+            return value;
+        } finally {
+            loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T refresh(Object key, Callable<T> valueLoader) throws Exception {
+        Object generation = new Object();
+        refreshGenerations.put(key, generation);
+        long start = System.nanoTime();
+        try {
+            T value = valueLoader.call();
+            refreshGenerations.computeIfPresent(key, (k, current) -> {
+                if (current != generation) {
+                    return current;
+                }
+                delegate.put(k, value);
+                return null;
+            });
+            return value;
+        } finally {
+            refreshGenerations.remove(key, generation);
+            loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean isDueForRefresh(Object key) {
+        if (refreshAfterWrite == null) {
+            return false;
+        }
+        return nativeCache.policy().expireAfterWrite()
+                .flatMap(expiry -> expiry.ageOf(key))
+                .map(age -> age.compareTo(refreshAfterWrite) >= 0)
+                .orElse(false);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        PendingLoad pending = pendingLoad.get();
+        if (pending != null) {
+            pendingLoad.remove();
+            if (pending.key.equals(key)) {
+                loadTimer.record(System.nanoTime() - pending.startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+        refreshGenerations.remove(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        refreshGenerations.remove(key);
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        pendingLoad.remove();
+        refreshGenerations.remove(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        pendingLoad.remove();
+        refreshGenerations.remove(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        pendingLoad.remove();
+        refreshGenerations.clear();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        pendingLoad.remove();
+        refreshGenerations.clear();
+        return delegate.invalidate();
+    }
+
+    public long estimatedBytes() {
+        return nativeCache.policy().eviction()
+                .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                .orElse(0L);
+    }
+
+    public Snapshot snapshot() {
+        CacheStats stats = nativeCache.stats();
+        double totalLoadMillis = loadTimer.totalTime(TimeUnit.MILLISECONDS);
+        long loads = loadTimer.count();
+        return new Snapshot(
+                getName(),
+                estimatedBytes(),
+                nativeCache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                loads,
+                totalLoadMillis,
+                loads > 0 ? totalLoadMillis / loads : 0,
+                singleFlight.coalescedCount()
+        );
+    }
+
+    private record PendingLoad(Object key, long startedAt) {
+    }
+
+    /**
+     * Point-in-time statistics of a single cache.
+     */
+    public record Snapshot(String name,
+                           long estimatedBytes,
+                           long entries,
+                           long hits,
+                           long misses,
+                           double hitRate,
+                           long evictions,
+                           long loads,
+                           double totalLoadMillis,
+                           double meanLoadMillis,
+                           long coalescedCalls) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.votacao.infrastructure.config;
+
+import com.example.votacao.application.cache.MemberNameIndex;
+import com.example.votacao.domain.model.MemberSummary;
+import com.example.votacao.domain.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Loads every member into the {@link MemberNameIndex} at startup.
+ *
+ * Design Decision: Like the startup warm-up, this runs as an
+ * {@link ApplicationRunner}, so the instance only reports ready once name
+ * search covers every member. Members created while the load runs reach the
+ * index through their creation events. A failed load is logged and leaves
+ * search limited to members created afterwards.
+ */
+@Component
+@Slf4j
+public class MemberNameIndexLoader implements ApplicationRunner {
+
+    private final MemberRepository memberRepository;
+    private final MemberNameIndex memberNameIndex;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public MemberNameIndexLoader(MemberRepository memberRepository,
+                                 MemberNameIndex memberNameIndex,
+                                 PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.memberNameIndex = memberNameIndex;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            readOnlyTemplate.executeWithoutResult(status -> {
+                try (Stream<MemberSummary> members = memberRepository.streamAllSummaries()) {
+                    memberNameIndex.load(members);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to load the member name index", e);
+        }
+    }
+}
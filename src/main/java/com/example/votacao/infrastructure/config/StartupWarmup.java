@@ -0,0 +1,189 @@
+package com.example.votacao.infrastructure.config;
+
+import com.example.votacao.application.dto.AgendaResponse;
+import com.example.votacao.application.dto.CreateVoteRequest;
+import com.example.votacao.application.usecase.AgendaService;
+import com.example.votacao.application.usecase.VotingService;
+import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.VoteType;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import com.example.votacao.domain.repository.AgendaRepository;
+import com.example.votacao.domain.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Warms caches, the JIT and the connection pool before the application reports ready.
+ *
+ * Startup phases:
+ * - Open agendas are loaded into the {@code agendas} cache and their tallies into
+ *   the voting results cache
+ * - Up to {@code voting.warmup.member-limit} members are loaded into the
+ *   CPF-keyed {@code members} cache
+ * - The vote and result paths run {@code voting.warmup.iterations} times against
+ *   a throwaway agenda and member inside a transaction that is rolled back
+ *
+ * The outcome is logged and exposed under {@code warmup} in {@code /actuator/info}.
+ *
+ * Design Decision: Spring Boot flips the readiness probe to ACCEPTING_TRAFFIC only
+ * after every {@link ApplicationRunner} has returned, so running here keeps the
+ * instance out of the load balancer until warm-up is done. Failures are logged
+ * and reported but never block startup.
+ */
+@Component
+@Slf4j
+public class StartupWarmup implements ApplicationRunner, InfoContributor {
+
+    /** CPF base (first nine digits) of the throwaway members; check digits are added per iteration. */
+    private static final int SYNTHETIC_CPF_BASE = 999_990_000;
+
+    private final AgendaService agendaService;
+    private final VotingService votingService;
+    private final AgendaRepository agendaRepository;
+    private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate rollbackTemplate;
+    private final boolean enabled;
+    private final int memberLimit;
+    private final int iterations;
+
+    private volatile WarmupReport report = WarmupReport.skipped();
+
+    public StartupWarmup(AgendaService agendaService,
+                         VotingService votingService,
+                         AgendaRepository agendaRepository,
+                         MemberRepository memberRepository,
+                         CacheManager cacheManager,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${voting.warmup.enabled:true}") boolean enabled,
+                         @Value("${voting.warmup.member-limit:10000}") int memberLimit,
+                         @Value("${voting.warmup.iterations:20}") int iterations) {
+        this.agendaService = agendaService;
+        this.votingService = votingService;
+        this.agendaRepository = agendaRepository;
+        this.memberRepository = memberRepository;
+        this.cacheManager = cacheManager;
+        this.rollbackTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.memberLimit = memberLimit;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("Startup warm-up disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        int openAgendas = 0;
+        int tallies = 0;
+        int members = 0;
+        int synthetic = 0;
+        String status = "COMPLETED";
+        try {
+            List<AgendaResponse> agendas = agendaService.getOpenVotingSessions();
+            Cache agendaCache = cacheManager.getCache("agendas");
+            for (AgendaResponse agenda : agendas) {
+                if (agendaCache != null) {
+                    agendaCache.put(agenda.getId(), agenda);
+                }
+                openAgendas++;
+                agendaService.getVotingResult(agenda.getId());
+                tallies++;
+            }
+
+            Cache memberCache = cacheManager.getCache("members");
+            if (memberCache != null && memberLimit > 0) {
+                for (Member member : memberRepository.findFirst(memberLimit)) {
+                    memberCache.put(member.packedCpf(), member);
+                    members++;
+                }
+            }
+
+            for (int i = 0; i < iterations; i++) {
+                runSyntheticVote(i);
+                synthetic++;
+            }
+        } catch (RuntimeException e) {
+            status = "FAILED";
+            log.warn("Startup warm-up aborted: {}", e.getMessage(), e);
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        report = new WarmupReport(status, durationMillis, openAgendas, tallies, members, synthetic);
+        log.info("Startup warm-up {} in {} ms: {} open agendas, {} tallies, {} members, {}/{} synthetic votes",
+                status, durationMillis, openAgendas, tallies, members, synthetic, iterations);
+    }
+
+    /**
+     * Votes on a throwaway agenda and reads its tally, then rolls everything back.
+     * Odd iterations vote by CPF so the member lookup path is exercised as well.
+     */
+    private void runSyntheticVote(int iteration) {
+        long cpf = Cpf.withCheckDigits(SYNTHETIC_CPF_BASE + iteration);
+        try {
+            rollbackTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+
+                Agenda agenda = new Agenda("Warm-up", "Synthetic agenda rolled back after startup warm-up");
+                agenda.openVotingSession(1);
+                agenda.setStatus(VotingSessionStatus.OPEN);
+                agendaRepository.save(agenda);
+                Member member = memberRepository.findByCpf(cpf)
+                        .orElseGet(() -> memberRepository.save(new Member(cpf, "Warm-up")));
+
+                CreateVoteRequest request = new CreateVoteRequest(member.getId(), VoteType.YES);
+                if (iteration % 2 == 1) {
+                    request.setMemberId(null);
+                    request.setMemberCpf(Cpf.toDigits(cpf));
+                }
+                votingService.vote(agenda.getId(), request);
+                agendaService.getCurrentVotingResult(agenda.getId());
+            });
+        } finally {
+            // sync cache loads are not transactional, so drop the throwaway member explicitly
+            Cache memberCache = cacheManager.getCache("members");
+            if (memberCache != null) {
+                memberCache.evict(cpf);
+            }
+        }
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        builder.withDetail("warmup", report);
+    }
+
+    /**
+     * Outcome of the startup warm-up.
+     */
+    public record WarmupReport(String status,
+                               long durationMillis,
+                               int openAgendas,
+                               int talliesLoaded,
+                               int membersLoaded,
+                               int syntheticVotes) {
+
+        static WarmupReport skipped() {
+            return new WarmupReport("SKIPPED", 0, 0, 0, 0, 0);
+        }
+    }
+}
@@ -1,25 +1,157 @@
 package com.example.votacao.infrastructure.config;
 
+import com.example.votacao.application.dto.AgendaResponse;
 import com.example.votacao.application.usecase.AgendaService;
-import lombok.RequiredArgsConstructor;
+import com.example.votacao.domain.event.VotingSessionOpenedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes voting sessions at their end time.
+ *
+ * Every opened session is registered in a deadline-ordered {@link DelayQueue};
+ * a single thread takes each session as it expires and closes it with one
+ * targeted update. The queue is rebuilt from the open sessions at startup, and
+ * a low-frequency sweep closes anything the timer missed, e.g. sessions opened
+ * on another instance.
+ *
+ * Design Decision: Sessions are registered after the opening transaction
+ * commits, so a rolled back open never schedules a close. Closing is idempotent,
+ * so a session registered twice is harmless. A close that fails is retried
+ * after {@code voting.session-expiry.retry-backoff} instead of waiting for the
+ * next sweep.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class VotingSessionScheduler {
-    
+
     private final AgendaService agendaService;
-    
-    @Scheduled(fixedRate = 60000) // Run every minute
+    private final Duration retryBackoff;
+    private final DelayQueue<SessionExpiry> expiries = new DelayQueue<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public VotingSessionScheduler(AgendaService agendaService,
+                                  @Value("${voting.session-expiry.retry-backoff:5s}") Duration retryBackoff) {
+        this.agendaService = agendaService;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::closeExpiringSessions, "session-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void rebuild() {
+        int registered = 0;
+        for (AgendaResponse agenda : agendaService.getOpenVotingSessions()) {
+            if (agenda.getSessionEndTime() != null) {
+                register(agenda.getId(), agenda.getSessionEndTime());
+                registered++;
+            }
+        }
+        log.info("Scheduled expiry of {} open voting sessions", registered);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionOpened(VotingSessionOpenedEvent event) {
+        register(event.agendaId(), event.sessionEndTime());
+    }
+
+    public void register(UUID agendaId, LocalDateTime sessionEndTime) {
+        long delayNanos = Duration.between(LocalDateTime.now(), sessionEndTime).toNanos();
+        expiries.put(new SessionExpiry(agendaId, sessionEndTime, System.nanoTime() + delayNanos));
+    }
+
+    public int pendingCount() {
+        return expiries.size();
+    }
+
+    /**
+     * Safety net for sessions the timer does not know about.
+     */
+    // @Scheduled only reads ISO-8601 durations; parse the 10m style used elsewhere in the config
+    @Scheduled(fixedDelayString = "#{T(org.springframework.boot.convert.DurationStyle)"
+            + ".detectAndParse('${voting.session-expiry.sweep-interval:10m}').toMillis()}")
     public void closeExpiredVotingSessions() {
-        log.debug("Checking for expired voting sessions...");
+        log.debug("Sweeping for expired voting sessions...");
         try {
-            agendaService.closeExpiredVotingSessions();
+            List<UUID> closed = agendaService.closeExpiredVotingSessions();
+            if (!closed.isEmpty()) {
+                Set<UUID> ids = new HashSet<>(closed);
+                expiries.removeIf(expiry -> ids.contains(expiry.agendaId()));
+                log.info("Sweep closed {} expired voting sessions", closed.size());
+            }
         } catch (Exception e) {
             log.error("Error closing expired voting sessions", e);
         }
     }
-}
\ No newline at end of file
+
+    private void closeExpiringSessions() {
+        while (running) {
+            SessionExpiry expiry;
+            try {
+                expiry = expiries.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                if (agendaService.closeExpiredVotingSession(expiry.agendaId())) {
+                    log.info("Closed voting session for agenda {}", expiry.agendaId());
+                } else if (LocalDateTime.now().isBefore(expiry.sessionEndTime())) {
+                    // the monotonic clock ran ahead of the wall clock; try again at the end time
+                    register(expiry.agendaId(), expiry.sessionEndTime());
+                }
+            } catch (Exception e) {
+                log.error("Error closing voting session for agenda {}, retrying in {}",
+                        expiry.agendaId(), retryBackoff, e);
+                expiries.put(new SessionExpiry(expiry.agendaId(), expiry.sessionEndTime(),
+                        System.nanoTime() + retryBackoff.toNanos()));
+            }
+        }
+    }
+
+    record SessionExpiry(UUID agendaId, LocalDateTime sessionEndTime, long deadlineNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof SessionExpiry expiry) {
+                return Long.compare(deadlineNanos, expiry.deadlineNanos);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.votacao.infrastructure.external;
+
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.service.CpfValidationService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Validates thousands of CPFs per request.
+ *
+ * Processing runs in three stages:
+ * - {@link #parse}: splits the body and checks format and check digits of
+ *   every entry in a parallel, allocation-free loop over the raw bytes
+ * - {@link #stream}: looks up eligibility once per distinct valid CPF on a
+ *   bounded pool, through the cached {@link CpfValidationService}
+ * - writes one NDJSON line per entry in input order as soon as its lookup
+ *   completes, followed by a summary line with the throughput
+ *
+ * Each request keeps at most {@code voting.cpf-validation.bulk.max-in-flight}
+ * lookups submitted ahead of the entry being written, so a large request
+ * cannot flood the shared pool, and concurrent requests share it fairly. When
+ * the request fails or the client goes away, its outstanding lookups are
+ * cancelled instead of spending the external call budget on nobody.
+ *
+ * Design Decision: Parsing happens before the response starts, so an
+ * oversized or malformed body is still rejected with a regular 400.
+ */
+@Service
+@Slf4j
+public class BulkCpfValidationService {
+
+    public enum Outcome {
+        ABLE_TO_VOTE,
+        UNABLE_TO_VOTE,
+        NOT_FOUND,
+        INVALID,
+        UNAVAILABLE
+    }
+
+    private final CpfValidationService cpfValidationService;
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final int maxInFlight;
+    private final ExecutorService lookupExecutor;
+
+    public BulkCpfValidationService(CpfValidationService cpfValidationService,
+                                    ObjectMapper objectMapper,
+                                    @Value("${voting.cpf-validation.bulk.max-size:100000}") int maxSize,
+                                    @Value("${voting.cpf-validation.bulk.lookup-threads:8}") int lookupThreads,
+                                    @Value("${voting.cpf-validation.bulk.max-in-flight:64}") int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("max-in-flight must be positive");
+        }
+        this.cpfValidationService = cpfValidationService;
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.maxInFlight = maxInFlight;
+        AtomicInteger threadCount = new AtomicInteger();
+        // requests cap their own lookups, so the queue only overflows under many concurrent
+        // requests; the streaming thread then runs the lookup itself, which slows that request down
+        this.lookupExecutor = new ThreadPoolExecutor(lookupThreads, lookupThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(lookupThreads * maxInFlight), runnable -> {
+                    Thread thread = new Thread(runnable, "cpf-bulk-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lookupExecutor.shutdownNow();
+    }
+
+    /**
+     * Splits and parses a request body.
+     *
+     * @param body a JSON array of strings, or one CPF per line
+     * @param jsonArray whether the body is a JSON array
+     * @throws IllegalArgumentException if the body is malformed or holds more than the allowed CPFs
+     */
+    public Batch parse(byte[] body, boolean jsonArray) {
+        long startNanos = System.nanoTime();
+        return jsonArray ? parseJsonArray(body, startNanos) : parseLines(body, startNanos);
+    }
+
+    /**
+     * Looks up eligibility and writes one NDJSON line per entry, then a summary line.
+     */
+    public Summary stream(Batch batch, OutputStream out) throws IOException {
+        int size = batch.size();
+        Lookups lookups = new Lookups(batch);
+
+        int[] counts = new int[Outcome.values().length];
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            for (int i = 0; i < size; i++) {
+                lookups.submitThrough(i);
+                long packed = batch.packed[i];
+                CompletableFuture<Outcome> lookup = packed == Cpf.INVALID ? null : lookups.futures.get(packed);
+                if (lookup != null && !lookup.isDone()) {
+                    // let the client see what is ready before waiting on the service
+                    json.flush();
+                }
+                Outcome outcome = lookup == null ? Outcome.INVALID : lookup.join();
+                counts[outcome.ordinal()]++;
+                json.writeStartObject();
+                json.writeNumberField("index", i);
+                json.writeStringField("cpf", packed == Cpf.INVALID ? batch.raw(i) : Cpf.toDigits(packed));
+                json.writeStringField("status", outcome.name());
+                json.writeEndObject();
+            }
+
+            long elapsedNanos = System.nanoTime() - batch.startNanos;
+            Summary summary = new Summary(size, size - counts[Outcome.INVALID.ordinal()], lookups.futures.size(),
+                    counts[Outcome.ABLE_TO_VOTE.ordinal()], counts[Outcome.UNAVAILABLE.ordinal()],
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    elapsedNanos == 0 ? 0 : Math.round(size * 1e9 / elapsedNanos));
+            json.writeStartObject();
+            json.writeObjectField("summary", summary);
+            json.writeEndObject();
+            json.writeRaw('\n');
+            log.info("Bulk CPF validation: {} CPFs ({} valid, {} distinct lookups) in {} ms, {} CPFs/s",
+                    summary.total(), summary.valid(), summary.lookups(), summary.elapsedMillis(),
+                    summary.cpfsPerSecond());
+            return summary;
+        } finally {
+            // a no-op after success; after a failed write it drops the lookups nobody will read
+            lookups.cancelAll();
+        }
+    }
+
+    /**
+     * The lookups of one request, submitted in input order while at most
+     * {@link #maxInFlight} of them are running or queued.
+     */
+    private final class Lookups {
+
+        final Map<Long, CompletableFuture<Outcome>> futures = new HashMap<>();
+        private final Batch batch;
+        private final Semaphore inFlight = new Semaphore(maxInFlight);
+        // entries before this index have their lookup submitted, or need none
+        private int next;
+
+        Lookups(Batch batch) {
+            this.batch = batch;
+        }
+
+        /**
+         * Submits the lookups up to and including entry {@code index}, waiting
+         * for room if needed, then as many following ones as there is room for.
+         */
+        void submitThrough(int index) throws IOException {
+            while (next < batch.size()) {
+                long packed = batch.packed[next];
+                if (packed == Cpf.INVALID || futures.containsKey(packed)) {
+                    next++;
+                    continue;
+                }
+                if (next <= index) {
+                    acquire();
+                } else if (!inFlight.tryAcquire()) {
+                    return;
+                }
+                CompletableFuture<Outcome> lookup = CompletableFuture.supplyAsync(() -> lookup(packed), lookupExecutor);
+                lookup.whenComplete((outcome, error) -> inFlight.release());
+                futures.put(packed, lookup);
+                next++;
+            }
+        }
+
+        private void acquire() throws IOException {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for CPF lookups");
+            }
+        }
+
+        void cancelAll() {
+            // queued lookups see the cancellation and never call the service
+            futures.values().forEach(lookup -> lookup.cancel(false));
+        }
+    }
+
+    private Outcome lookup(long packed) {
+        try {
+            cpfValidationService.validateCpf(Cpf.toDigits(packed));
+            return Outcome.ABLE_TO_VOTE;
+        } catch (CpfValidationClient.CpfUnableToVoteException e) {
+            return Outcome.UNABLE_TO_VOTE;
+        } catch (CpfValidationClient.CpfNotFoundException e) {
+            return Outcome.NOT_FOUND;
+        } catch (RuntimeException e) {
+            log.debug("Eligibility lookup failed for {}: {}", Cpf.mask(packed), e.getMessage());
+            return Outcome.UNAVAILABLE;
+        }
+    }
+
+    private Batch parseLines(byte[] body, long startNanos) {
+        // first pass: line boundaries only, so the parse below can run in parallel
+        int[] starts = new int[64];
+        int[] ends = new int[64];
+        int count = 0;
+        int lineStart = 0;
+        for (int i = 0; i <= body.length; i++) {
+            if (i < body.length && body[i] != '\n') {
+                continue;
+            }
+            int end = i;
+            while (end > lineStart && isBlank(body[end - 1])) {
+                end--;
+            }
+            int start = lineStart;
+            while (start < end && isBlank(body[start])) {
+                start++;
+            }
+            lineStart = i + 1;
+            if (start == end) {
+                continue;
+            }
+            if (count == maxSize) {
+                throw tooMany();
+            }
+            if (count == starts.length) {
+                int capacity = Math.min(maxSize, count * 2);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+
+        long[] packed = new long[count];
+        int[] lineStarts = starts;
+        int[] lineEnds = ends;
+        IntStream.range(0, count).parallel()
+                .forEach(i -> packed[i] = Cpf.parse(body, lineStarts[i], lineEnds[i] - lineStarts[i]));
+        return new Batch(packed, i -> new String(body, lineStarts[i], lineEnds[i] - lineStarts[i],
+                StandardCharsets.UTF_8), startNanos);
+    }
+
+    private Batch parseJsonArray(byte[] body, long startNanos) {
+        String[] cpfs;
+        try {
+            cpfs = objectMapper.readValue(body, String[].class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Body must be a JSON array of CPF strings");
+        }
+        if (cpfs.length > maxSize) {
+            throw tooMany();
+        }
+        long[] packed = new long[cpfs.length];
+        IntStream.range(0, cpfs.length).parallel().forEach(i -> packed[i] = Cpf.parse(cpfs[i]));
+        return new Batch(packed, i -> cpfs[i], startNanos);
+    }
+
+    private IllegalArgumentException tooMany() {
+        return new IllegalArgumentException("Bulk validation accepts at most " + maxSize + " CPFs per request");
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == ',' || b == '"';
+    }
+
+    /**
+     * Parsed request: the packed CPF per entry ({@link Cpf#INVALID} when
+     * malformed) and access to the raw entry for echoing invalid input.
+     */
+    public static final class Batch {
+
+        private final long[] packed;
+        private final IntFunction<String> raw;
+        private final long startNanos;
+
+        Batch(long[] packed, IntFunction<String> raw, long startNanos) {
+            this.packed = packed;
+            this.raw = raw;
+            this.startNanos = startNanos;
+        }
+
+        public int size() {
+            return packed.length;
+        }
+
+        String raw(int index) {
+            return raw.apply(index);
+        }
+    }
+
+    public record Summary(int total, int valid, int lookups, int ableToVote, int unavailable,
+                          long elapsedMillis, long cpfsPerSecond) {
+    }
+}
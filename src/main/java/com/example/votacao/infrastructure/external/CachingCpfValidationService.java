@@ -0,0 +1,166 @@
+package com.example.votacao.infrastructure.external;
+
+import com.example.votacao.application.cache.SingleFlight;
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.model.CpfValidationResponse;
+import com.example.votacao.domain.service.CpfValidationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Caching decorator for the external CPF eligibility check.
+ *
+ * Outcomes are cached by packed CPF: eligible CPFs for
+ * {@code voting.cpf-validation.cache.positive-ttl}, ineligible or unknown
+ * ones for the usually shorter {@code negative-ttl}. Concurrent checks of
+ * the same CPF share one upstream call. Unexpected upstream failures are
+ * never cached.
+ *
+ * Metrics:
+ * - {@code cache.gets} and friends, tagged {@code cache=cpf-validation}
+ * - {@code cpf.validation.cache.hits}, tagged {@code outcome=positive|negative}
+ * - {@code cpf.validation.upstream.latency}: time spent in the upstream service
+ *
+ * Design Decision: Negative outcomes are cached as their message and rethrown
+ * as a new exception per caller, so callers never share a mutable exception.
+ */
+@Service
+@Primary
+public class CachingCpfValidationService implements CpfValidationService {
+
+    private final CpfValidationService upstream;
+    private final Cache<Long, Outcome> outcomes;
+    private final SingleFlight<Long, Outcome> singleFlight = new SingleFlight<>();
+    private final Timer upstreamLatency;
+    private final Counter positiveHits;
+    private final Counter negativeHits;
+
+    public CachingCpfValidationService(CpfValidationClient upstream,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${voting.cpf-validation.cache.positive-ttl:10m}") Duration positiveTtl,
+                                       @Value("${voting.cpf-validation.cache.negative-ttl:1m}") Duration negativeTtl,
+                                       @Value("${voting.cpf-validation.cache.maximum-size:100000}") long maximumSize) {
+        this.upstream = upstream;
+        this.outcomes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new OutcomeExpiry(positiveTtl, negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, outcomes, "cpf-validation");
+        this.upstreamLatency = Timer.builder("cpf.validation.upstream.latency")
+                .description("Time spent waiting for the external CPF eligibility service")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.positiveHits = hitCounter(meterRegistry, "positive");
+        this.negativeHits = hitCounter(meterRegistry, "negative");
+    }
+
+    @Override
+    public CpfValidationResponse validateCpf(String cpf) {
+        long packed = Cpf.parse(cpf);
+        if (packed == Cpf.INVALID) {
+            // malformed input is rejected locally by the client; nothing worth caching
+            return upstream.validateCpf(cpf);
+        }
+
+        Outcome outcome = outcomes.getIfPresent(packed);
+        if (outcome != null) {
+            (outcome.eligible() ? positiveHits : negativeHits).increment();
+        } else {
+            outcome = load(packed, cpf);
+        }
+        return outcome.unwrap();
+    }
+
+    private Outcome load(long packed, String cpf) {
+        try {
+            return singleFlight.execute(packed, () -> {
+                Outcome outcome = upstreamLatency.record(() -> callUpstream(cpf));
+                outcomes.put(packed, outcome);
+                return outcome;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("CPF validation failed", e);
+        }
+    }
+
+    private Outcome callUpstream(String cpf) {
+        try {
+            return Outcome.eligible(upstream.validateCpf(cpf));
+        } catch (CpfValidationClient.CpfUnableToVoteException e) {
+            return Outcome.unableToVote(e.getMessage());
+        } catch (CpfValidationClient.CpfNotFoundException e) {
+            return Outcome.notFound(e.getMessage());
+        }
+    }
+
+    private static Counter hitCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("cpf.validation.cache.hits")
+                .description("CPF checks answered from the cache")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private enum Kind {
+        ELIGIBLE,
+        UNABLE_TO_VOTE,
+        NOT_FOUND
+    }
+
+    private record Outcome(Kind kind, CpfValidationResponse response, String message) {
+
+        static Outcome eligible(CpfValidationResponse response) {
+            return new Outcome(Kind.ELIGIBLE, response, null);
+        }
+
+        static Outcome unableToVote(String message) {
+            return new Outcome(Kind.UNABLE_TO_VOTE, null, message);
+        }
+
+        static Outcome notFound(String message) {
+            return new Outcome(Kind.NOT_FOUND, null, message);
+        }
+
+        boolean eligible() {
+            return kind == Kind.ELIGIBLE;
+        }
+
+        CpfValidationResponse unwrap() {
+            return switch (kind) {
+                case ELIGIBLE -> response;
+                case UNABLE_TO_VOTE -> throw new CpfValidationClient.CpfUnableToVoteException(message);
+                case NOT_FOUND -> throw new CpfValidationClient.CpfNotFoundException(message);
+            };
+        }
+    }
+
+    private record OutcomeExpiry(Duration positiveTtl, Duration negativeTtl) implements Expiry<Long, Outcome> {
+
+        @Override
+        public long expireAfterCreate(Long key, Outcome value, long currentTime) {
+            return (value.eligible() ? positiveTtl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Outcome value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Outcome value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.votacao.infrastructure.external;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal consecutive-failure circuit breaker.
+ *
+ * After {@code failureThreshold} consecutive failures the circuit opens and
+ * calls are rejected without reaching the remote service. Once
+ * {@code openDuration} has passed a single trial call is let through: its
+ * success closes the circuit, its failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final long CLOSED = -1L;
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(CLOSED);
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Whether a call may proceed. In the half-open state only the caller that
+     * wins the transition gets through; the circuit counts as open again until
+     * that trial call reports back.
+     */
+    public boolean allowRequest() {
+        long opened = openedAt.get();
+        if (opened == CLOSED) {
+            return true;
+        }
+        long now = System.nanoTime();
+        return now - opened >= openNanos && openedAt.compareAndSet(opened, now);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(CLOSED);
+    }
+
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.nanoTime());
+        }
+    }
+
+    public State state() {
+        long opened = openedAt.get();
+        if (opened == CLOSED) {
+            return State.CLOSED;
+        }
+        return System.nanoTime() - opened >= openNanos ? State.HALF_OPEN : State.OPEN;
+    }
+}
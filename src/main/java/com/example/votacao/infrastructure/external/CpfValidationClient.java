@@ -1,101 +1,240 @@
 package com.example.votacao.infrastructure.external;
 
+import com.example.votacao.domain.model.Cpf;
 import com.example.votacao.domain.model.CpfValidationResponse;
 import com.example.votacao.domain.model.CpfValidationStatus;
 import com.example.votacao.domain.service.CpfValidationService;
+import com.example.votacao.infrastructure.config.CpfValidationProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Client of the external CPF eligibility service.
+ *
+ * Each call is bounded by a per-attempt timeout and guarded by:
+ * - a bulkhead limiting the calls in flight; excess calls are rejected at once
+ * - a circuit breaker that stops calling a failing service for a while
+ * - a retry budget, so timeouts and 5xx responses are retried only while
+ *   retries stay a small fraction of the traffic
+ * Anything that prevents an answer surfaces as {@link CpfValidationUnavailableException}.
+ *
+ * Without {@code voting.cpf-validation.base-url} the service is simulated
+ * locally with a random outcome.
+ *
+ * Design Decision: The client is asynchronous on top of the JDK HttpClient,
+ * so a slow service occupies no request thread while waiting; callers that
+ * need a synchronous answer block only at the edge in {@link #validateCpf}.
+ */
 @Service
 @Slf4j
 public class CpfValidationClient implements CpfValidationService {
-    
+
     private final Random random = new Random();
-    
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String usersUrl;
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+
+    /**
+     * Simulated client with default settings.
+     */
+    public CpfValidationClient() {
+        this(new CpfValidationProperties(), null, new ObjectMapper());
+    }
+
+    @Autowired
+    public CpfValidationClient(CpfValidationProperties properties,
+                               HttpClient cpfValidationHttpClient,
+                               ObjectMapper objectMapper) {
+        this.httpClient = cpfValidationHttpClient;
+        this.objectMapper = objectMapper;
+        URI baseUrl = properties.getBaseUrl();
+        this.usersUrl = baseUrl == null ? null : baseUrl.toString().replaceAll("/+$", "") + "/users/";
+        this.timeout = properties.getTimeout();
+        this.maxAttempts = Math.max(1, properties.getMaxAttempts());
+        this.retryBackoff = properties.getRetryBackoff();
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration());
+        this.retryBudget = new RetryBudget(properties.getRetryBudgetRatio(), properties.getRetryBudgetMinimum());
+    }
+
     @Override
     public CpfValidationResponse validateCpf(String cpf) {
-        log.info("Validating CPF: {}", maskCpf(cpf));
-        
+        try {
+            return validateCpfAsync(cpf).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CpfValidationUnavailableException("CPF validation failed", e.getCause());
+        }
+    }
+
+    public CompletableFuture<CpfValidationResponse> validateCpfAsync(String cpf) {
+        long packed = Cpf.parse(cpf);
+        String maskedCpf = Cpf.mask(packed);
+        log.info("Validating CPF: {}", maskedCpf);
+
         // Validate CPF format and checksum
-        if (!isValidCpfFormat(cpf)) {
-            log.warn("Invalid CPF format: {}", maskCpf(cpf));
-            throw new CpfNotFoundException("CPF not found: " + maskCpf(cpf));
+        if (packed == Cpf.INVALID) {
+            log.warn("Invalid CPF format: {}", maskedCpf);
+            return CompletableFuture.failedFuture(new CpfNotFoundException("CPF not found: " + maskedCpf));
         }
-        
+
+        if (usersUrl == null) {
+            return simulate(maskedCpf);
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return CompletableFuture.failedFuture(
+                    new CpfValidationUnavailableException("CPF validation service circuit is open"));
+        }
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new CpfValidationUnavailableException("Too many concurrent CPF validations"));
+        }
+        retryBudget.recordCall();
+        return attempt(Cpf.toDigits(packed), maskedCpf, 1)
+                .whenComplete((response, error) -> bulkhead.release());
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    public int availableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    private CompletableFuture<CpfValidationResponse> simulate(String maskedCpf) {
         // Simulate external service call with random response
         boolean canVote = random.nextBoolean();
         CpfValidationStatus status = canVote ? CpfValidationStatus.ABLE_TO_VOTE : CpfValidationStatus.UNABLE_TO_VOTE;
-        
-        log.info("CPF {} validation result: {}", maskCpf(cpf), status);
-        
+
+        log.info("CPF {} validation result: {}", maskedCpf, status);
+
         if (status == CpfValidationStatus.UNABLE_TO_VOTE) {
-            throw new CpfUnableToVoteException("CPF Já existente na base: " + maskCpf(cpf));
+            return CompletableFuture.failedFuture(
+                    new CpfUnableToVoteException("CPF Já existente na base: " + maskedCpf));
         }
-        
-        return new CpfValidationResponse(status);
+
+        return CompletableFuture.completedFuture(new CpfValidationResponse(status));
+    }
+
+    private CompletableFuture<CpfValidationResponse> attempt(String digits, String maskedCpf, int attempt) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(usersUrl + digits))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> toResult(response, maskedCpf))
+                .exceptionallyCompose(error -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (!isRetryable(cause)) {
+                        circuitBreaker.recordSuccess();
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    circuitBreaker.recordFailure();
+                    if (attempt < maxAttempts && circuitBreaker.allowRequest() && retryBudget.tryRetry()) {
+                        log.warn("CPF {} validation attempt {} failed, retrying: {}", maskedCpf, attempt, cause.toString());
+                        Executor delayed = CompletableFuture.delayedExecutor(
+                                retryBackoff.toMillis() * attempt, TimeUnit.MILLISECONDS);
+                        return CompletableFuture.supplyAsync(() -> null, delayed)
+                                .thenCompose(ignored -> attempt(digits, maskedCpf, attempt + 1));
+                    }
+                    log.warn("CPF {} validation failed after {} attempt(s): {}", maskedCpf, attempt, cause.toString());
+                    return CompletableFuture.failedFuture(
+                            new CpfValidationUnavailableException("CPF validation service unavailable", cause));
+                })
+                .thenApply(result -> {
+                    circuitBreaker.recordSuccess();
+                    return result;
+                });
     }
-    
-    private boolean isValidCpfFormat(String cpf) {
-        // Remove any non-digit characters
-        cpf = cpf.replaceAll("\\D", "");
-        
-        // Check if CPF has 11 digits
-        if (cpf.length() != 11) {
-            return false;
-        }
-        
-        // Check if all digits are the same (invalid CPFs)
-        if (cpf.matches("(\\d)\\1{10}")) {
-            return false;
-        }
-        
-        // Validate CPF checksum
-        return isValidCpfChecksum(cpf);
+
+    private CpfValidationResponse toResult(HttpResponse<byte[]> response, String maskedCpf) {
+        int code = response.statusCode();
+        if (code == 404) {
+            throw new CpfNotFoundException("CPF not found: " + maskedCpf);
+        }
+        if (code >= 500) {
+            throw new UpstreamErrorException("CPF validation service answered " + code);
+        }
+        if (code != 200) {
+            throw new IllegalStateException("Unexpected CPF validation response " + code);
+        }
+        CpfValidationStatus status = readStatus(response.body());
+        log.info("CPF {} validation result: {}", maskedCpf, status);
+        if (status == CpfValidationStatus.UNABLE_TO_VOTE) {
+            throw new CpfUnableToVoteException("CPF Já existente na base: " + maskedCpf);
+        }
+        return new CpfValidationResponse(status);
     }
-    
-    private boolean isValidCpfChecksum(String cpf) {
+
+    private CpfValidationStatus readStatus(byte[] body) {
         try {
-            // Calculate first check digit
-            int sum = 0;
-            for (int i = 0; i < 9; i++) {
-                sum += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
-            }
-            int firstCheckDigit = (sum % 11 < 2) ? 0 : 11 - (sum % 11);
-            
-            // Calculate second check digit
-            sum = 0;
-            for (int i = 0; i < 10; i++) {
-                sum += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
-            }
-            int secondCheckDigit = (sum % 11 < 2) ? 0 : 11 - (sum % 11);
-            
-            // Verify check digits
-            return Character.getNumericValue(cpf.charAt(9)) == firstCheckDigit &&
-                   Character.getNumericValue(cpf.charAt(10)) == secondCheckDigit;
-        } catch (Exception e) {
-            return false;
+            JsonNode status = objectMapper.readTree(body).path("status");
+            return CpfValidationStatus.valueOf(status.asText());
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Malformed CPF validation response", e);
         }
     }
-    
-    private String maskCpf(String cpf) {
-        if (cpf == null || cpf.length() < 11) {
-            return "***.***.**-**";
+
+    private static boolean isRetryable(Throwable error) {
+        // timeouts, connection failures and 5xx; definite answers and malformed responses are not retried
+        return error instanceof IOException || error instanceof UpstreamErrorException;
+    }
+
+    private static class UpstreamErrorException extends RuntimeException {
+        UpstreamErrorException(String message) {
+            super(message, null, false, false);
         }
-        cpf = cpf.replaceAll("\\D", "");
-        return cpf.substring(0, 3) + ".***.**-" + cpf.substring(9);
     }
-    
+
     public static class CpfNotFoundException extends RuntimeException {
         public CpfNotFoundException(String message) {
             super(message);
         }
     }
-    
+
     public static class CpfUnableToVoteException extends RuntimeException {
         public CpfUnableToVoteException(String message) {
             super(message);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The eligibility service could not give an answer: it timed out, failed,
+     * or calls to it are currently being shed.
+     */
+    public static class CpfValidationUnavailableException extends RuntimeException {
+        public CpfValidationUnavailableException(String message) {
+            super(message);
+        }
+
+        public CpfValidationUnavailableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
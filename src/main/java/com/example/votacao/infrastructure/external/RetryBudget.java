@@ -0,0 +1,39 @@
+package com.example.votacao.infrastructure.external;
+
+/**
+ * Limits retries to a fraction of the calls made.
+ *
+ * Every call deposits {@code ratio} tokens and every retry withdraws one,
+ * so during an outage retries add at most {@code ratio} extra load instead
+ * of multiplying it by the attempt count. The balance is capped at
+ * {@code minimum + ratio * 100}, and a quiet instance always has
+ * {@code minimum} retries available.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double capacity;
+    private double balance;
+
+    public RetryBudget(double ratio, int minimum) {
+        this.ratio = ratio;
+        this.capacity = minimum + ratio * 100;
+        this.balance = minimum;
+    }
+
+    public synchronized void recordCall() {
+        balance = Math.min(capacity, balance + ratio);
+    }
+
+    public synchronized boolean tryRetry() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    public synchronized double balance() {
+        return balance;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.votacao.infrastructure.monitoring;
+
+import com.example.votacao.infrastructure.config.InstrumentedCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/cachestats}) ranking caches for tuning.
+ *
+ * Caches are ranked twice:
+ * - By estimated heap bytes, to find what to shrink
+ * - By total time spent loading misses, to find what to grow or warm
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+
+    @ReadOperation
+    public CacheRanking ranking() {
+        List<InstrumentedCache.Snapshot> snapshots = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof InstrumentedCache instrumented) {
+                snapshots.add(instrumented.snapshot());
+            }
+        }
+
+        List<InstrumentedCache.Snapshot> byMemory = snapshots.stream()
+                .sorted(Comparator.comparingLong(InstrumentedCache.Snapshot::estimatedBytes).reversed())
+                .toList();
+        List<InstrumentedCache.Snapshot> byMissCost = snapshots.stream()
+                .sorted(Comparator.comparingDouble(InstrumentedCache.Snapshot::totalLoadMillis).reversed())
+                .toList();
+        return new CacheRanking(byMemory, byMissCost);
+    }
+
+    public record CacheRanking(List<InstrumentedCache.Snapshot> byMemory,
+                               List<InstrumentedCache.Snapshot> byMissCost) {
+    }
+}
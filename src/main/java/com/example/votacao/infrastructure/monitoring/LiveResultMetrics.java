@@ -0,0 +1,39 @@
+package com.example.votacao.infrastructure.monitoring;
+
+import com.example.votacao.application.usecase.LiveResultService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the number of live result subscribers, the events sent to and
+ * dropped for them, and the subscribers dropped for a stalled send; a growing
+ * drop rate means clients cannot keep up.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveResultMetrics implements MeterBinder {
+
+    private final LiveResultService liveResultService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("live.results.subscribers", liveResultService, LiveResultService::subscriberCount)
+                .description("Open live result subscriptions")
+                .register(registry);
+        FunctionCounter.builder("live.results.events", liveResultService, LiveResultService::sentCount)
+                .description("Result events delivered to live subscribers")
+                .tag("outcome", "sent")
+                .register(registry);
+        FunctionCounter.builder("live.results.events", liveResultService, LiveResultService::droppedCount)
+                .description("Result events skipped because a live subscriber was behind")
+                .tag("outcome", "dropped")
+                .register(registry);
+        FunctionCounter.builder("live.results.stalled", liveResultService, LiveResultService::stalledCount)
+                .description("Live subscribers dropped because a send exceeded the send timeout")
+                .register(registry);
+    }
+}
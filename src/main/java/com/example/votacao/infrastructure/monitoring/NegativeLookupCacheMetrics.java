@@ -0,0 +1,24 @@
+package com.example.votacao.infrastructure.monitoring;
+
+import com.example.votacao.application.cache.NegativeLookupCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the negative lookup cache statistics as {@code cache=negative-lookups};
+ * its hit count is the number of queries avoided for unknown ids.
+ */
+@Component
+@RequiredArgsConstructor
+public class NegativeLookupCacheMetrics implements MeterBinder {
+
+    private final NegativeLookupCache negativeLookupCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, negativeLookupCache.nativeCache(), "negative-lookups");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.votacao.infrastructure.monitoring;
+
+import com.example.votacao.application.cache.VotingResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes {@code cache.coalesced.calls} for the voting results cache, using
+ * the same meter name as the Spring caches so dashboards can sum across both.
+ */
+@Component
+@RequiredArgsConstructor
+public class VotingResultCacheMetrics implements MeterBinder {
+
+    private final VotingResultCache votingResultCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.coalesced.calls", votingResultCache, VotingResultCache::coalescedCount)
+                .description("Cache misses that shared an in-flight load instead of running their own")
+                .tag("cache", "voting-results")
+                .register(registry);
+    }
+}
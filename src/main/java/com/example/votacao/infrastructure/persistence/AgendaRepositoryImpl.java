@@ -1,20 +1,38 @@
 package com.example.votacao.infrastructure.persistence;
 
 import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.AgendaSummary;
 import com.example.votacao.domain.model.VotingSessionStatus;
 import com.example.votacao.domain.repository.AgendaRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class AgendaRepositoryImpl implements AgendaRepository {
     
     private final JpaAgendaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final RowCountEstimator rowCountEstimator;
+    private final Duration votingLockWindow;
+    
+    public AgendaRepositoryImpl(JpaAgendaRepository jpaRepository,
+                                EntityManager entityManager,
+                                RowCountEstimator rowCountEstimator,
+                                @Value("${voting.session-expiry.lock-window:5s}") Duration votingLockWindow) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.rowCountEstimator = rowCountEstimator;
+        this.votingLockWindow = votingLockWindow;
+    }
     
     @Override
     public Agenda save(Agenda agenda) {
@@ -26,6 +44,36 @@ public class AgendaRepositoryImpl implements AgendaRepository {
         return jpaRepository.findById(id);
     }
     
+    /**
+     * Reads the agenda for a vote, locking its row only when the session is
+     * about to close.
+     *
+     * Design Decision: H2 runs both pessimistic lock modes as
+     * {@code SELECT ... FOR UPDATE}, so locking on every vote serialized all
+     * votes on an agenda. A vote only races the closing update when its
+     * session ends within {@code voting.session-expiry.lock-window}; only then
+     * is its status read again under the lock, which waits for a close in
+     * flight and holds off a later one until the vote commits. Only the status
+     * is locked, since refreshing the entity would cascade to its votes.
+     * Earlier votes read without a lock and need to commit within the window.
+     */
+    @Override
+    public Optional<Agenda> findByIdForVoting(UUID id) {
+        Optional<Agenda> agenda = jpaRepository.findById(id);
+        if (agenda.filter(this::isClosingSoon).isPresent()
+                && jpaRepository.findStatusForUpdate(id).orElse(null) != VotingSessionStatus.OPEN) {
+            // closed while the vote waited for the row; read the committed state
+            entityManager.detach(agenda.get());
+            return jpaRepository.findById(id);
+        }
+        return agenda;
+    }
+    
+    private boolean isClosingSoon(Agenda agenda) {
+        return agenda.getStatus() == VotingSessionStatus.OPEN && agenda.getSessionEndTime() != null
+                && !LocalDateTime.now().plus(votingLockWindow).isBefore(agenda.getSessionEndTime());
+    }
+    
     @Override
     public List<Agenda> findAll() {
         return jpaRepository.findAll();
@@ -36,6 +84,97 @@ public class AgendaRepositoryImpl implements AgendaRepository {
         return jpaRepository.findByStatus(status);
     }
     
+    /**
+     * Pages agendas newest first, with only the filters that are set in the query.
+     *
+     * Design Decision: The JPQL is assembled per filter combination instead of
+     * using {@code (:status is null or ...)} predicates, which the database cannot
+     * match to an index. With a status filter the order starts with status, so
+     * the page is read off {@code idx_agenda_status} in order; otherwise off
+     * {@code idx_agenda_created_at}. The cursor condition is written with a
+     * leading {@code createdAt <= :afterCreatedAt} so the scan seeks to it.
+     */
+    @Override
+    public List<AgendaSummary> findSummaries(VotingSessionStatus status, LocalDateTime createdFrom,
+                                             LocalDateTime createdTo, LocalDateTime afterCreatedAt,
+                                             UUID afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("select new com.example.votacao.domain.model.AgendaSummary("
+                + "a.id, a.title, a.status, a.createdAt, a.sessionEndTime) from Agenda a where 1 = 1");
+        if (status != null) {
+            jpql.append(" and a.status = :status");
+        }
+        if (createdFrom != null) {
+            jpql.append(" and a.createdAt >= :createdFrom");
+        }
+        if (createdTo != null) {
+            jpql.append(" and a.createdAt < :createdTo");
+        }
+        if (afterCreatedAt != null) {
+            jpql.append(" and a.createdAt <= :afterCreatedAt and (a.createdAt < :afterCreatedAt or a.id < :afterId)");
+        }
+        jpql.append(status != null ? " order by a.status, a.createdAt desc, a.id desc" : " order by a.createdAt desc, a.id desc");
+
+        TypedQuery<AgendaSummary> query = entityManager.createQuery(jpql.toString(), AgendaSummary.class)
+                .setMaxResults(limit);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (createdFrom != null) {
+            query.setParameter("createdFrom", createdFrom);
+        }
+        if (createdTo != null) {
+            query.setParameter("createdTo", createdTo);
+        }
+        if (afterCreatedAt != null) {
+            query.setParameter("afterCreatedAt", afterCreatedAt);
+            query.setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+    
+    @Override
+    public long estimateCount() {
+        return rowCountEstimator.estimate("agendas");
+    }
+    
+    @Override
+    public boolean closeIfExpired(UUID id, LocalDateTime now) {
+        return jpaRepository.closeIfExpired(id, now) > 0;
+    }
+    
+    /**
+     * Closes every expired session with one set-based update.
+     *
+     * Design Decision: The expired open rows are selected FOR UPDATE first and
+     * only those ids are closed, which keeps the statement portable (no
+     * UPDATE ... RETURNING) while telling callers exactly which agendas
+     * changed. An expiry timer that closed one of them first holds its row
+     * until it commits, so the locking select waits and no longer sees it as
+     * open; a timer arriving later waits for this transaction and then finds
+     * the session closed. The locked ids are therefore exactly the rows the
+     * update changes, and every agenda is finalized by one closer only.
+     */
+    @Override
+    public List<UUID> closeExpiredSessions(LocalDateTime now) {
+        List<UUID> ids = jpaRepository.lockExpiredOpenIds(now);
+        if (!ids.isEmpty()) {
+            jpaRepository.closeAll(ids);
+        }
+        return ids;
+    }
+    
+    @Override
+    public void markFinalized(UUID id, LocalDateTime finalizedAt) {
+        jpaRepository.markFinalized(id, finalizedAt);
+    }
+    
+    @Override
+    public void markFinalized(Collection<UUID> ids, LocalDateTime finalizedAt) {
+        if (!ids.isEmpty()) {
+            jpaRepository.markAllFinalized(ids, finalizedAt);
+        }
+    }
+    
     @Override
     public void delete(Agenda agenda) {
         jpaRepository.delete(agenda);
@@ -45,4 +184,9 @@ public class AgendaRepositoryImpl implements AgendaRepository {
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
     }
+    
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : jpaRepository.findExistingIds(ids);
+    }
 }
\ No newline at end of file
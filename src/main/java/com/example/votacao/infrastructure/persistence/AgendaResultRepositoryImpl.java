@@ -0,0 +1,64 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.AgendaResult;
+import com.example.votacao.domain.repository.AgendaResultRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class AgendaResultRepositoryImpl implements AgendaResultRepository {
+    
+    private final JpaAgendaResultRepository jpaRepository;
+    private final EntityManager entityManager;
+    
+    @Override
+    public AgendaResult save(AgendaResult result) {
+        return jpaRepository.save(result);
+    }
+    
+    /**
+     * Design Decision: The id is assigned, so {@code saveAll} would merge, and
+     * merging selects every row on its own first. The existing rows are loaded
+     * with one query instead and updated in place; the rest are persisted,
+     * which Hibernate sends in JDBC batches.
+     */
+    @Override
+    public void saveAll(Collection<AgendaResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        Map<UUID, AgendaResult> existing = jpaRepository.findAllById(
+                        results.stream().map(AgendaResult::getAgendaId).toList()).stream()
+                .collect(Collectors.toMap(AgendaResult::getAgendaId, Function.identity()));
+        for (AgendaResult result : results) {
+            AgendaResult current = existing.get(result.getAgendaId());
+            if (current == null) {
+                entityManager.persist(result);
+            } else {
+                current.setYesVotes(result.getYesVotes());
+                current.setNoVotes(result.getNoVotes());
+                current.setFinalizedAt(result.getFinalizedAt());
+            }
+        }
+    }
+    
+    @Override
+    public Optional<AgendaResult> findByAgendaId(UUID agendaId) {
+        return jpaRepository.findById(agendaId);
+    }
+    
+    @Override
+    public List<AgendaResult> findByAgendaIds(Collection<UUID> agendaIds) {
+        return jpaRepository.findAllById(agendaIds);
+    }
+}
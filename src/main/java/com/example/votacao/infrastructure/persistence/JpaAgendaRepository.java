@@ -2,13 +2,52 @@ package com.example.votacao.infrastructure.persistence;
 
 import com.example.votacao.domain.model.Agenda;
 import com.example.votacao.domain.model.VotingSessionStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JpaAgendaRepository extends JpaRepository<Agenda, UUID> {
     List<Agenda> findByStatus(VotingSessionStatus status);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a.status from Agenda a where a.id = :id")
+    Optional<VotingSessionStatus> findStatusForUpdate(@Param("id") UUID id);
+    
+    @Modifying
+    @Query("update Agenda a set a.status = com.example.votacao.domain.model.VotingSessionStatus.CLOSED " +
+           "where a.id = :id and a.status = com.example.votacao.domain.model.VotingSessionStatus.OPEN " +
+           "and a.sessionEndTime <= :now")
+    int closeIfExpired(@Param("id") UUID id, @Param("now") LocalDateTime now);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a.id from Agenda a " +
+           "where a.status = com.example.votacao.domain.model.VotingSessionStatus.OPEN and a.sessionEndTime <= :now")
+    List<UUID> lockExpiredOpenIds(@Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Agenda a set a.status = com.example.votacao.domain.model.VotingSessionStatus.CLOSED " +
+           "where a.id in :ids and a.status = com.example.votacao.domain.model.VotingSessionStatus.OPEN")
+    int closeAll(@Param("ids") Collection<UUID> ids);
+    
+    @Modifying
+    @Query("update Agenda a set a.finalizedAt = :finalizedAt where a.id = :id")
+    int markFinalized(@Param("id") UUID id, @Param("finalizedAt") LocalDateTime finalizedAt);
+    
+    @Modifying
+    @Query("update Agenda a set a.finalizedAt = :finalizedAt where a.id in :ids")
+    int markAllFinalized(@Param("ids") Collection<UUID> ids, @Param("finalizedAt") LocalDateTime finalizedAt);
+    
+    @Query("select a.id from Agenda a where a.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
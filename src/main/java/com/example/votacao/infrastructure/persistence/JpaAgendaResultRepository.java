@@ -0,0 +1,11 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.AgendaResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface JpaAgendaResultRepository extends JpaRepository<AgendaResult, UUID> {
+}
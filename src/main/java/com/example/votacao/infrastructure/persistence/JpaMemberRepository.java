@@ -1,14 +1,40 @@
 package com.example.votacao.infrastructure.persistence;
 
 import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.MemberSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface JpaMemberRepository extends JpaRepository<Member, UUID> {
-    Optional<Member> findByCpf(String cpf);
-    boolean existsByCpf(String cpf);
+    Optional<Member> findByCpf(long cpf);
+    boolean existsByCpf(long cpf);
+
+    @Query("select m.cpf from Member m")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    Stream<Long> streamAllCpfs();
+
+    @Query("select new com.example.votacao.domain.model.MemberSummary(m.id, m.name, m.cpf) from Member m")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    Stream<MemberSummary> streamAllSummaries();
+
+    @Query("select new com.example.votacao.domain.model.MemberSummary(m.id, m.name, m.cpf)"
+            + " from Member m order by m.name, m.id")
+    List<MemberSummary> findFirstSummaries(Limit limit);
+
+    // name >= :name lets idx_member_name seek to the cursor
+    @Query("select new com.example.votacao.domain.model.MemberSummary(m.id, m.name, m.cpf)"
+            + " from Member m where m.name >= :name and (m.name > :name or m.id > :id) order by m.name, m.id")
+    List<MemberSummary> findSummariesAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.example.votacao.infrastructure.persistence;
 
 import com.example.votacao.domain.model.Vote;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +19,23 @@ public interface JpaVoteRepository extends JpaRepository<Vote, UUID> {
     List<Vote> findByMemberId(UUID memberId);
     Optional<Vote> findByAgendaIdAndMemberId(UUID agendaId, UUID memberId);
     boolean existsByAgendaIdAndMemberId(UUID agendaId, UUID memberId);
+
+    // ordering by the full index prefix lets the database read the page straight off
+    // idx_vote_agenda_voted_at_id and stop after the limit instead of sorting the agenda's votes
+    @Query("select v from Vote v where v.agenda.id = :agendaId order by v.agenda.id, v.votedAt, v.id")
+    List<Vote> findFirstPage(@Param("agendaId") UUID agendaId, Limit limit);
+
+    // votedAt >= :votedAt lets the index seek to the cursor instead of scanning the agenda's earlier votes
+    @Query("select v from Vote v where v.agenda.id = :agendaId and v.votedAt >= :votedAt"
+            + " and (v.votedAt > :votedAt or v.id > :id)"
+            + " order by v.agenda.id, v.votedAt, v.id")
+    List<Vote> findPageAfter(@Param("agendaId") UUID agendaId, @Param("votedAt") LocalDateTime votedAt,
+                             @Param("id") UUID id, Limit limit);
+
+    @Query("select v.voteType, count(v) from Vote v where v.agenda.id = :agendaId group by v.voteType")
+    List<Object[]> countByVoteType(@Param("agendaId") UUID agendaId);
+
+    @Query("select v.agenda.id, v.voteType, count(v) from Vote v where v.agenda.id in :agendaIds"
+            + " group by v.agenda.id, v.voteType")
+    List<Object[]> countByAgendaAndVoteType(@Param("agendaIds") Collection<UUID> agendaIds);
 }
\ No newline at end of file
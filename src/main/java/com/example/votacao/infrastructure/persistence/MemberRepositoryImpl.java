@@ -1,19 +1,26 @@
 package com.example.votacao.infrastructure.persistence;
 
 import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.MemberSummary;
 import com.example.votacao.domain.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class MemberRepositoryImpl implements MemberRepository {
     
     private final JpaMemberRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RowCountEstimator rowCountEstimator;
     
     @Override
     public Member save(Member member) {
@@ -26,7 +33,7 @@ public class MemberRepositoryImpl implements MemberRepository {
     }
     
     @Override
-    public Optional<Member> findByCpf(String cpf) {
+    public Optional<Member> findByCpf(long cpf) {
         return jpaRepository.findByCpf(cpf);
     }
     
@@ -35,6 +42,11 @@ public class MemberRepositoryImpl implements MemberRepository {
         return jpaRepository.findAll();
     }
     
+    @Override
+    public List<Member> findFirst(int limit) {
+        return jpaRepository.findAll(PageRequest.of(0, limit)).getContent();
+    }
+    
     @Override
     public void delete(Member member) {
         jpaRepository.delete(member);
@@ -46,7 +58,41 @@ public class MemberRepositoryImpl implements MemberRepository {
     }
     
     @Override
-    public boolean existsByCpf(String cpf) {
+    public boolean existsByCpf(long cpf) {
         return jpaRepository.existsByCpf(cpf);
     }
-}
\ No newline at end of file
+    
+    @Override
+    public List<MemberSummary> findSummariesByName(String afterName, UUID afterId, int limit) {
+        if (afterName == null) {
+            return jpaRepository.findFirstSummaries(Limit.of(limit));
+        }
+        return jpaRepository.findSummariesAfter(afterName, afterId, Limit.of(limit));
+    }
+    
+    @Override
+    public long estimateCount() {
+        return rowCountEstimator.estimate("members");
+    }
+    
+    @Override
+    public void insertAll(List<Member> members) {
+        // plain JDBC batch: no merge SELECT for the assigned ids and no persistence context to grow
+        jdbcTemplate.batchUpdate("INSERT INTO members (id, cpf_number, name) VALUES (?, ?, ?)", members, members.size(),
+                (statement, member) -> {
+                    statement.setObject(1, member.getId());
+                    statement.setLong(2, member.packedCpf());
+                    statement.setString(3, member.getName());
+                });
+    }
+    
+    @Override
+    public Stream<Long> streamAllCpfs() {
+        return jpaRepository.streamAllCpfs();
+    }
+    
+    @Override
+    public Stream<MemberSummary> streamAllSummaries() {
+        return jpaRepository.streamAllSummaries();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.votacao.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Approximate table row counts read from the database statistics, which costs
+ * a catalog lookup instead of a table scan. Databases without a known
+ * statistics view fall back to an exact {@code COUNT(*)}.
+ */
+@Component
+@RequiredArgsConstructor
+class RowCountEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    long estimate(String table) {
+        Long estimate = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            long statistics = switch (connection.getMetaData().getDatabaseProductName()) {
+                case "H2" -> query(connection,
+                        "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?",
+                        table.toUpperCase());
+                case "PostgreSQL" -> query(connection,
+                        "SELECT reltuples::bigint FROM pg_class WHERE relname = ?", table);
+                default -> -1;
+            };
+            // PostgreSQL reports -1 for a table that was never analyzed
+            return statistics >= 0 ? statistics : count(connection, table);
+        });
+        return estimate != null ? estimate : 0;
+    }
+
+    private static long query(Connection connection, String sql, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getLong(1) : -1;
+            }
+        }
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
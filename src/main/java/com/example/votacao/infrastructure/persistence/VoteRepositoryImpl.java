@@ -1,19 +1,46 @@
 package com.example.votacao.infrastructure.persistence;
 
 import com.example.votacao.domain.model.Vote;
+import com.example.votacao.domain.model.VoteType;
+import com.example.votacao.domain.model.VotingResult;
 import com.example.votacao.domain.repository.VoteRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class VoteRepositoryImpl implements VoteRepository {
     
+    // ordered like idx_vote_agenda_voted_at_id so rows come off the index without a sort
+    private static final String EXPORT_SQL = "SELECT id, member_id, vote_type, voted_at FROM votes"
+            + " WHERE agenda_id = ? ORDER BY agenda_id, voted_at, id";
+    
     private final JpaVoteRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int exportFetchSize;
+    
+    public VoteRepositoryImpl(JpaVoteRepository jpaRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${voting.vote-export.fetch-size:1000}") int exportFetchSize) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
+    }
     
     @Override
     public Vote save(Vote vote) {
@@ -35,6 +62,47 @@ public class VoteRepositoryImpl implements VoteRepository {
         return jpaRepository.findByAgendaId(agendaId);
     }
     
+    @Override
+    public List<Vote> findPageByAgendaId(UUID agendaId, LocalDateTime afterVotedAt, UUID afterId, int limit) {
+        if (afterVotedAt == null) {
+            return jpaRepository.findFirstPage(agendaId, Limit.of(limit));
+        }
+        return jpaRepository.findPageAfter(agendaId, afterVotedAt, afterId, Limit.of(limit));
+    }
+    
+    @Override
+    public void forEachVoteOfAgenda(UUID agendaId, VoteRowHandler handler) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            // H2 materializes results before returning the first row unless lazy execution is on
+            boolean h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+            if (h2) {
+                setLazyQueryExecution(connection, true);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(exportFetchSize);
+                statement.setObject(1, agendaId);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        handler.accept(rows.getObject(1, UUID.class), rows.getObject(2, UUID.class),
+                                VoteType.valueOf(rows.getString(3)), rows.getObject(4, LocalDateTime.class));
+                    }
+                }
+            } finally {
+                if (h2) {
+                    setLazyQueryExecution(connection, false);
+                }
+            }
+            return null;
+        });
+    }
+    
+    private static void setLazyQueryExecution(Connection connection, boolean lazy) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + lazy);
+        }
+    }
+    
     @Override
     public List<Vote> findByMemberId(UUID memberId) {
         return jpaRepository.findByMemberId(memberId);
@@ -54,4 +122,38 @@ public class VoteRepositoryImpl implements VoteRepository {
     public boolean existsByAgendaIdAndMemberId(UUID agendaId, UUID memberId) {
         return jpaRepository.existsByAgendaIdAndMemberId(agendaId, memberId);
     }
+    
+    @Override
+    public VotingResult tallyByAgendaId(UUID agendaId) {
+        long yes = 0;
+        long no = 0;
+        for (Object[] row : jpaRepository.countByVoteType(agendaId)) {
+            long count = (Long) row[1];
+            if (row[0] == VoteType.YES) {
+                yes = count;
+            } else if (row[0] == VoteType.NO) {
+                no = count;
+            }
+        }
+        return new VotingResult(yes, no, yes + no);
+    }
+    
+    @Override
+    public Map<UUID, VotingResult> tallyByAgendaIds(Collection<UUID> agendaIds) {
+        Map<UUID, VotingResult> results = new HashMap<>();
+        if (agendaIds.isEmpty()) {
+            return results;
+        }
+        for (Object[] row : jpaRepository.countByAgendaAndVoteType(agendaIds)) {
+            VotingResult result = results.computeIfAbsent((UUID) row[0], id -> new VotingResult(0, 0, 0));
+            long count = (Long) row[2];
+            if (row[1] == VoteType.YES) {
+                result.setYesVotes(count);
+            } else if (row[1] == VoteType.NO) {
+                result.setNoVotes(count);
+            }
+            result.setTotalVotes(result.getYesVotes() + result.getNoVotes());
+        }
+        return results;
+    }
 }
\ No newline at end of file
@@ -1,42 +1,83 @@
 package com.example.votacao.infrastructure.util;
 
-import java.util.Random;
+import com.example.votacao.domain.model.Cpf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 public class CpfGenerator {
     
-    private static final Random random = new Random();
+    private static final int CHUNK = 16_384;
     
     public static String generateValidCpf() {
-        // Generate first 9 digits
-        StringBuilder cpf = new StringBuilder();
-        for (int i = 0; i < 9; i++) {
-            cpf.append(random.nextInt(10));
-        }
-        
-        // Calculate and append check digits
-        String cpfBase = cpf.toString();
-        int firstCheckDigit = calculateCheckDigit(cpfBase, 10);
-        int secondCheckDigit = calculateCheckDigit(cpfBase + firstCheckDigit, 11);
-        
-        cpf.append(firstCheckDigit).append(secondCheckDigit);
-        return cpf.toString();
+        return Cpf.toDigits(generatePackedCpf());
     }
     
     public static String generateFormattedValidCpf() {
-        String cpf = generateValidCpf();
-        return cpf.substring(0, 3) + "." + 
-               cpf.substring(3, 6) + "." + 
-               cpf.substring(6, 9) + "-" + 
-               cpf.substring(9, 11);
+        return Cpf.format(generatePackedCpf());
+    }
+    
+    /**
+     * Generates a random valid CPF in packed form. Bases whose digits are all
+     * equal are skipped, since those CPFs are rejected by validation.
+     */
+    public static long generatePackedCpf() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int base;
+        do {
+            base = random.nextInt(1_000_000_000);
+        } while (base % 111_111_111 == 0);
+        return Cpf.withCheckDigits(base);
+    }
+    
+    /**
+     * Unique valid CPFs in packed form: positions {@code [offset, offset + count)}
+     * of the permutation for {@code seed}. Runs with the same seed and disjoint
+     * ranges never repeat a CPF. The stream may be made parallel.
+     */
+    public static LongStream uniquePackedCpfs(long seed, long offset, long count) {
+        checkRange(offset, count);
+        CpfPermutation permutation = new CpfPermutation(seed);
+        return LongStream.range(offset, offset + count).map(permutation::packedAt);
+    }
+    
+    /**
+     * Writes unique valid CPFs as ASCII lines, digits only or formatted.
+     *
+     * Each chunk is encoded in parallel straight into a byte buffer and then
+     * written in order, so output order is deterministic for a seed.
+     */
+    public static void writeUniqueCpfs(long seed, long offset, long count, boolean formatted,
+                                       OutputStream out) throws IOException {
+        checkRange(offset, count);
+        CpfPermutation permutation = new CpfPermutation(seed);
+        int lineLength = (formatted ? Cpf.FORMATTED_LENGTH : Cpf.DIGITS) + 1;
+        byte[] buffer = new byte[CHUNK * lineLength];
+        for (long start = offset, end = offset + count; start < end; start += CHUNK) {
+            long chunkStart = start;
+            int size = (int) Math.min(CHUNK, end - start);
+            IntStream.range(0, size).parallel().forEach(i -> {
+                long packed = permutation.packedAt(chunkStart + i);
+                int position = i * lineLength;
+                if (formatted) {
+                    Cpf.putFormatted(packed, buffer, position);
+                } else {
+                    Cpf.putDigits(packed, buffer, position);
+                }
+                buffer[position + lineLength - 1] = '\n';
+            });
+            out.write(buffer, 0, size * lineLength);
+        }
     }
     
-    private static int calculateCheckDigit(String cpf, int weight) {
-        int sum = 0;
-        for (int i = 0; i < cpf.length(); i++) {
-            sum += Character.getNumericValue(cpf.charAt(i)) * (weight - i);
+    public static void checkRange(long offset, long count) {
+        if (offset < 0 || count < 0 || offset > CpfPermutation.SIZE - count) {
+            throw new IllegalArgumentException(
+                    "offset + count must not exceed " + CpfPermutation.SIZE + " valid CPFs");
         }
-        int remainder = sum % 11;
-        return remainder < 2 ? 0 : 11 - remainder;
     }
     
     // Generate some sample valid CPFs for testing
@@ -49,4 +90,4 @@ public class CpfGenerator {
                 "55588811743"
         };
     }
-}
\ No newline at end of file
+}
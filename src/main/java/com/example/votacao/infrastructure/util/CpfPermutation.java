@@ -0,0 +1,64 @@
+package com.example.votacao.infrastructure.util;
+
+import com.example.votacao.domain.model.Cpf;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded permutation of every valid CPF.
+ *
+ * Index {@code i} in {@code [0, SIZE)} maps to a distinct CPF, so any range of
+ * indices yields unique CPFs and disjoint ranges of one seed never collide.
+ * The permutation is an affine map {@code (a * x + c) mod 10^9} over the
+ * 9-digit bases, with {@code a} coprime to 10, walked again whenever it lands
+ * on one of the ten repeated-digit bases. Lookups are stateless, so ranges can
+ * be generated in parallel without coordination.
+ *
+ * Design Decision: An arithmetic permutation instead of a "seen" set, so
+ * uniqueness costs no memory however many CPFs a run produces.
+ */
+public final class CpfPermutation {
+
+    /**
+     * Number of valid CPFs: every 9-digit base except the ten with all digits equal.
+     */
+    public static final long SIZE = 999_999_990L;
+
+    private static final long BASES = 1_000_000_000L;
+    private static final long REPEATED_DIGITS = 111_111_111L;
+
+    private final long seed;
+    private final long multiplier;
+    private final long increment;
+
+    public CpfPermutation(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long a;
+        do {
+            a = random.nextLong(1, BASES);
+        } while (a % 2 == 0 || a % 5 == 0);
+        this.seed = seed;
+        this.multiplier = a;
+        this.increment = random.nextLong(BASES);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * @param index position in the permutation, between 0 and {@link #SIZE} - 1
+     * @return the packed CPF at that position
+     */
+    public long packedAt(long index) {
+        if (index < 0 || index >= SIZE) {
+            throw new IllegalArgumentException("CPF index out of range: " + index);
+        }
+        // index-th base that is not a repeated-digit one (those are the multiples of 111,111,111)
+        long base = index + index / (REPEATED_DIGITS - 1) + 1;
+        do {
+            base = (multiplier * base + increment) % BASES;
+        } while (base % REPEATED_DIGITS == 0);
+        return Cpf.withCheckDigits((int) base);
+    }
+}
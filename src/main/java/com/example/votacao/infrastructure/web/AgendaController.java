@@ -2,6 +2,9 @@ package com.example.votacao.infrastructure.web;
 
 import com.example.votacao.application.dto.*;
 import com.example.votacao.application.usecase.AgendaService;
+import com.example.votacao.application.usecase.AsyncVotingService;
+import com.example.votacao.application.usecase.LiveResultService;
+import com.example.votacao.domain.model.VotingSessionStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,10 +15,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +36,10 @@ import java.util.UUID;
 public class AgendaController {
     
     private final AgendaService agendaService;
+    private final AsyncVotingService asyncVotingService;
+    private final LiveResultService liveResultService;
+    private final HttpCachePolicy httpCachePolicy;
+    private final SerializedResponseCache serializedResponseCache;
     
     @PostMapping("/v1")
     @Operation(
@@ -108,32 +121,198 @@ public class AgendaController {
     }
     
     @GetMapping("/v1/{agendaId}")
-    @Operation(summary = "Get agenda details", description = "Retrieve details of a specific agenda")
+    @Operation(summary = "Get agenda details", description = "Retrieve details of a specific agenda. "
+            + "Responses carry an ETag; a matching If-None-Match is answered with 304 Not Modified.")
     public ResponseEntity<AgendaResponse> getAgenda(
-            @Parameter(description = "Agenda ID") @PathVariable UUID agendaId) {
+            @Parameter(description = "Agenda ID") @PathVariable UUID agendaId, ServletWebRequest request) {
+        long version = agendaService.getVersion(agendaId);
+        if (httpCachePolicy.checkNotModified(request, version, agendaService.isResultFinal(agendaId))) {
+            return null;
+        }
         AgendaResponse response = agendaService.getAgenda(agendaId);
-        return ResponseEntity.ok(response);
+        return httpCachePolicy.ok(version, response.getFinalizedAt() != null).body(response);
     }
     
     @GetMapping("/v1")
-    @Operation(summary = "Get all agendas", description = "Retrieve all agendas")
+    @Operation(
+        summary = "Get all agendas",
+        description = "Retrieve all agendas in one response. Use GET /api/agendas/v2 to page and filter.",
+        deprecated = true
+    )
     public ResponseEntity<List<AgendaResponse>> getAllAgendas() {
         List<AgendaResponse> response = agendaService.getAllAgendas();
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/v2")
+    @Operation(
+        summary = "Page through agendas",
+        description = "Retrieve agendas newest first, one page at a time, optionally filtered by status and "
+            + "creation time. Pass the returned nextCursor with the same filters to get the next page; it is "
+            + "null on the last page. totalEstimate is an approximate count of all agendas, refreshed at most every "
+            + "30 seconds, and is null when a filter is applied."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    {
+                      "items": [
+                        {
+                          "id": "123e4567-e89b-12d3-a456-426614174000",
+                          "title": "Approval of Annual Budget 2025",
+                          "status": "OPEN",
+                          "createdAt": "2025-09-19T10:30:00",
+                          "sessionEndTime": "2025-09-19T10:31:00",
+                          "votingOpen": true
+                        }
+                      ],
+                      "nextCursor": "MjAyNS0wOS0xOVQxMDozMDowMHwxMjNlNDU2Ny1lODliLTEyZDMtYTQ1Ni00MjY2MTQxNzQwMDA",
+                      "totalEstimate": 1500
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Limit out of range or malformed cursor"
+        )
+    })
+    public ResponseEntity<PageResponse<AgendaSummaryResponse>> listAgendas(
+            @Parameter(description = "Only agendas with this session status")
+            @RequestParam(required = false) VotingSessionStatus status,
+            @Parameter(description = "Only agendas created at or after this time", example = "2025-09-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Only agendas created before this time", example = "2025-10-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to 1000")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(agendaService.listAgendas(status, createdFrom, createdTo, cursor, limit));
+    }
+    
     @GetMapping("/v1/voting-sessions/open")
-    @Operation(summary = "Get open voting sessions", description = "Retrieve all agendas with open voting sessions")
-    public ResponseEntity<List<AgendaResponse>> getOpenVotingSessions() {
-        List<AgendaResponse> response = agendaService.getOpenVotingSessions();
-        return ResponseEntity.ok(response);
+    @Operation(summary = "Get open voting sessions", description = "Retrieve all agendas with open voting sessions. "
+            + "Served pre-serialized (gzip when accepted) with an ETag until a session opens or closes.")
+    public ResponseEntity<List<AgendaResponse>> getOpenVotingSessions(ServletWebRequest request) throws IOException {
+        long version = agendaService.getOpenVotingSessionsVersion();
+        if (!httpCachePolicy.checkNotModified(request, version, false)) {
+            serializedResponseCache.write(request, "open-sessions", version, false,
+                    () -> new Versioned<>(agendaService.getOpenVotingSessions(), version));
+        }
+        return null;
     }
     
     @GetMapping("/v1/{agendaId}/result")
-    @Operation(summary = "Get voting result", description = "Get the voting result for a specific agenda")
+    @Operation(summary = "Get voting result", description = "Get the voting result for a specific agenda. "
+            + "When a consistency token (an async vote receipt id) is given, the result is guaranteed to include that vote. "
+            + "Responses carry an ETag; a matching If-None-Match is answered with 304 Not Modified. "
+            + "Final results may be reused for a minute without revalidating.")
     public ResponseEntity<VotingResultResponse> getVotingResult(
+            @Parameter(description = "Agenda ID") @PathVariable UUID agendaId,
+            @Parameter(description = "Receipt id returned by the async vote endpoint")
+            @RequestParam(required = false) UUID consistencyToken,
+            ServletWebRequest request) throws IOException {
+        if (consistencyToken != null) {
+            asyncVotingService.awaitCompletion(agendaId, consistencyToken);
+            return ResponseEntity.ok(agendaService.getCurrentVotingResult(agendaId));
+        }
+        boolean isFinal = agendaService.isResultFinal(agendaId);
+        long version = agendaService.getVersion(agendaId);
+        if (httpCachePolicy.checkNotModified(request, version, isFinal)) {
+            return null;
+        }
+        if (isFinal) {
+            // final results are read far more often than they change: serve them pre-serialized
+            serializedResponseCache.write(request, agendaId, version, true,
+                    () -> agendaService.getVersionedVotingResult(agendaId));
+            return null;
+        }
+        Versioned<VotingResultResponse> response = agendaService.getVersionedVotingResult(agendaId);
+        return httpCachePolicy.ok(response.version(), false).body(response.value());
+    }
+    
+    @PostMapping("/v1/results")
+    @Operation(summary = "Get voting results in bulk", description = "Get the voting results of up to 500 agendas "
+            + "in one response, in the order of the given ids. Each result carries the version the single-agenda "
+            + "result endpoint uses as ETag.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Results retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    [
+                      {
+                        "agendaId": "123e4567-e89b-12d3-a456-426614174000",
+                        "version": 42,
+                        "result": {
+                          "yesVotes": 30,
+                          "noVotes": 10,
+                          "totalVotes": 40,
+                          "result": "APPROVED",
+                          "yesPercentage": 75.0,
+                          "noPercentage": 25.0
+                        }
+                      }
+                    ]
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty or too long id list, or unknown agendas"
+        )
+    })
+    public ResponseEntity<List<AgendaVotingResultResponse>> getVotingResults(
+            @Valid @RequestBody AgendaResultsRequest request) {
+        return ResponseEntity.ok(agendaService.getVotingResults(request.getAgendaIds()));
+    }
+    
+    @GetMapping("/v1/results")
+    @Operation(summary = "Page through voting results", description = "Get the voting results of agendas newest "
+            + "first, one page at a time, optionally filtered by status. Pass the returned nextCursor with the same "
+            + "status to get the next page; it is null on the last page. totalEstimate is always null.")
+    public ResponseEntity<PageResponse<AgendaVotingResultResponse>> listVotingResults(
+            @Parameter(description = "Only agendas with this session status")
+            @RequestParam(required = false) VotingSessionStatus status,
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to 500")
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(agendaService.listVotingResults(status, cursor, limit));
+    }
+    
+    @GetMapping(value = "/v1/{agendaId}/result/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream voting results", description = "Server-Sent Events stream of the agenda's voting result. "
+            + "The current result is sent on connect, then at most one `result` event per update interval while votes "
+            + "arrive; each event id is the result version. Slow clients skip intermediate results but always receive "
+            + "the latest one. The stream ends after the final result once the session is over.")
+    public SseEmitter streamVotingResult(@Parameter(description = "Agenda ID") @PathVariable UUID agendaId) {
+        SseEmitter emitter = new SseEmitter();
+        LiveResultService.Subscription subscription =
+                liveResultService.subscribe(agendaId, new SseResultSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+    
+    @PostMapping("/v1/{agendaId}/result/recompute")
+    @Operation(summary = "Recompute final result", description = "Administrative operation that recomputes the stored "
+            + "final result of a closed agenda from its votes")
+    public ResponseEntity<VotingResultResponse> recomputeFinalResult(
             @Parameter(description = "Agenda ID") @PathVariable UUID agendaId) {
-        VotingResultResponse response = agendaService.getVotingResult(agendaId);
+        VotingResultResponse response = agendaService.recomputeFinalResult(agendaId);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,23 @@
 package com.example.votacao.infrastructure.web;
 
+import com.example.votacao.domain.model.Cpf;
 import com.example.votacao.infrastructure.util.CpfGenerator;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 @RestController
 @RequestMapping("/api/cpf-generator")
@@ -51,15 +56,49 @@ public class CpfGeneratorController {
         )
     })
     public ResponseEntity<Map<String, String>> generateCpf() {
-        String cpf = CpfGenerator.generateValidCpf();
-        String formattedCpf = CpfGenerator.generateFormattedValidCpf();
+        long packed = CpfGenerator.generatePackedCpf();
         
         return ResponseEntity.ok(Map.of(
-                "cpf", cpf,
-                "formatted", formattedCpf
+                "cpf", Cpf.toDigits(packed),
+                "formatted", Cpf.format(packed)
         ));
     }
     
+    @GetMapping(value = "/v1/bulk", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(
+        summary = "Stream unique valid CPFs", 
+        description = """
+        Streams `count` valid CPFs, one per line, for load-test data.
+        
+        - CPFs are unique within a run: a run is identified by its `seed`, returned in the `X-Cpf-Seed` header
+        - Requests with the same seed and non-overlapping `offset` ranges never repeat a CPF
+        - The same seed, offset and count always produce the same CPFs in the same order
+        - `formatted=true` writes `000.000.000-00` instead of bare digits
+        
+        """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "CPFs streamed as text, one per line"),
+        @ApiResponse(responseCode = "400", description = "offset + count exceeds the number of valid CPFs")
+    })
+    public ResponseEntity<StreamingResponseBody> generateCpfs(
+            @Parameter(description = "Number of CPFs to generate", example = "1000000")
+            @RequestParam long count,
+            @Parameter(description = "Run seed; random when omitted")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Position in the run to start from")
+            @RequestParam(defaultValue = "0") long offset,
+            @RequestParam(defaultValue = "false") boolean formatted) {
+        long runSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        // reject a bad range before the response starts
+        CpfGenerator.checkRange(offset, count);
+        
+        return ResponseEntity.ok()
+                .header("X-Cpf-Seed", Long.toString(runSeed))
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> CpfGenerator.writeUniqueCpfs(runSeed, offset, count, formatted, out));
+    }
+    
     @GetMapping("/v1/samples")
     @Operation(
         summary = "Get sample valid CPFs", 
@@ -2,6 +2,7 @@ package com.example.votacao.infrastructure.web;
 
 import com.example.votacao.domain.model.CpfValidationResponse;
 import com.example.votacao.domain.service.CpfValidationService;
+import com.example.votacao.infrastructure.external.BulkCpfValidationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,8 +12,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/cpf")
@@ -20,7 +24,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "CPF Validation", description = "Brazilian CPF validation and eligibility checking. Validates CPF format and checks voting eligibility status.")
 public class CpfValidationController {
     
+    private static final String NDJSON = "application/x-ndjson";
+
     private final CpfValidationService cpfValidationService;
+    private final BulkCpfValidationService bulkCpfValidationService;
     
     @GetMapping("/v1/validate/{cpf}")
     @Operation(
@@ -132,4 +139,39 @@ public class CpfValidationController {
         CpfValidationResponse response = cpfValidationService.validateCpf(cpf);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/v1/validate/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON, MediaType.TEXT_PLAIN_VALUE},
+            produces = NDJSON)
+    @Operation(
+        summary = "Validate many CPFs in one request",
+        description = """
+        Validates up to `voting.cpf-validation.bulk.max-size` CPFs (default 100,000) per request.
+        
+        **Input:** a JSON array of strings, or one CPF per line (`application/x-ndjson` or `text/plain`).
+        
+        **Output:** one NDJSON line per input entry, in input order and streamed as results become available,
+        followed by a summary line with the throughput:
+        ```
+        {"index":0,"cpf":"11144477735","status":"ABLE_TO_VOTE"}
+        {"index":1,"cpf":"123","status":"INVALID"}
+        {"summary":{"total":2,"valid":1,"lookups":1,"ableToVote":1,"unavailable":0,"elapsedMillis":3,"cpfsPerSecond":666}}
+        ```
+        Status is one of `ABLE_TO_VOTE`, `UNABLE_TO_VOTE`, `NOT_FOUND`, `INVALID` or `UNAVAILABLE`.
+        Format and check digits are verified locally; eligibility is looked up once per distinct CPF.
+        """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Per-CPF results streamed as NDJSON"),
+        @ApiResponse(responseCode = "400", description = "Malformed body or too many CPFs")
+    })
+    public ResponseEntity<StreamingResponseBody> validateCpfs(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestBody byte[] body) {
+        BulkCpfValidationService.Batch batch = bulkCpfValidationService.parse(
+                body, MediaType.APPLICATION_JSON.isCompatibleWith(contentType));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(out -> bulkCpfValidationService.stream(batch, out));
+    }
+}
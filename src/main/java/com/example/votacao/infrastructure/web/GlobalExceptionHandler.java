@@ -4,6 +4,7 @@ import com.example.votacao.domain.exception.BusinessException;
 import com.example.votacao.domain.exception.EntityNotFoundException;
 import com.example.votacao.domain.exception.VotingException;
 import com.example.votacao.infrastructure.external.CpfValidationClient;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,7 +12,9 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -109,7 +112,26 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-    
+
+    /**
+     * Handles an unavailable CPF validation service; the client may retry later.
+     */
+    @ExceptionHandler(CpfValidationClient.CpfValidationUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleCpfValidationUnavailable(
+            CpfValidationClient.CpfValidationUnavailableException ex) {
+        log.warn("CPF validation unavailable: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "CPF_VALIDATION_UNAVAILABLE",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "5")
+                .body(error);
+    }
+
     /**
      * Handles validation errors from request body validation.
      */
@@ -166,6 +188,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
     
+    /**
+     * Handles clients that went away in the middle of a response, e.g. a
+     * closed live results or export stream. The response is already
+     * committed, so there is nobody left to send an error to.
+     */
+    @ExceptionHandler({AsyncRequestNotUsableException.class, IOException.class})
+    public ResponseEntity<ErrorResponse> handleClientDisconnect(Exception ex, HttpServletResponse response) {
+        if (!(ex instanceof AsyncRequestNotUsableException) && !response.isCommitted()) {
+            return handleGenericException(ex);
+        }
+        log.debug("Client disconnected: {}", ex.getMessage());
+        return null;
+    }
+    
     /**
      * Handles unexpected exceptions.
      */
@@ -0,0 +1,77 @@
+package com.example.votacao.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+
+/**
+ * Entity tags and {@code Cache-Control} for agenda resources.
+ *
+ * The entity tag is the agenda version, prefixed with a per-process epoch
+ * because versions restart from zero on startup. Final results may be reused
+ * for {@code voting.http-cache.final-max-age} without asking; everything else
+ * must be revalidated, which the entity tag makes cheap.
+ *
+ * Design Decision: Final results get a short lifetime, not a long immutable
+ * one: an administrative recompute can still change them, and a cache must
+ * not keep serving the replaced result for long.
+ */
+@Component
+class HttpCachePolicy {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final CacheControl finalCacheControl;
+
+    HttpCachePolicy(@Value("${voting.http-cache.final-max-age:60s}") Duration finalMaxAge) {
+        this.finalCacheControl = CacheControl.maxAge(finalMaxAge);
+    }
+
+    /**
+     * Answers a conditional request with 304 when the client's copy is at the
+     * given version. Version 0 is never matched: it is also what unknown
+     * agendas report.
+     *
+     * @return {@code true} if the response was completed as 304 Not Modified
+     */
+    boolean checkNotModified(ServletWebRequest request, long version, boolean isFinal) {
+        if (version == 0 || !request.checkNotModified(etag(version))) {
+            return false;
+        }
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(isFinal).getHeaderValue());
+        }
+        return true;
+    }
+
+    /**
+     * Starts a 200 response carrying the version's entity tag and cache policy.
+     */
+    ResponseEntity.BodyBuilder ok(long version, boolean isFinal) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl(isFinal));
+        return version == 0 ? builder : builder.eTag(etag(version));
+    }
+
+    /**
+     * Sets the version's entity tag and cache policy on a response written directly.
+     */
+    void writeHeaders(HttpServletResponse response, long version, boolean isFinal) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(isFinal).getHeaderValue());
+        if (version != 0) {
+            response.setHeader(HttpHeaders.ETAG, etag(version));
+        }
+    }
+
+    String etag(long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    private CacheControl cacheControl(boolean isFinal) {
+        return isFinal ? finalCacheControl : CacheControl.noCache();
+    }
+}
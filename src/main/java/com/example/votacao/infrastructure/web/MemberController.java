@@ -1,6 +1,9 @@
 package com.example.votacao.infrastructure.web;
 
 import com.example.votacao.application.dto.CreateMemberRequest;
+import com.example.votacao.application.dto.MemberSummaryResponse;
+import com.example.votacao.application.dto.PageResponse;
+import com.example.votacao.application.usecase.MemberImportService;
 import com.example.votacao.application.usecase.MemberService;
 import com.example.votacao.domain.model.Member;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,10 +16,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,7 +34,11 @@ import java.util.UUID;
 @Tag(name = "Members", description = "Cooperative member management operations. Members are registered with CPF validation and eligibility checking.")
 public class MemberController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
     
     @PostMapping("/v1")
     @Operation(
@@ -202,7 +213,12 @@ public class MemberController {
     }
     
     @GetMapping("/v1")
-    @Operation(summary = "Get all members", description = "Retrieve all registered cooperative members")
+    @Operation(
+        summary = "Get all members",
+        description = "Retrieve all registered cooperative members in one response. "
+            + "Use GET /api/members/v2 to page through them.",
+        deprecated = true
+    )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200", 
@@ -234,4 +250,118 @@ public class MemberController {
         List<Member> members = memberService.getAllMembers();
         return ResponseEntity.ok(members);
     }
-}
\ No newline at end of file
+    
+    @GetMapping("/v1/search")
+    @Operation(
+        summary = "Search members by name",
+        description = "Typeahead search: members whose name starts with the given prefix, ignoring case, accents "
+            + "and repeated spaces, in alphabetical order. Served from memory; members appear as soon as their "
+            + "registration or import commits."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching members, possibly none",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    [
+                      {
+                        "id": "123e4567-e89b-12d3-a456-426614174000",
+                        "name": "João Silva",
+                        "cpf": "12345678901"
+                      }
+                    ]
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Blank prefix or limit out of range"
+        )
+    })
+    public ResponseEntity<List<MemberSummaryResponse>> searchMembers(
+            @Parameter(description = "Start of the member name", example = "joao s")
+            @RequestParam String name,
+            @Parameter(description = "Maximum number of matches, 1 to 50")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(memberService.searchMembersByName(name, limit));
+    }
+    
+    @GetMapping("/v2")
+    @Operation(
+        summary = "Page through members",
+        description = "Retrieve members ordered by name, one page at a time. Pass the returned nextCursor to get "
+            + "the next page; it is null on the last page. totalEstimate is an approximate member count, "
+            + "refreshed at most every 30 seconds."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    {
+                      "items": [
+                        {
+                          "id": "123e4567-e89b-12d3-a456-426614174000",
+                          "name": "João Silva",
+                          "cpf": "12345678901"
+                        }
+                      ],
+                      "nextCursor": "Sm_Do28gU2lsdmF8MTIzZTQ1NjctZTg5Yi0xMmQzLWE0NTYtNDI2NjE0MTc0MDAw",
+                      "totalEstimate": 1000000
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Limit out of range or malformed cursor"
+        )
+    })
+    public ResponseEntity<PageResponse<MemberSummaryResponse>> listMembers(
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to 1000")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(memberService.listMembers(cursor, limit));
+    }
+
+    @PostMapping(value = "/v1/import", consumes = {CSV, NDJSON}, produces = NDJSON)
+    @Operation(
+        summary = "Import members in bulk",
+        description = """
+        Streams a member file into the database in chunks.
+        
+        **Input:** `text/csv` with `cpf,name` rows (an optional `cpf,name` header is skipped; quote names
+        containing commas), or `application/x-ndjson` with one `{"cpf": "...", "name": "..."}` object per line.
+        
+        **Output:** one NDJSON line per rejected row, streamed while the import runs, then a summary:
+        ```
+        {"row":3,"cpf":"12345","error":"INVALID_CPF","message":"CPF is not valid"}
+        {"summary":{"rows":1000000,"imported":999999,"failed":1,"elapsedMillis":21000,"rowsPerSecond":47619}}
+        ```
+        Errors: `MALFORMED_ROW`, `INVALID_CPF`, `INVALID_NAME`, `ALREADY_EXISTS`, `DUPLICATE_IN_FILE`,
+        `CPF_REJECTED` (eligibility check failed) and `INSERT_FAILED`. Rows without errors are imported.
+        """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import ran; rejected rows and the summary are streamed as NDJSON")
+    })
+    public ResponseEntity<StreamingResponseBody> importMembers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        MemberImportService.Format format = MediaType.parseMediaType(CSV).isCompatibleWith(contentType)
+                ? MemberImportService.Format.CSV
+                : MemberImportService.Format.NDJSON;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(out -> memberImportService.importMembers(body, format, out));
+    }
+}
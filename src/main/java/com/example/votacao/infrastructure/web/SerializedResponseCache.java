@@ -0,0 +1,125 @@
+package com.example.votacao.infrastructure.web;
+
+import com.example.votacao.application.dto.Versioned;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches hot GET responses as finished UTF-8 JSON bytes, plus a gzip variant,
+ * and writes them straight to the servlet response.
+ *
+ * Entries remember the version they were serialized at and only count as
+ * hits at that version, so they are invalidated by the same version signal
+ * as the data, without explicit evictions.
+ *
+ * Design Decision: The agendas and results caches already spare the
+ * repository, but every hit still went through Jackson, and the response
+ * was never compressed. For bodies read far more often than they change,
+ * serializing and compressing once per version is cheaper on both ends.
+ */
+@Component
+class SerializedResponseCache {
+
+    static final String CACHE_NAME = "serialized-responses";
+    // below this, gzip framing costs more than it saves
+    private static final int GZIP_MIN_SIZE = 512;
+
+    private final Cache cache;
+    private final ObjectMapper objectMapper;
+    private final HttpCachePolicy httpCachePolicy;
+
+    SerializedResponseCache(CacheManager cacheManager, ObjectMapper objectMapper, HttpCachePolicy httpCachePolicy) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.objectMapper = objectMapper;
+        this.httpCachePolicy = httpCachePolicy;
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CACHE_NAME + " is not configured");
+        }
+    }
+
+    /**
+     * Writes the JSON of the resource at {@code version} as a 200 response,
+     * serializing what {@code loader} returns only when no entry for that
+     * version is cached.
+     */
+    void write(ServletWebRequest request, Object key, long version, boolean isFinal,
+               Supplier<? extends Versioned<?>> loader) throws IOException {
+        Entry entry = cache.get(key, Entry.class);
+        if (entry == null || entry.version() != version) {
+            Versioned<?> loaded = loader.get();
+            entry = serialize(loaded.value(), loaded.version());
+            cache.put(key, entry);
+        }
+
+        HttpServletResponse response = request.getResponse();
+        if (response == null) {
+            throw new IllegalStateException("No servlet response to write to");
+        }
+        boolean gzip = entry.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? entry.gzip() : entry.json();
+        httpCachePolicy.writeHeaders(response, entry.version(), isFinal);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private Entry serialize(Object value, long version) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] gzip = null;
+            if (json.length >= GZIP_MIN_SIZE) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                    out.write(json);
+                }
+                gzip = buffer.toByteArray();
+            }
+            return new Entry(version, json, gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize response", e);
+        }
+    }
+
+    /**
+     * Whether the {@code Accept-Encoding} header accepts gzip, i.e. lists it or
+     * {@code *} without {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                refused |= parameter.matches("q=0(\\.0{0,3})?");
+            }
+            return !refused;
+        }
+        return false;
+    }
+
+    record Entry(long version, byte[] json, byte[] gzip) {
+    }
+}
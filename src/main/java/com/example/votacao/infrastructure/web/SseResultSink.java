@@ -0,0 +1,39 @@
+package com.example.votacao.infrastructure.web;
+
+import com.example.votacao.application.dto.VotingResultResponse;
+import com.example.votacao.application.usecase.LiveResultService;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Writes live results to a Server-Sent Events stream: each result is a
+ * {@code result} event whose id is the result version, heartbeats are comments.
+ */
+class SseResultSink implements LiveResultService.ResultSink {
+
+    private final SseEmitter emitter;
+
+    SseResultSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(long version, VotingResultResponse result) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(version))
+                .name("result")
+                .data(result, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+}
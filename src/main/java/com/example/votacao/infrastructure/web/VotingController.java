@@ -1,8 +1,13 @@
 package com.example.votacao.infrastructure.web;
 
 import com.example.votacao.application.dto.CreateVoteRequest;
+import com.example.votacao.application.dto.VotePageResponse;
+import com.example.votacao.application.dto.VoteReceiptResponse;
 import com.example.votacao.application.dto.VoteResponse;
+import com.example.votacao.application.usecase.AsyncVotingService;
+import com.example.votacao.application.usecase.VoteExportService;
 import com.example.votacao.application.usecase.VotingService;
+import com.example.votacao.domain.model.VoteReceiptStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,11 +17,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174"})
 @RestController
@@ -26,6 +39,8 @@ import java.util.UUID;
 public class VotingController {
     
     private final VotingService votingService;
+    private final AsyncVotingService asyncVotingService;
+    private final VoteExportService voteExportService;
     
     @PostMapping("/v1/{agendaId}/votes")
     @Operation(
@@ -120,10 +135,71 @@ public class VotingController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/v1/{agendaId}/votes:async")
+    @Operation(
+        summary = "Submit a vote asynchronously",
+        description = "Validates the request shape, enqueues the vote and returns a receipt immediately. "
+                + "Poll the receipt for the final outcome, or pass its id as consistencyToken when reading the result."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Vote accepted for processing",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    {
+                      "receiptId": "7c9e6679-7425-40de-944b-e07fc1f90ae7",
+                      "agendaId": "123e4567-e89b-12d3-a456-426614174000",
+                      "status": "PENDING",
+                      "reason": null,
+                      "submittedAt": "2025-09-19T10:30:00",
+                      "completedAt": null
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Malformed vote request"),
+        @ApiResponse(responseCode = "503", description = "Vote queue is full, retry later")
+    })
+    public ResponseEntity<VoteReceiptResponse> voteAsync(
+            @Parameter(description = "Agenda ID to vote on", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID agendaId,
+            @Valid @RequestBody CreateVoteRequest request) {
+        VoteReceiptResponse receipt = asyncVotingService.submit(agendaId, request);
+        if (receipt.getStatus() == VoteReceiptStatus.REJECTED) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(receipt);
+        }
+        return ResponseEntity.accepted().body(receipt);
+    }
+
+    @GetMapping("/v1/{agendaId}/votes/receipts/{receiptId}")
+    @Operation(
+        summary = "Get async vote status",
+        description = "Reports whether an asynchronously submitted vote is PENDING, ACCEPTED or REJECTED (with a reason)."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Receipt found"),
+        @ApiResponse(responseCode = "404", description = "Receipt unknown or expired")
+    })
+    public ResponseEntity<VoteReceiptResponse> getVoteReceipt(
+            @Parameter(description = "Agenda ID the vote was submitted to") @PathVariable UUID agendaId,
+            @Parameter(description = "Receipt ID returned by the async vote endpoint") @PathVariable UUID receiptId) {
+        return asyncVotingService.getReceipt(agendaId, receiptId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/v1/{agendaId}/votes")
     @Operation(
         summary = "Get votes for an agenda",
-        description = "Retrieve all votes submitted for a specific agenda."
+        description = "Retrieve all votes submitted for a specific agenda in one response. "
+            + "Use GET /api/agendas/v2/{agendaId}/votes to page through large agendas.",
+        deprecated = true
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -156,4 +232,113 @@ public class VotingController {
         List<VoteResponse> votes = votingService.getVotesByAgenda(agendaId);
         return ResponseEntity.ok(votes);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/v2/{agendaId}/votes")
+    @Operation(
+        summary = "Page through the votes of an agenda",
+        description = "Retrieve votes ordered by vote time, one page at a time. Pass the returned "
+            + "nextCursor to get the next page; it is null on the last page."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = """
+                    {
+                      "votes": [
+                        {
+                          "id": "6f1c2a9e-3d4b-4e8f-9a1b-2c3d4e5f6a7b",
+                          "memberId": "987fcdeb-51a2-43d7-8f9e-123456789abc",
+                          "voteType": "YES",
+                          "votedAt": "2025-09-19T10:30:00.123456"
+                        }
+                      ],
+                      "nextCursor": "MjAyNS0wOS0xOVQxMDozMDowMC4xMjM0NTZ8NmYxYzJhOWUtM2Q0Yi00ZThmLTlhMWItMmMzZDRlNWY2YTdi"
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Limit out of range or malformed cursor"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Agenda not found"
+        )
+    })
+    public ResponseEntity<VotePageResponse> getVotesPage(
+            @Parameter(
+                description = "Agenda ID to get votes for",
+                example = "123e4567-e89b-12d3-a456-426614174000"
+            )
+            @PathVariable UUID agendaId,
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, 1 to " + VotingService.MAX_PAGE_SIZE, example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(votingService.getVotesPage(agendaId, cursor, limit));
+    }
+
+    @GetMapping("/v1/{agendaId}/votes/export")
+    @Operation(
+        summary = "Export the votes of an agenda",
+        description = """
+        Streams every vote of an agenda, ordered by vote time, as a download for audits.
+        
+        **Formats:** `csv` (default; header `id,member_id,vote_type,voted_at`) or `ndjson`
+        (one `{"id":...,"memberId":...,"voteType":...,"votedAt":...}` object per line).
+        
+        The body is gzip-compressed when the request sends `Accept-Encoding: gzip`.
+        """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Votes streamed"),
+        @ApiResponse(responseCode = "400", description = "Unknown format"),
+        @ApiResponse(responseCode = "404", description = "Agenda not found")
+    })
+    public ResponseEntity<StreamingResponseBody> exportVotes(
+            @Parameter(
+                description = "Agenda ID to export votes for",
+                example = "123e4567-e89b-12d3-a456-426614174000"
+            )
+            @PathVariable UUID agendaId,
+            @Parameter(description = "csv or ndjson", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        VoteExportService.Format exportFormat = parseExportFormat(format);
+        voteExportService.verifyAgendaExists(agendaId);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == VoteExportService.Format.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"votes-" + agendaId + "."
+                        + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return response.body(out -> voteExportService.export(agendaId, exportFormat, out));
+        }
+        return response
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    // the container owns the response stream; only finish the gzip trailer
+                    try (GZIPOutputStream compressed = new GZIPOutputStream(StreamUtils.nonClosing(out), 64 * 1024)) {
+                        voteExportService.export(agendaId, exportFormat, compressed);
+                    }
+                });
+    }
+    
+    private static VoteExportService.Format parseExportFormat(String format) {
+        try {
+            return VoteExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format: " + format + " (expected csv or ndjson)");
+        }
+    }
+}
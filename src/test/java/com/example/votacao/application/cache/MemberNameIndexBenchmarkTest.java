@@ -0,0 +1,90 @@
+package com.example.votacao.application.cache;
+
+import com.example.votacao.domain.model.MemberSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads synthetic members into the name index and times typeahead searches
+ * with prefixes of one to six characters. Timings are logged, and the average
+ * search must stay under a millisecond.
+ *
+ * Runs only with {@code -Pbenchmark}, by default with 200k members; pass
+ * {@code -Dbenchmark.members=5000000} for the full-size run.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Member name index benchmark")
+class MemberNameIndexBenchmarkTest {
+
+    private static final int MEMBERS = Integer.getInteger("benchmark.members", 200_000);
+    private static final int SEARCHES = 100_000;
+    private static final String[] FIRST_NAMES = {"Ana", "André", "Antônio", "Beatriz", "Bruno", "Camila", "Carlos",
+            "Cecília", "Daniel", "Débora", "Eduardo", "Fábio", "Fernanda", "Gabriel", "Helena", "Inês", "João",
+            "José", "Júlia", "Larissa", "Lucas", "Luís", "Márcia", "Maria", "Mateus", "Otávio", "Patrícia", "Pedro",
+            "Rafael", "Sérgio", "Sônia", "Tiago", "Vinícius"};
+    private static final String[] SURNAMES = {"Almeida", "Araújo", "Barbosa", "Cardoso", "Carvalho", "Conceição",
+            "Costa", "Dias", "Fernandes", "Gonçalves", "Gomes", "Lima", "Lopes", "Martins", "Melo", "Oliveira",
+            "Pereira", "Ribeiro", "Rocha", "Rodrigues", "Santos", "Silva", "Soares", "Sousa", "Teixeira", "Vieira"};
+
+    @Test
+    @DisplayName("Top-10 prefix searches stay well under a millisecond")
+    void searchLatency() {
+        MemberNameIndex index = new MemberNameIndex(50_000);
+        try {
+            SplittableRandom random = new SplittableRandom(42L);
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+            long loadStart = System.nanoTime();
+            index.load(IntStream.range(0, MEMBERS).mapToObj(i ->
+                    new MemberSummary(new UUID(random.nextLong(), random.nextLong()), name(random), 11144477735L)));
+            long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+            System.gc();
+            long heapMegabytes = (runtime.totalMemory() - runtime.freeMemory() - heapBefore) / (1024 * 1024);
+
+            String[] prefixes = new String[1024];
+            for (int i = 0; i < prefixes.length; i++) {
+                String name = name(random).toLowerCase();
+                prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(6, name.length())));
+            }
+            // warm up the JIT before timing
+            int found = search(index, prefixes, SEARCHES / 4);
+            long start = System.nanoTime();
+            found += search(index, prefixes, SEARCHES);
+            long averageNanos = (System.nanoTime() - start) / SEARCHES;
+
+            log.info("{} members: loaded in {} ms, ~{} MiB retained; top-10 search averages {} us",
+                    MEMBERS, loadMillis, heapMegabytes, averageNanos / 1_000);
+            assertThat(index.size()).isEqualTo(MEMBERS);
+            assertThat(found).isPositive();
+            assertThat(averageNanos).isLessThan(1_000_000);
+        } finally {
+            index.shutdown();
+        }
+    }
+
+    private static int search(MemberNameIndex index, String[] prefixes, int count) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            List<MemberSummary> matches = index.search(prefixes[i % prefixes.length], 10);
+            found += matches.size();
+        }
+        return found;
+    }
+
+    private static String name(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + SURNAMES[random.nextInt(SURNAMES.length)] + " "
+                + SURNAMES[random.nextInt(SURNAMES.length)];
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.votacao.application.cache;
+
+import com.example.votacao.domain.event.MembersCreatedEvent;
+import com.example.votacao.domain.model.MemberSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MemberNameIndex Tests")
+class MemberNameIndexTest {
+
+    private MemberNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberNameIndex(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fold accents, case and whitespace")
+    void shouldFoldAccentsCaseAndWhitespace() {
+        assertThat(MemberNameIndex.fold("  João   da  CONCEIÇÃO ")).isEqualTo("joao da conceicao");
+        assertThat(MemberNameIndex.fold("Ångström Müller")).isEqualTo("angstrom muller");
+    }
+
+    @Test
+    @DisplayName("Should match prefixes ignoring accents and case, in name order")
+    void shouldMatchPrefixesInNameOrder() {
+        index.load(Stream.of(member("Joana Prado"), member("José Souza"), member("João Silva"),
+                member("Maria Joao"), member("Joao Santos")));
+
+        assertThat(names(index.search("JOAO S", 10))).containsExactly("Joao Santos", "João Silva");
+        assertThat(names(index.search("jo", 2))).containsExactly("Joana Prado", "Joao Santos");
+        assertThat(index.search("xavier", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge members created after the load into search results")
+    void shouldMergeRecentMembersIntoResults() {
+        index.load(Stream.of(member("Ana Lima"), member("Ana Souza")));
+
+        index.onMembersCreated(new MembersCreatedEvent(List.of(member("Ana Maria"), member("Bruno Costa"))));
+
+        assertThat(names(index.search("ana", 10))).containsExactly("Ana Lima", "Ana Maria", "Ana Souza");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should fold recent members into the snapshot without losing or duplicating any")
+    void shouldMergeRecentMembersIntoSnapshot() throws InterruptedException {
+        List<MemberSummary> loaded = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            loaded.add(member("Carla " + (char) ('a' + i)));
+        }
+        index.load(loaded.stream());
+        MemberSummary duplicate = loaded.get(4);
+
+        index.add(List.of(member("Carla aa"), duplicate, member("Carla zz")));
+        for (int i = 0; i < 100 && index.pendingCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(index.pendingCount()).isZero();
+        assertThat(index.size()).isEqualTo(12);
+        assertThat(names(index.search("carla", 50))).hasSize(12).startsWith("Carla a", "Carla aa", "Carla b")
+                .endsWith("Carla j", "Carla zz");
+    }
+
+    @Test
+    @DisplayName("Should reject blank prefixes and out of range limits")
+    void shouldRejectInvalidSearches() {
+        assertThatThrownBy(() -> index.search("  ", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search(null, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("ana", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("ana", MemberNameIndex.MAX_RESULTS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MemberSummary member(String name) {
+        return new MemberSummary(UUID.randomUUID(), name, 11144477735L);
+    }
+
+    private static List<String> names(List<MemberSummary> members) {
+        return members.stream().map(MemberSummary::name).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.votacao.application.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NegativeLookupCache Tests")
+class NegativeLookupCacheTest {
+
+    private NegativeLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NegativeLookupCache(100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should remember missing ids per kind")
+    void shouldRememberMissingIdsPerKind() {
+        UUID id = UUID.randomUUID();
+
+        cache.recordMissing(NegativeLookupCache.Kind.AGENDA, id);
+
+        assertThat(cache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, id)).isTrue();
+        assertThat(cache.isKnownMissing(NegativeLookupCache.Kind.MEMBER, id)).isFalse();
+        assertThat(cache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should forget an id when the entity is created")
+    void shouldForgetIdWhenEntityIsCreated() {
+        cache.recordMissing(NegativeLookupCache.Kind.MEMBER_CPF, "12345678901");
+
+        cache.forget(NegativeLookupCache.Kind.MEMBER_CPF, "12345678901");
+
+        assertThat(cache.isKnownMissing(NegativeLookupCache.Kind.MEMBER_CPF, "12345678901")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should forget again after commit entries recorded while the insert was in flight")
+    void shouldForgetAgainAfterCommit() {
+        UUID id = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.forget(NegativeLookupCache.Kind.MEMBER, id);
+        // a concurrent lookup that ran before the commit became visible
+        cache.recordMissing(NegativeLookupCache.Kind.MEMBER, id);
+        assertThat(cache.isKnownMissing(NegativeLookupCache.Kind.MEMBER, id)).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.isKnownMissing(NegativeLookupCache.Kind.MEMBER, id)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void shouldExpireEntriesAfterTtl() throws InterruptedException {
+        NegativeLookupCache shortLived = new NegativeLookupCache(100, Duration.ofMillis(50));
+        UUID id = UUID.randomUUID();
+        shortLived.recordMissing(NegativeLookupCache.Kind.AGENDA, id);
+
+        Thread.sleep(120);
+
+        assertThat(shortLived.isKnownMissing(NegativeLookupCache.Kind.AGENDA, id)).isFalse();
+    }
+}
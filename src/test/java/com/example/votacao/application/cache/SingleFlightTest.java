@@ -0,0 +1,105 @@
+package com.example.votacao.application.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private SingleFlight<String, Integer> singleFlight;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+        pool = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run one computation for concurrent callers of the same key")
+    void shouldCoalesceConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(pool.submit(() -> singleFlight.execute("agenda", () -> {
+                runs.incrementAndGet();
+                release.await();
+                return 42;
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<Integer> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(singleFlight.executionCount()).isEqualTo(1);
+        assertThat(singleFlight.coalescedCount()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Should not coalesce different keys")
+    void shouldRunDifferentKeysIndependently() throws Exception {
+        assertThat(singleFlight.execute("a", () -> 1)).isEqualTo(1);
+        assertThat(singleFlight.execute("b", () -> 2)).isEqualTo(2);
+
+        assertThat(singleFlight.executionCount()).isEqualTo(2);
+        assertThat(singleFlight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should share the failure with joined callers and then forget it")
+    void shouldShareFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> leader = pool.submit(() -> singleFlight.execute("agenda", () -> {
+            release.await();
+            throw new IllegalArgumentException("Agenda not found");
+        }));
+        Thread.sleep(50);
+        Future<Integer> follower = pool.submit(() -> singleFlight.execute("agenda", () -> 0));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(singleFlight.execute("agenda", () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should skip background execution while one is in flight")
+    void shouldSkipDuplicateBackgroundExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        boolean first = singleFlight.executeInBackground("agenda", () -> {
+            release.await();
+            return 1;
+        }, pool);
+        boolean second = singleFlight.executeInBackground("agenda", () -> 2, pool);
+        release.countDown();
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+}
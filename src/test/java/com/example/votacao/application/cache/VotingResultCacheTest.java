@@ -0,0 +1,207 @@
+package com.example.votacao.application.cache;
+
+import com.example.votacao.application.dto.Versioned;
+import com.example.votacao.application.dto.VotingResultResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VotingResultCache Tests")
+class VotingResultCacheTest {
+
+    private VotingResultCache cache;
+    private UUID agendaId;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VotingResultCache(Duration.ZERO, Duration.ofMinutes(1), 1, 100);
+        agendaId = UUID.randomUUID();
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    private VotingResultResponse result(long yes) {
+        return new VotingResultResponse(yes, 0, yes, "APPROVED", 100, 0);
+    }
+
+    private Function<UUID, VotingResultResponse> countingLoader() {
+        return id -> result(loads.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("Should serve hits while version is unchanged")
+    void shouldServeFreshHits() {
+        cache.get(agendaId, countingLoader());
+        cache.get(agendaId, countingLoader());
+        cache.get(agendaId, countingLoader());
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve stale value and refresh in background after a vote")
+    void shouldServeStaleAndRefresh() throws InterruptedException {
+        cache.get(agendaId, countingLoader());
+        cache.markChanged(agendaId);
+
+        VotingResultResponse stale = cache.get(agendaId, countingLoader());
+        assertThat(stale.getYesVotes()).isEqualTo(1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(20);
+        assertThat(cache.get(agendaId, countingLoader()).getYesVotes()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never serve a stale value to fresh reads")
+    void shouldReloadFreshReadsAfterAVote() {
+        cache.get(agendaId, countingLoader());
+        assertThat(cache.getFresh(agendaId, countingLoader()).getYesVotes()).isEqualTo(1);
+
+        cache.markChanged(agendaId);
+
+        assertThat(cache.getFresh(agendaId, countingLoader()).getYesVotes()).isEqualTo(2);
+        assertThat(cache.get(agendaId, countingLoader()).getYesVotes()).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report the version a stale result was computed at")
+    void shouldVersionStaleResults() {
+        cache.markChanged(agendaId);
+        assertThat(cache.getVersioned(agendaId, countingLoader()).version()).isEqualTo(1);
+
+        cache.markChanged(agendaId);
+
+        assertThat(cache.currentVersion(agendaId)).isEqualTo(2);
+        assertThat(cache.getVersioned(agendaId, countingLoader()).version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the cached result of a finalized agenda and keep its final version")
+    void shouldDropFinalizedResults() {
+        UUID other = UUID.randomUUID();
+        cache.markChanged(agendaId);
+        cache.get(agendaId, countingLoader());
+
+        cache.markFinalized(agendaId);
+        cache.markChanged(other);
+
+        assertThat(cache.isFinalized(agendaId)).isTrue();
+        assertThat(cache.currentVersion(agendaId)).isEqualTo(2);
+        // final results are served from the final results cache, so they are loaded but not kept
+        assertThat(cache.getVersioned(agendaId, countingLoader())).isEqualTo(new Versioned<>(result(2), 2));
+        assertThat(cache.get(agendaId, countingLoader()).getYesVotes()).isEqualTo(3);
+        // versions are never reused, across agendas or after a recompute
+        assertThat(cache.currentVersion(other)).isEqualTo(3);
+        cache.markFinalized(agendaId);
+        assertThat(cache.currentVersion(agendaId)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should load all bulk misses with one call and keep fresh entries")
+    void shouldLoadBulkMissesTogether() {
+        UUID changed = UUID.randomUUID();
+        UUID uncached = UUID.randomUUID();
+        cache.get(agendaId, countingLoader());
+        cache.get(changed, countingLoader());
+        cache.markChanged(changed);
+        List<Collection<UUID>> bulkLoads = new ArrayList<>();
+
+        Map<UUID, Versioned<VotingResultResponse>> results = cache.getAllVersioned(
+                List.of(uncached, agendaId, changed), ids -> {
+                    bulkLoads.add(List.copyOf(ids));
+                    return ids.stream().collect(Collectors.toMap(id -> id, id -> result(9)));
+                });
+
+        assertThat(bulkLoads).containsExactly(List.of(uncached, changed));
+        assertThat(results.keySet()).containsExactly(uncached, agendaId, changed);
+        assertThat(results.get(agendaId).value().getYesVotes()).isEqualTo(1);
+        assertThat(results.get(changed)).isEqualTo(new Versioned<>(result(9), 1));
+        // the bulk load refreshed the entry for single reads too
+        assertThat(cache.getFresh(changed, countingLoader()).getYesVotes()).isEqualTo(9);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reload synchronously once staleness bound is exceeded")
+    void shouldReloadWhenTooStale() {
+        VotingResultCache strict = new VotingResultCache(Duration.ZERO, Duration.ZERO, 1, 100);
+        try {
+            strict.get(agendaId, countingLoader());
+            strict.markChanged(agendaId);
+
+            assertThat(strict.get(agendaId, countingLoader()).getYesVotes()).isEqualTo(2);
+        } finally {
+            strict.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent misses into one computation")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Function<UUID, VotingResultResponse> slowLoader = id -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result(7);
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<VotingResultResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> cache.get(agendaId, slowLoader)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<VotingResultResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getYesVotes()).isEqualTo(7);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should propagate loader failures and not cache them")
+    void shouldPropagateLoaderFailure() {
+        assertThatThrownBy(() -> cache.get(agendaId, id -> {
+            throw new IllegalArgumentException("Agenda not found");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get(agendaId, countingLoader()).getYesVotes()).isEqualTo(1);
+    }
+}
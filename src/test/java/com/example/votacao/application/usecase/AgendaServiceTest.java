@@ -1,23 +1,52 @@
 package com.example.votacao.application.usecase;
 
+import com.example.votacao.application.cache.CountEstimateCache;
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.application.cache.VotingResultCache;
+import com.example.votacao.application.dto.VotingResultResponse;
 import com.example.votacao.application.dto.CreateAgendaRequest;
 import com.example.votacao.application.dto.OpenVotingSessionRequest;
 import com.example.votacao.application.dto.AgendaResponse;
+import com.example.votacao.application.dto.AgendaSummaryResponse;
+import com.example.votacao.application.dto.PageResponse;
+import com.example.votacao.application.dto.AgendaVotingResultResponse;
+import com.example.votacao.application.dto.Versioned;
+import com.example.votacao.domain.event.VotingSessionOpenedEvent;
+import com.example.votacao.domain.exception.UnknownEntityException;
 import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.AgendaResult;
+import com.example.votacao.domain.model.AgendaSummary;
+import com.example.votacao.domain.model.VotingResult;
 import com.example.votacao.domain.model.VotingSessionStatus;
 import com.example.votacao.domain.repository.AgendaRepository;
+import com.example.votacao.domain.repository.AgendaResultRepository;
+import com.example.votacao.domain.repository.VoteRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +55,27 @@ class AgendaServiceTest {
     @Mock
     private AgendaRepository agendaRepository;
     
+    @Mock
+    private VoteRepository voteRepository;
+    
+    @Mock
+    private AgendaResultRepository agendaResultRepository;
+    
+    @Mock
+    private VotingResultCache votingResultCache;
+    
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private CacheManager cacheManager;
+    
+    @Mock
+    private CountEstimateCache countEstimateCache;
+    
     @InjectMocks
     private AgendaService agendaService;
     
@@ -64,6 +114,101 @@ class AgendaServiceTest {
         assertNotNull(response);
         verify(agendaRepository).findById(agendaId);
         verify(agendaRepository).save(mockAgenda);
+        verify(eventPublisher).publishEvent(new VotingSessionOpenedEvent(agendaId, mockAgenda.getSessionEndTime()));
+    }
+    
+    @Test
+    void shouldCloseExpiredVotingSessionWithTargetedUpdateAndFinalizeResult() {
+        when(agendaRepository.closeIfExpired(eq(agendaId), any(LocalDateTime.class))).thenReturn(true);
+        when(voteRepository.tallyByAgendaId(agendaId)).thenReturn(new VotingResult(3, 1, 4));
+        
+        assertTrue(agendaService.closeExpiredVotingSession(agendaId));
+        
+        verify(agendaRepository, never()).findById(any());
+        verify(agendaRepository, never()).save(any());
+        verify(agendaResultRepository).save(argThat(result ->
+                result.getAgendaId().equals(agendaId) && result.getYesVotes() == 3 && result.getNoVotes() == 1));
+        verify(agendaRepository).markFinalized(eq(agendaId), any(LocalDateTime.class));
+        verify(votingResultCache).markFinalized(agendaId);
+    }
+    
+    @Test
+    void shouldNotFinalizeWhenSessionWasAlreadyClosed() {
+        when(agendaRepository.closeIfExpired(eq(agendaId), any(LocalDateTime.class))).thenReturn(false);
+        
+        assertFalse(agendaService.closeExpiredVotingSession(agendaId));
+        
+        verifyNoInteractions(voteRepository, agendaResultRepository);
+    }
+    
+    @Test
+    void shouldServeFinalizedResultFromStoredSnapshot() {
+        when(votingResultCache.get(eq(agendaId), any())).thenAnswer(invocation ->
+                invocation.<java.util.function.Function<UUID, VotingResultResponse>>getArgument(1).apply(agendaId));
+        when(agendaResultRepository.findByAgendaId(agendaId))
+                .thenReturn(Optional.of(new AgendaResult(agendaId, 2, 5, LocalDateTime.now())));
+        
+        VotingResultResponse result = agendaService.getVotingResult(agendaId);
+        
+        assertEquals(7, result.getTotalVotes());
+        assertEquals("REJECTED", result.getResult());
+        verify(voteRepository, never()).tallyByAgendaId(any());
+        verify(agendaRepository, never()).existsById(any());
+    }
+    
+    @Test
+    void shouldRejectRecomputeWhileSessionIsOpen() {
+        mockAgenda.openVotingSession(5);
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(mockAgenda));
+        
+        assertThrows(IllegalStateException.class, () -> agendaService.recomputeFinalResult(agendaId));
+        verifyNoInteractions(agendaResultRepository);
+    }
+    
+    @Test
+    void shouldRecomputeFinalResultOfClosedAgenda() {
+        mockAgenda.openVotingSession(5);
+        mockAgenda.closeVotingSession();
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(mockAgenda));
+        when(voteRepository.tallyByAgendaId(agendaId)).thenReturn(new VotingResult(4, 4, 8));
+        
+        VotingResultResponse result = agendaService.recomputeFinalResult(agendaId);
+        
+        assertEquals("TIED", result.getResult());
+        verify(agendaResultRepository).save(any(AgendaResult.class));
+        verify(agendaRepository).markFinalized(eq(agendaId), any(LocalDateTime.class));
+    }
+    
+    @Test
+    void shouldCloseExpiredVotingSessionsInBulkAndEvictOnlyClosedAgendas() {
+        UUID otherId = UUID.randomUUID();
+        Cache agendas = mock(Cache.class);
+        Cache finalResults = mock(Cache.class);
+        when(cacheManager.getCache("agendas")).thenReturn(agendas);
+        when(cacheManager.getCache("agenda-results")).thenReturn(finalResults);
+        when(agendaRepository.closeExpiredSessions(any(LocalDateTime.class))).thenReturn(List.of(agendaId, otherId));
+        when(voteRepository.tallyByAgendaIds(List.of(agendaId, otherId)))
+                .thenReturn(Map.of(agendaId, new VotingResult(2, 1, 3)));
+        
+        List<UUID> closed = agendaService.closeExpiredVotingSessions();
+        
+        assertEquals(List.of(agendaId, otherId), closed);
+        verify(agendas).evict(agendaId);
+        verify(agendas).evict(otherId);
+        verify(agendas, never()).clear();
+        // finalized together: one tally, one batch of results, one update
+        verify(agendaResultRepository).saveAll(argThat(results -> results.stream()
+                .map(result -> result.getAgendaId() + ":" + result.getYesVotes() + "/" + result.getNoVotes())
+                .toList().equals(List.of(agendaId + ":2/1", otherId + ":0/0"))));
+        verify(agendaRepository).markFinalized(eq(List.of(agendaId, otherId)), any(LocalDateTime.class));
+        verify(finalResults).evict(agendaId);
+        verify(finalResults).evict(otherId);
+        verify(votingResultCache).markFinalized(agendaId);
+        verify(votingResultCache).markFinalized(otherId);
+        verify(voteRepository, never()).tallyByAgendaId(any());
+        verify(agendaResultRepository, never()).save(any());
+        verify(agendaRepository, never()).findByStatus(any());
+        verify(agendaRepository, never()).save(any());
     }
     
     @Test
@@ -100,4 +245,137 @@ class AgendaServiceTest {
         
         verify(agendaRepository).findById(agendaId);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldRememberMissingAgendaAndSkipRepositoryWhenKnownMissing() {
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.empty());
+        
+        assertThrows(IllegalArgumentException.class, () -> agendaService.getAgenda(agendaId));
+        verify(negativeLookupCache).recordMissing(NegativeLookupCache.Kind.AGENDA, agendaId);
+        
+        when(negativeLookupCache.isKnownMissing(NegativeLookupCache.Kind.AGENDA, agendaId)).thenReturn(true);
+        
+        assertThrows(IllegalArgumentException.class, () -> agendaService.getAgenda(agendaId));
+        verify(agendaRepository, times(1)).findById(agendaId);
+    }
+    
+    @Test
+    void shouldPageAgendasWithCachedTotalEstimate() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 9, 19, 10, 30);
+        AgendaSummary newest = new AgendaSummary(UUID.randomUUID(), "Newest", VotingSessionStatus.CLOSED, createdAt, null);
+        AgendaSummary older = new AgendaSummary(UUID.randomUUID(), "Older", VotingSessionStatus.CLOSED, createdAt.minusDays(1), null);
+        AgendaSummary oldest = new AgendaSummary(UUID.randomUUID(), "Oldest", VotingSessionStatus.CLOSED, createdAt.minusDays(2), null);
+        when(agendaRepository.findSummaries(null, null, null, null, null, 3)).thenReturn(List.of(newest, older, oldest));
+        when(agendaRepository.findSummaries(null, null, null, older.createdAt(), older.id(), 3)).thenReturn(List.of(oldest));
+        when(countEstimateCache.get(eq("agendas"), any())).thenReturn(3L);
+        
+        PageResponse<AgendaSummaryResponse> page = agendaService.listAgendas(null, null, null, null, 2);
+        
+        assertEquals(List.of(newest.id(), older.id()), page.getItems().stream().map(AgendaSummaryResponse::getId).toList());
+        assertEquals(3L, page.getTotalEstimate());
+        assertNotNull(page.getNextCursor());
+        
+        PageResponse<AgendaSummaryResponse> last = agendaService.listAgendas(null, null, null, page.getNextCursor(), 2);
+        
+        assertEquals(List.of(oldest.id()), last.getItems().stream().map(AgendaSummaryResponse::getId).toList());
+        assertNull(last.getNextCursor());
+    }
+    
+    @Test
+    void shouldOmitTotalEstimateWhenFiltering() {
+        when(agendaRepository.findSummaries(VotingSessionStatus.OPEN, null, null, null, null, 11)).thenReturn(List.of());
+        
+        PageResponse<AgendaSummaryResponse> page = agendaService.listAgendas(VotingSessionStatus.OPEN, null, null, null, 10);
+        
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getTotalEstimate());
+        verifyNoInteractions(countEstimateCache);
+    }
+    
+    @Test
+    void shouldRejectInvalidAgendaPageRequests() {
+        assertThrows(IllegalArgumentException.class, () -> agendaService.listAgendas(null, null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> agendaService.listAgendas(null, null, null, "not-a-cursor", 10));
+        
+        verify(agendaRepository, never()).findSummaries(any(), any(), any(), any(), any(), anyInt());
+    }
+    
+    @Test
+    void shouldComputeBulkResultsWithGroupedQueries() {
+        UUID cachedFinal = UUID.randomUUID();
+        UUID storedFinal = UUID.randomUUID();
+        UUID withoutVotes = UUID.randomUUID();
+        Cache finalResults = new ConcurrentMapCache("agenda-results");
+        finalResults.put(cachedFinal, new VotingResultResponse(1, 0, 1, "APPROVED", 100, 0));
+        when(cacheManager.getCache("agenda-results")).thenReturn(finalResults);
+        when(votingResultCache.getAllVersioned(any(), any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            Map<UUID, VotingResultResponse> loaded = invocation
+                    .<Function<Collection<UUID>, Map<UUID, VotingResultResponse>>>getArgument(1).apply(ids);
+            Map<UUID, Versioned<VotingResultResponse>> results = new LinkedHashMap<>();
+            ids.forEach(id -> results.put(id, new Versioned<>(loaded.get(id), 4)));
+            return results;
+        });
+        when(agendaResultRepository.findByAgendaIds(List.of(agendaId, storedFinal, withoutVotes)))
+                .thenReturn(List.of(new AgendaResult(storedFinal, 2, 5, LocalDateTime.now())));
+        when(agendaRepository.findExistingIds(List.of(agendaId, withoutVotes))).thenReturn(List.of(withoutVotes, agendaId));
+        when(voteRepository.tallyByAgendaIds(List.of(agendaId, withoutVotes)))
+                .thenReturn(Map.of(agendaId, new VotingResult(3, 1, 4)));
+        
+        List<AgendaVotingResultResponse> results = agendaService.getVotingResults(
+                List.of(agendaId, cachedFinal, storedFinal, agendaId, withoutVotes));
+        
+        assertEquals(List.of(agendaId, cachedFinal, storedFinal, withoutVotes),
+                results.stream().map(AgendaVotingResultResponse::getAgendaId).toList());
+        assertEquals(List.of(4L, 1L, 7L, 0L),
+                results.stream().map(result -> result.getResult().getTotalVotes()).toList());
+        assertEquals("APPROVED", results.get(0).getResult().getResult());
+        assertNotNull(finalResults.get(storedFinal));
+        verify(voteRepository, never()).tallyByAgendaId(any());
+        verify(agendaRepository, never()).findById(any());
+    }
+    
+    @Test
+    void shouldRejectBulkResultsWithUnknownAgendas() {
+        UUID missing = UUID.randomUUID();
+        when(votingResultCache.getAllVersioned(any(), any())).thenAnswer(invocation -> invocation
+                .<Function<Collection<UUID>, Map<UUID, VotingResultResponse>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
+        when(agendaRepository.findExistingIds(List.of(agendaId, missing))).thenReturn(List.of(agendaId));
+        
+        UnknownEntityException exception = assertThrows(UnknownEntityException.class,
+                () -> agendaService.getVotingResults(List.of(agendaId, missing)));
+        
+        assertTrue(exception.getMessage().contains(missing.toString()));
+        verify(negativeLookupCache).recordMissing(NegativeLookupCache.Kind.AGENDA, missing);
+        verify(voteRepository, never()).tallyByAgendaIds(any());
+    }
+    
+    @Test
+    void shouldRejectOversizedBulkResultRequests() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(AgendaService.MAX_BULK_RESULTS + 1).toList();
+        
+        assertThrows(IllegalArgumentException.class, () -> agendaService.getVotingResults(ids));
+        assertThrows(IllegalArgumentException.class, () -> agendaService.listVotingResults(null, null, 0));
+        verifyNoInteractions(votingResultCache, voteRepository);
+    }
+    
+    @Test
+    void shouldPageResultsByStatus() {
+        AgendaSummary newest = new AgendaSummary(agendaId, "Newest", VotingSessionStatus.OPEN,
+                LocalDateTime.of(2025, 9, 19, 10, 30), null);
+        AgendaSummary older = new AgendaSummary(UUID.randomUUID(), "Older", VotingSessionStatus.OPEN,
+                newest.createdAt().minusDays(1), null);
+        when(agendaRepository.findSummaries(VotingSessionStatus.OPEN, null, null, null, null, 2))
+                .thenReturn(List.of(newest, older));
+        when(votingResultCache.getAllVersioned(eq(List.of(agendaId)), any())).thenReturn(
+                Map.of(agendaId, new Versioned<>(new VotingResultResponse(0, 0, 0, "TIE", 0, 0), 2)));
+        
+        PageResponse<AgendaVotingResultResponse> page = agendaService.listVotingResults(VotingSessionStatus.OPEN, null, 1);
+        
+        assertEquals(1, page.getItems().size());
+        assertEquals(2, page.getItems().get(0).getVersion());
+        assertNotNull(page.getNextCursor());
+        assertNull(page.getTotalEstimate());
+    }
+}
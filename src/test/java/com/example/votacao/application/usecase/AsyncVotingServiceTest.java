@@ -0,0 +1,122 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.dto.CreateVoteRequest;
+import com.example.votacao.application.dto.VoteReceiptResponse;
+import com.example.votacao.domain.model.VoteReceiptStatus;
+import com.example.votacao.domain.model.VoteType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("AsyncVotingService Tests")
+class AsyncVotingServiceTest {
+
+    private VotingService votingService;
+    private AsyncVotingService asyncVotingService;
+    private UUID agendaId;
+
+    @BeforeEach
+    void setUp() {
+        votingService = mock(VotingService.class);
+        asyncVotingService = new AsyncVotingService(votingService, 1, 1, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        asyncVotingService.start();
+        agendaId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncVotingService.stop();
+    }
+
+    @Test
+    @DisplayName("Should accept vote and complete receipt")
+    void shouldAcceptVote() {
+        CreateVoteRequest request = new CreateVoteRequest(UUID.randomUUID(), VoteType.YES);
+
+        VoteReceiptResponse receipt = asyncVotingService.submit(agendaId, request);
+        asyncVotingService.awaitCompletion(agendaId, receipt.getReceiptId());
+
+        VoteReceiptResponse status = asyncVotingService.getReceipt(agendaId, receipt.getReceiptId()).orElseThrow();
+        assertThat(status.getStatus()).isEqualTo(VoteReceiptStatus.ACCEPTED);
+        assertThat(status.getCompletedAt()).isNotNull();
+        verify(votingService).vote(eq(agendaId), any(CreateVoteRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject vote with business rule reason")
+    void shouldRejectVoteWithReason() {
+        doThrow(new IllegalStateException("Member has already voted on this agenda"))
+                .when(votingService).vote(eq(agendaId), any(CreateVoteRequest.class));
+
+        VoteReceiptResponse receipt = asyncVotingService.submit(agendaId, new CreateVoteRequest(UUID.randomUUID(), VoteType.NO));
+        asyncVotingService.awaitCompletion(agendaId, receipt.getReceiptId());
+
+        VoteReceiptResponse status = asyncVotingService.getReceipt(agendaId, receipt.getReceiptId()).orElseThrow();
+        assertThat(status.getStatus()).isEqualTo(VoteReceiptStatus.REJECTED);
+        assertThat(status.getReason()).isEqualTo("Member has already voted on this agenda");
+    }
+
+    @Test
+    @DisplayName("Should fail fast on malformed request")
+    void shouldRejectMalformedRequest() {
+        CreateVoteRequest noMember = new CreateVoteRequest(null, VoteType.YES);
+        CreateVoteRequest noVoteType = new CreateVoteRequest(UUID.randomUUID(), null);
+        CreateVoteRequest unknownVoteValue = new CreateVoteRequest(UUID.randomUUID(), null, null, "TALVEZ");
+
+        assertThatThrownBy(() -> asyncVotingService.submit(agendaId, noMember))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> asyncVotingService.submit(agendaId, noVoteType))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Either voteType or voteValue must be provided");
+        assertThatThrownBy(() -> asyncVotingService.submit(agendaId, unknownVoteValue))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid vote value: TALVEZ");
+        assertThatThrownBy(() -> asyncVotingService.submit(agendaId, new CreateVoteRequest()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when queue is full")
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            workerBusy.countDown();
+            release.await();
+            return null;
+        }).when(votingService).vote(eq(agendaId), any(CreateVoteRequest.class));
+
+        asyncVotingService.submit(agendaId, new CreateVoteRequest(UUID.randomUUID(), VoteType.YES));
+        workerBusy.await();
+        asyncVotingService.submit(agendaId, new CreateVoteRequest(UUID.randomUUID(), VoteType.YES));
+        VoteReceiptResponse overflow = asyncVotingService.submit(agendaId, new CreateVoteRequest(UUID.randomUUID(), VoteType.YES));
+        release.countDown();
+
+        assertThat(overflow.getStatus()).isEqualTo(VoteReceiptStatus.REJECTED);
+        assertThat(asyncVotingService.getReceipt(agendaId, overflow.getReceiptId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not expose receipts across agendas")
+    void shouldScopeReceiptsToAgenda() {
+        VoteReceiptResponse receipt = asyncVotingService.submit(agendaId, new CreateVoteRequest(UUID.randomUUID(), VoteType.YES));
+
+        assertThat(asyncVotingService.getReceipt(UUID.randomUUID(), receipt.getReceiptId())).isEmpty();
+        assertThatThrownBy(() -> asyncVotingService.awaitCompletion(UUID.randomUUID(), receipt.getReceiptId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.votacao.application.usecase;
 
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.application.cache.VotingResultCache;
 import com.example.votacao.application.dto.BatchVoteRequest;
 import com.example.votacao.application.dto.BatchVotingRequest;
 import com.example.votacao.application.dto.BatchVotingResponse;
@@ -48,6 +50,12 @@ class BatchVotingServiceTest {
     @Mock
     private VoteRepository voteRepository;
     
+    @Mock
+    private VotingResultCache votingResultCache;
+    
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+    
     @InjectMocks
     private BatchVotingService batchVotingService;
     
@@ -79,7 +87,7 @@ class BatchVotingServiceTest {
     @DisplayName("Should process all votes successfully when no duplicates exist")
     void shouldProcessAllVotesSuccessfully() {
         // Given
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(agenda));
         when(voteRepository.findByAgendaId(agendaId)).thenReturn(List.of()); // No existing votes
         when(voteRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         
@@ -93,7 +101,7 @@ class BatchVotingServiceTest {
         assertThat(response.getProcessingTimeMs()).isGreaterThanOrEqualTo(0);
         
         verify(voteRepository).saveAll(argThat(votes -> votes.size() == 3));
-        verify(agendaRepository).findById(agendaId);
+        verify(agendaRepository).findByIdForVoting(agendaId);
     }
     
     @Test
@@ -103,7 +111,7 @@ class BatchVotingServiceTest {
         UUID existingVoterId = batchRequest.getVotes().get(0).getMemberId();
         Vote existingVote = new Vote(agenda, existingVoterId, VoteType.NO);
         
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(agenda));
         when(voteRepository.findByAgendaId(agendaId)).thenReturn(List.of(existingVote));
         when(voteRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         
@@ -122,7 +130,7 @@ class BatchVotingServiceTest {
     @DisplayName("Should throw exception when agenda not found")
     void shouldThrowExceptionWhenAgendaNotFound() {
         // Given
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.empty());
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.empty());
         
         // When & Then
         assertThatThrownBy(() -> batchVotingService.processBatchVotes(batchRequest))
@@ -137,7 +145,7 @@ class BatchVotingServiceTest {
     void shouldThrowExceptionWhenVotingSessionClosed() {
         // Given
         agenda.setStatus(VotingSessionStatus.CLOSED);
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(agenda));
         
         // When & Then
         assertThatThrownBy(() -> batchVotingService.processBatchVotes(batchRequest))
@@ -152,7 +160,7 @@ class BatchVotingServiceTest {
     void shouldHandleEmptyVoteList() {
         // Given
         BatchVotingRequest emptyRequest = new BatchVotingRequest(agendaId, List.of());
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(agenda));
         when(voteRepository.findByAgendaId(agendaId)).thenReturn(List.of());
         
         // When
@@ -178,7 +186,7 @@ class BatchVotingServiceTest {
         );
         BatchVotingRequest requestWithDuplicates = new BatchVotingRequest(agendaId, votesWithDuplicates);
         
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(agenda));
         when(voteRepository.findByAgendaId(agendaId)).thenReturn(List.of());
         when(voteRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         
@@ -198,7 +206,7 @@ class BatchVotingServiceTest {
     void shouldHandleVotingSessionTimeExpiration() {
         // Given
         agenda.setSessionEndTime(LocalDateTime.now().minusMinutes(1)); // Expired
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(agenda));
         
         // When & Then
         assertThatThrownBy(() -> batchVotingService.processBatchVotes(batchRequest))
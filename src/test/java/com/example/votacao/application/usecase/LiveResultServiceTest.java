@@ -0,0 +1,300 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.cache.VotingResultCache;
+import com.example.votacao.application.dto.AgendaResponse;
+import com.example.votacao.application.dto.VotingResultResponse;
+import com.example.votacao.domain.exception.UnknownEntityException;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LiveResultService Tests")
+class LiveResultServiceTest {
+
+    @Mock
+    private AgendaService agendaService;
+
+    @Mock
+    private VotingResultCache votingResultCache;
+
+    private LiveResultService liveResultService;
+    private UUID agendaId;
+
+    @BeforeEach
+    void setUp() {
+        // a one hour interval keeps the ticker out of the way; the tests publish by hand
+        liveResultService = new LiveResultService(agendaService, votingResultCache,
+                Duration.ofHours(1), Duration.ofHours(1), Duration.ofSeconds(5), 2, 2, 4);
+        agendaId = UUID.randomUUID();
+        when(agendaService.getLatestVotingResult(agendaId)).thenAnswer(invocation ->
+                result(votingResultCache.currentVersion(agendaId)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        liveResultService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send the current result and then one event per changed interval")
+    void shouldCoalesceUpdatesPerInterval() throws InterruptedException {
+        votingOpen(true);
+        RecordingSink sink = new RecordingSink();
+        liveResultService.subscribe(agendaId, sink);
+
+        when(votingResultCache.currentVersion(agendaId)).thenReturn(3L);
+        liveResultService.publish(agendaId);
+        liveResultService.publish(agendaId);
+
+        assertThat(sink.next()).isEqualTo("result 0");
+        assertThat(sink.next()).isEqualTo("result 3");
+        assertThat(sink.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        verify(agendaService, times(2)).getLatestVotingResult(agendaId);
+        assertThat(liveResultService.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should catch up a subscriber that joins while a newer result is published")
+    void shouldCatchUpSubscriberJoiningDuringPublish() throws InterruptedException {
+        votingOpen(true);
+        RecordingSink first = new RecordingSink();
+        liveResultService.subscribe(agendaId, first);
+        assertThat(first.next()).isEqualTo("result 0");
+
+        AtomicBoolean published = new AtomicBoolean();
+        when(agendaService.getLatestVotingResult(agendaId)).thenAnswer(invocation -> {
+            long version = votingResultCache.currentVersion(agendaId);
+            if (published.compareAndSet(false, true)) {
+                // the ticker publishes after the subscriber read its result but before it joined
+                when(votingResultCache.currentVersion(agendaId)).thenReturn(4L);
+                liveResultService.publish(agendaId);
+            }
+            return result(version);
+        });
+        RecordingSink joining = new RecordingSink();
+        liveResultService.subscribe(agendaId, joining);
+
+        assertThat(first.next()).isEqualTo("result 4");
+        assertThat(joining.next()).isEqualTo("result 0");
+        assertThat(joining.next()).isEqualTo("result 4");
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest buffered results for a slow subscriber")
+    void shouldDropIntermediateResultsForSlowSubscriber() throws InterruptedException {
+        votingOpen(true);
+        RecordingSink fast = new RecordingSink();
+        RecordingSink slow = new RecordingSink();
+        slow.blockFirstSend();
+        liveResultService.subscribe(agendaId, slow);
+        liveResultService.subscribe(agendaId, fast);
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (long version = 1; version <= 6; version++) {
+            when(votingResultCache.currentVersion(agendaId)).thenReturn(version);
+            liveResultService.publish(agendaId);
+            // the fast subscriber keeps up, so only the slow one loses results
+            fast.next();
+        }
+        slow.release.countDown();
+
+        assertThat(List.of(slow.next(), slow.next(), slow.next()))
+                .containsExactly("result 0", "result 5", "result 6");
+        assertThat(liveResultService.droppedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should drop subscribers whose send stalls so the others keep receiving")
+    void shouldDropStalledSubscribers() throws InterruptedException {
+        liveResultService.shutdown();
+        liveResultService = new LiveResultService(agendaService, votingResultCache,
+                Duration.ofHours(1), Duration.ofHours(1), Duration.ofMillis(200), 2, 2, 4);
+        votingOpen(true);
+        // as many stalled clients as senders
+        RecordingSink stalled = new RecordingSink();
+        RecordingSink otherStalled = new RecordingSink();
+        stalled.blockFirstSend();
+        otherStalled.blockFirstSend();
+        liveResultService.subscribe(agendaId, stalled);
+        liveResultService.subscribe(agendaId, otherStalled);
+        assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(otherStalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        RecordingSink sink = new RecordingSink();
+        liveResultService.subscribe(agendaId, sink);
+
+        when(votingResultCache.currentVersion(agendaId)).thenReturn(1L);
+        liveResultService.publish(agendaId);
+
+        assertThat(List.of(sink.next(), sink.next())).containsExactly("result 0", "result 1");
+        // the second stalled send may time out just after the first freed a sender
+        awaitSubscriberCount(1);
+        assertThat(liveResultService.stalledCount()).isEqualTo(2);
+        assertThat(stalled.events).isEmpty();
+
+        // the abandoned write returns, e.g. at the connection's write timeout, and ends the stream
+        stalled.release.countDown();
+        assertThat(List.of(stalled.next(), stalled.next())).containsExactly("result 0", "complete");
+    }
+
+    @Test
+    @DisplayName("Should complete subscribers that find every writer held by stalled clients")
+    void shouldCompleteSubscribersWhenStalledWritesRunOut() throws InterruptedException {
+        liveResultService.shutdown();
+        liveResultService = new LiveResultService(agendaService, votingResultCache,
+                Duration.ofHours(1), Duration.ofHours(1), Duration.ofMillis(200), 2, 1, 1);
+        votingOpen(true);
+        RecordingSink stalled = new RecordingSink();
+        RecordingSink otherStalled = new RecordingSink();
+        stalled.blockFirstSend();
+        otherStalled.blockFirstSend();
+        liveResultService.subscribe(agendaId, stalled);
+        liveResultService.subscribe(agendaId, otherStalled);
+        assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(otherStalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitSubscriberCount(0);
+
+        RecordingSink sink = new RecordingSink();
+        liveResultService.subscribe(agendaId, sink);
+
+        assertThat(sink.next()).isEqualTo("complete");
+        assertThat(liveResultService.stalledCount()).isEqualTo(3);
+        awaitSubscriberCount(0);
+    }
+
+    @Test
+    @DisplayName("Should send the final result and complete once the session is over")
+    void shouldCompleteWhenSessionCloses() throws InterruptedException {
+        votingOpen(true);
+        RecordingSink sink = new RecordingSink();
+        liveResultService.subscribe(agendaId, sink);
+        assertThat(sink.next()).isEqualTo("result 0");
+
+        votingOpen(false);
+        when(votingResultCache.currentVersion(agendaId)).thenReturn(7L);
+        liveResultService.publish(agendaId);
+
+        assertThat(List.of(sink.next(), sink.next())).containsExactly("result 7", "complete");
+        assertThat(liveResultService.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should send a closed agenda's result and complete right away")
+    void shouldCompleteImmediatelyForClosedAgenda() throws InterruptedException {
+        votingOpen(false);
+        RecordingSink sink = new RecordingSink();
+
+        liveResultService.subscribe(agendaId, sink);
+
+        assertThat(List.of(sink.next(), sink.next())).containsExactly("result 0", "complete");
+        assertThat(liveResultService.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown agendas before subscribing")
+    void shouldRejectUnknownAgenda() {
+        when(agendaService.getAgenda(any())).thenThrow(new UnknownEntityException("Agenda not found"));
+
+        assertThatThrownBy(() -> liveResultService.subscribe(agendaId, new RecordingSink()))
+                .isInstanceOf(UnknownEntityException.class);
+        assertThat(liveResultService.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop publishing to cancelled subscribers")
+    void shouldStopPublishingToCancelledSubscribers() throws InterruptedException {
+        votingOpen(true);
+        RecordingSink sink = new RecordingSink();
+        LiveResultService.Subscription subscription = liveResultService.subscribe(agendaId, sink);
+        assertThat(sink.next()).isEqualTo("result 0");
+
+        subscription.cancel();
+        when(votingResultCache.currentVersion(agendaId)).thenReturn(1L);
+        liveResultService.publish(agendaId);
+
+        assertThat(sink.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(liveResultService.subscriberCount()).isZero();
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (liveResultService.subscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(liveResultService.subscriberCount()).isEqualTo(expected);
+    }
+
+    private void votingOpen(boolean open) {
+        when(agendaService.getAgenda(agendaId)).thenReturn(new AgendaResponse(agendaId, "Agenda", "Live",
+                LocalDateTime.now(), open ? VotingSessionStatus.OPEN : VotingSessionStatus.CLOSED,
+                null, null, open, null));
+    }
+
+    private static VotingResultResponse result(long yes) {
+        return new VotingResultResponse(yes, 0, yes, "APPROVED", 100, 0);
+    }
+
+    private static final class RecordingSink implements LiveResultService.ResultSink {
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(0);
+
+        void blockFirstSend() {
+            release = new CountDownLatch(1);
+        }
+
+        String next() throws InterruptedException {
+            return events.poll(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void send(long version, VotingResultResponse result) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            events.add("result " + result.getYesVotes());
+        }
+
+        @Override
+        public void heartbeat() {
+            events.add("heartbeat");
+        }
+
+        @Override
+        public void complete() {
+            events.add("complete");
+        }
+    }
+}
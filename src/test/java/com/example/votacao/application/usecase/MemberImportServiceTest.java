@@ -0,0 +1,230 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.domain.event.MembersCreatedEvent;
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.MemberSummary;
+import com.example.votacao.domain.repository.MemberRepository;
+import com.example.votacao.domain.service.CpfValidationService;
+import com.example.votacao.infrastructure.util.CpfGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberImportServiceTest {
+
+    private static final String EXISTING = "11144477735";
+    private static final String NEW_1 = "52998224725";
+    private static final String NEW_2 = "39053344705";
+    private static final String REJECTED = "71428793860";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CpfValidationService cpfValidationService;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<List<Member>> inserted = new ArrayList<>();
+    private MemberImportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new MemberImportService(memberRepository, cpfValidationService, negativeLookupCache,
+                transactionTemplate, eventPublisher, objectMapper, 2, 2);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(memberRepository.streamAllCpfs()).thenAnswer(invocation -> Stream.of(11144477735L));
+        lenient().doAnswer(invocation -> inserted.add(List.copyOf(invocation.getArgument(0))))
+                .when(memberRepository).insertAll(any());
+        lenient().when(cpfValidationService.validateCpf(REJECTED)).thenThrow(new IllegalStateException("unable to vote"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldImportCsvInChunksAndReportRejectedRows() throws Exception {
+        String csv = String.join("\n",
+                "cpf,name",
+                NEW_1 + ",\"Silva, Ana\"",
+                EXISTING + ",Existing",
+                "12345,Bad",
+                "390.533.447-05,Maria",
+                NEW_1 + ",Again",
+                REJECTED + ",Rejected",
+                "no comma here",
+                NEW_2.substring(0, 3) + "." + NEW_2.substring(3, 6) + ".000-00,Wrong digits");
+
+        List<JsonNode> lines = run(csv, MemberImportService.Format.CSV);
+
+        assertEquals(List.of("3:ALREADY_EXISTS", "4:INVALID_CPF", "6:DUPLICATE_IN_FILE", "7:CPF_REJECTED",
+                "8:MALFORMED_ROW", "9:INVALID_CPF"), errors(lines));
+        JsonNode summary = lines.get(lines.size() - 1).get("summary");
+        assertEquals(8, summary.get("rows").asLong());
+        assertEquals(2, summary.get("imported").asLong());
+        assertEquals(6, summary.get("failed").asLong());
+        assertTrue(summary.has("rowsPerSecond"));
+
+        List<Member> members = inserted.stream().flatMap(List::stream).toList();
+        assertEquals(List.of(NEW_1, NEW_2), members.stream().map(Member::getCpf).toList());
+        assertEquals("Silva, Ana", members.get(0).getName());
+        verify(cpfValidationService, never()).validateCpf(EXISTING);
+        verify(negativeLookupCache).forget(NegativeLookupCache.Kind.MEMBER_CPF, Long.parseLong(NEW_1));
+
+        ArgumentCaptor<MembersCreatedEvent> events = ArgumentCaptor.forClass(MembersCreatedEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        assertEquals(List.of(Long.parseLong(NEW_1), Long.parseLong(NEW_2)), events.getAllValues().stream()
+                .flatMap(event -> event.members().stream())
+                .map(MemberSummary::cpf)
+                .toList());
+    }
+
+    @Test
+    void shouldImportNdjson() throws Exception {
+        String ndjson = "{\"cpf\":\"" + NEW_1 + "\",\"name\":\"Ana\"}\n"
+                + "{\"cpf\":\"" + NEW_2 + "\"}\n"
+                + "not json\n";
+
+        List<JsonNode> lines = run(ndjson, MemberImportService.Format.NDJSON);
+
+        assertEquals(List.of("2:INVALID_NAME", "3:MALFORMED_ROW"), errors(lines));
+        assertEquals(1, inserted.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void shouldRetryChunkRowByRowWhenInsertConflicts() throws Exception {
+        doAnswer(invocation -> {
+            List<Member> members = invocation.getArgument(0);
+            if (members.stream().anyMatch(member -> member.getCpf().equals(NEW_2))) {
+                throw new DataIntegrityViolationException("duplicate cpf");
+            }
+            inserted.add(List.copyOf(members));
+            return null;
+        }).when(memberRepository).insertAll(any());
+
+        List<JsonNode> lines = run(NEW_1 + ",Ana\n" + NEW_2 + ",Maria\n", MemberImportService.Format.CSV);
+
+        assertEquals(List.of("2:INSERT_FAILED"), errors(lines));
+        assertEquals(List.of(List.of(NEW_1)),
+                inserted.stream().map(chunk -> chunk.stream().map(Member::getCpf).toList()).toList());
+    }
+
+    @Test
+    void shouldCheckEligibilityOnlyForWellFormedNewCpfs() throws Exception {
+        run("12345,Bad\n" + EXISTING + ",Existing\n", MemberImportService.Format.CSV);
+
+        verify(cpfValidationService, never()).validateCpf(anyString());
+        verify(memberRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void shouldStopValidatingQueuedChunksWhenTheClientGoesAway() throws Exception {
+        // two validation threads, so four chunks of two rows in flight; the first chunk is written first
+        List<String> later = CpfGenerator.uniquePackedCpfs(7L, 0, 6).mapToObj(Cpf::toDigits).toList();
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cpfValidationService.validateCpf(anyString())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        doReturn(null).when(cpfValidationService).validateCpf(NEW_1);
+        doReturn(null).when(cpfValidationService).validateCpf(NEW_2);
+        StringBuilder csv = new StringBuilder(NEW_1 + ",Ana\n" + NEW_2 + ",Maria\n");
+        later.forEach(cpf -> csv.append(cpf).append(",Later\n"));
+        // fails only once both threads have taken a chunk, so exactly one is left queued
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                disconnect();
+            }
+
+            @Override
+            public void flush() throws IOException {
+                disconnect();
+            }
+
+            private void disconnect() throws IOException {
+                try {
+                    running.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> service.importMembers(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                MemberImportService.Format.CSV, disconnected));
+        release.countDown();
+
+        // the second and third chunks were already running; the fourth was still queued
+        verify(cpfValidationService, timeout(1000)).validateCpf(later.get(3));
+        verify(cpfValidationService, after(200).never()).validateCpf(later.get(4));
+        verify(cpfValidationService, never()).validateCpf(later.get(5));
+    }
+
+    private List<JsonNode> run(String body, MemberImportService.Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.importMembers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static List<String> errors(List<JsonNode> lines) {
+        return lines.stream()
+                .filter(line -> line.has("error"))
+                .map(line -> line.get("row").asLong() + ":" + line.get("error").asText())
+                .toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.votacao.application.usecase;
+
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.domain.exception.UnknownEntityException;
+import com.example.votacao.domain.model.VoteType;
+import com.example.votacao.domain.repository.AgendaRepository;
+import com.example.votacao.domain.repository.VoteRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteExportServiceTest {
+
+    private static final UUID AGENDA_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final UUID VOTE_ID = UUID.fromString("6f1c2a9e-3d4b-4e8f-9a1b-2c3d4e5f6a7b");
+    private static final UUID MEMBER_ID = UUID.fromString("987fcdeb-51a2-43d7-8f9e-123456789abc");
+
+    @Mock
+    private AgendaRepository agendaRepository;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private VoteExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new VoteExportService(agendaRepository, voteRepository, negativeLookupCache, objectMapper);
+    }
+
+    @Test
+    void shouldExportCsvRowByRow() throws Exception {
+        stubVotes(2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = service.export(AGENDA_ID, VoteExportService.Format.CSV, out);
+
+        assertEquals(2, rows);
+        assertEquals("id,member_id,vote_type,voted_at\n"
+                        + VOTE_ID + "," + MEMBER_ID + ",YES,2025-09-19T10:30:00\n"
+                        + VOTE_ID + "," + MEMBER_ID + ",YES,2025-09-19T10:30:01\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldExportNdjson() throws Exception {
+        stubVotes(3);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = service.export(AGENDA_ID, VoteExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, rows);
+        assertEquals(3, lines.length);
+        JsonNode last = objectMapper.readTree(lines[2]);
+        assertEquals(VOTE_ID.toString(), last.get("id").asText());
+        assertEquals(MEMBER_ID.toString(), last.get("memberId").asText());
+        assertEquals("YES", last.get("voteType").asText());
+        assertEquals("2025-09-19T10:30:02", last.get("votedAt").asText());
+    }
+
+    @Test
+    void shouldRejectUnknownAgendaBeforeStreaming() {
+        when(agendaRepository.existsById(AGENDA_ID)).thenReturn(false);
+
+        assertThrows(UnknownEntityException.class, () -> service.verifyAgendaExists(AGENDA_ID));
+        verify(negativeLookupCache).recordMissing(NegativeLookupCache.Kind.AGENDA, AGENDA_ID);
+        verifyNoInteractions(voteRepository);
+    }
+
+    private void stubVotes(int count) {
+        doAnswer(invocation -> {
+            VoteRepository.VoteRowHandler handler = invocation.getArgument(1);
+            LocalDateTime votedAt = LocalDateTime.of(2025, 9, 19, 10, 30);
+            for (int i = 0; i < count; i++) {
+                handler.accept(VOTE_ID, MEMBER_ID, VoteType.YES, votedAt.plusSeconds(i));
+            }
+            return null;
+        }).when(voteRepository).forEachVoteOfAgenda(eq(AGENDA_ID), any());
+    }
+}
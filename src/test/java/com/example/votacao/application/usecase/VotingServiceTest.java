@@ -1,7 +1,12 @@
 package com.example.votacao.application.usecase;
 
+import com.example.votacao.application.cache.NegativeLookupCache;
+import com.example.votacao.application.cache.VotingResultCache;
 import com.example.votacao.application.dto.CreateVoteRequest;
+import com.example.votacao.application.dto.VotePageResponse;
+import com.example.votacao.application.dto.VoteResponse;
 import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.Vote;
 import com.example.votacao.domain.model.VoteType;
 import com.example.votacao.domain.repository.AgendaRepository;
 import com.example.votacao.domain.repository.MemberRepository;
@@ -13,11 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +39,15 @@ class VotingServiceTest {
     @Mock
     private VoteRepository voteRepository;
     
+    @Mock
+    private VotingResultCache votingResultCache;
+    
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+    
+    @Mock
+    private MemberService memberService;
+    
     @InjectMocks
     private VotingService votingService;
     
@@ -53,7 +69,7 @@ class VotingServiceTest {
         CreateVoteRequest request = new CreateVoteRequest(memberId, VoteType.YES);
         
         when(memberRepository.existsById(memberId)).thenReturn(true);
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(mockAgenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(mockAgenda));
         when(voteRepository.existsByAgendaIdAndMemberId(agendaId, memberId)).thenReturn(false);
         
         assertDoesNotThrow(() -> {
@@ -61,9 +77,10 @@ class VotingServiceTest {
         });
         
         verify(memberRepository).existsById(memberId);
-        verify(agendaRepository).findById(agendaId);
+        verify(agendaRepository).findByIdForVoting(agendaId);
         verify(voteRepository).existsByAgendaIdAndMemberId(agendaId, memberId);
         verify(voteRepository).save(any());
+        verify(votingResultCache).markChanged(agendaId);
     }
     
     @Test
@@ -86,14 +103,14 @@ class VotingServiceTest {
         CreateVoteRequest request = new CreateVoteRequest(memberId, VoteType.YES);
         
         when(memberRepository.existsById(memberId)).thenReturn(true);
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.empty());
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.empty());
         
         assertThrows(IllegalArgumentException.class, () -> {
             votingService.vote(agendaId, request);
         });
         
         verify(memberRepository).existsById(memberId);
-        verify(agendaRepository).findById(agendaId);
+        verify(agendaRepository).findByIdForVoting(agendaId);
         verify(voteRepository, never()).save(any());
     }
     
@@ -102,7 +119,7 @@ class VotingServiceTest {
         CreateVoteRequest request = new CreateVoteRequest(memberId, VoteType.YES);
         
         when(memberRepository.existsById(memberId)).thenReturn(true);
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(mockAgenda));
+        when(agendaRepository.findByIdForVoting(agendaId)).thenReturn(Optional.of(mockAgenda));
         when(voteRepository.existsByAgendaIdAndMemberId(agendaId, memberId)).thenReturn(true);
         
         assertThrows(IllegalStateException.class, () -> {
@@ -110,8 +127,39 @@ class VotingServiceTest {
         });
         
         verify(memberRepository).existsById(memberId);
-        verify(agendaRepository).findById(agendaId);
+        verify(agendaRepository).findByIdForVoting(agendaId);
         verify(voteRepository).existsByAgendaIdAndMemberId(agendaId, memberId);
         verify(voteRepository, never()).save(any());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldPageVotesWithOpaqueCursor() {
+        Vote first = new Vote(mockAgenda, UUID.randomUUID(), VoteType.YES);
+        Vote second = new Vote(mockAgenda, UUID.randomUUID(), VoteType.NO);
+        Vote third = new Vote(mockAgenda, UUID.randomUUID(), VoteType.YES);
+        when(agendaRepository.existsById(agendaId)).thenReturn(true);
+        when(voteRepository.findPageByAgendaId(agendaId, null, null, 3)).thenReturn(List.of(first, second, third));
+        when(voteRepository.findPageByAgendaId(agendaId, second.getVotedAt(), second.getId(), 3))
+                .thenReturn(List.of(third));
+        
+        VotePageResponse page = votingService.getVotesPage(agendaId, null, 2);
+        
+        assertEquals(List.of(first.getId(), second.getId()), page.getVotes().stream().map(VoteResponse::getId).toList());
+        assertNotNull(page.getNextCursor());
+        
+        VotePageResponse last = votingService.getVotesPage(agendaId, page.getNextCursor(), 2);
+        
+        assertEquals(List.of(third.getId()), last.getVotes().stream().map(VoteResponse::getId).toList());
+        assertNull(last.getNextCursor());
+    }
+    
+    @Test
+    void shouldRejectInvalidPageRequests() {
+        assertThrows(IllegalArgumentException.class, () -> votingService.getVotesPage(agendaId, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> votingService.getVotesPage(agendaId, null, VotingService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> votingService.getVotesPage(agendaId, "not-a-cursor", 10));
+        
+        verify(voteRepository, never()).findPageByAgendaId(any(), any(), any(), anyInt());
+    }
+}
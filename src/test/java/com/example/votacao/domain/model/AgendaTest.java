@@ -48,6 +48,18 @@ class AgendaTest {
         });
     }
     
+    @Test
+    void shouldNotReopenFinalizedAgenda() {
+        agenda.openVotingSession(5);
+        agenda.closeVotingSession();
+        agenda.setFinalizedAt(LocalDateTime.now());
+        
+        assertTrue(agenda.isFinalized());
+        assertThrows(IllegalStateException.class, () -> {
+            agenda.openVotingSession(3);
+        });
+    }
+    
     @Test
     void shouldCloseVotingSession() {
         agenda.openVotingSession(5);
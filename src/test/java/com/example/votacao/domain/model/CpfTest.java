@@ -0,0 +1,99 @@
+package com.example.votacao.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Cpf Tests")
+class CpfTest {
+
+    @Test
+    @DisplayName("Should parse a valid CPF into its packed form")
+    void shouldParseValidCpfIntoPackedForm() {
+        assertThat(Cpf.parse("11144477735")).isEqualTo(11144477735L);
+        assertThat(Cpf.parse("111.444.777-35")).isEqualTo(11144477735L);
+        assertThat(Cpf.parse("529.982.247-25")).isEqualTo(52998224725L);
+    }
+
+    @Test
+    @DisplayName("Should keep leading zeros when formatting")
+    void shouldKeepLeadingZerosWhenFormatting() {
+        long packed = Cpf.withCheckDigits(123);
+
+        assertThat(Cpf.toDigits(packed)).hasSize(11).startsWith("000000123");
+        assertThat(Cpf.parse(Cpf.format(packed))).isEqualTo(packed);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed, wrong-digit and repeated-digit CPFs")
+    void shouldRejectInvalidCpfs() {
+        assertThat(Cpf.parse(null)).isEqualTo(Cpf.INVALID);
+        assertThat(Cpf.parse("")).isEqualTo(Cpf.INVALID);
+        assertThat(Cpf.parse("11144477736")).isEqualTo(Cpf.INVALID);
+        assertThat(Cpf.parse("11144477725")).isEqualTo(Cpf.INVALID);
+        assertThat(Cpf.parse("1114447773")).isEqualTo(Cpf.INVALID);
+        assertThat(Cpf.parse("111444777350")).isEqualTo(Cpf.INVALID);
+        assertThat(Cpf.parse("11111111111")).isEqualTo(Cpf.INVALID);
+        assertThat(Cpf.parse("000.000.000-00")).isEqualTo(Cpf.INVALID);
+    }
+
+    @Test
+    @DisplayName("Should parse a CPF from a slice of ASCII bytes")
+    void shouldParseAsciiBytes() {
+        byte[] line = "x,111.444.777-35,y".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(Cpf.parse(line, 2, 14)).isEqualTo(11144477735L);
+        assertThat(Cpf.parse(line, 2, 13)).isEqualTo(Cpf.INVALID);
+    }
+
+    @Test
+    @DisplayName("Should generate check digits the parser accepts")
+    void shouldGenerateCheckDigitsAcceptedByParser() {
+        for (int base = 1; base < 1_000_000_000; base += 7_777_777) {
+            long packed = Cpf.withCheckDigits(base);
+            if (base % 111_111_111 != 0) {
+                assertThat(Cpf.parse(Cpf.toDigits(packed))).as("base " + base).isEqualTo(packed);
+            }
+        }
+        assertThat(Cpf.withCheckDigits(111444777)).isEqualTo(11144477735L);
+    }
+
+    @Test
+    @DisplayName("Should mask all but the prefix and check digits")
+    void shouldMaskAllButPrefixAndCheckDigits() {
+        assertThat(Cpf.mask(11144477735L)).isEqualTo("111.***.**-35");
+        assertThat(Cpf.mask(Cpf.INVALID)).isEqualTo("***.***.**-**");
+    }
+
+    @Test
+    @DisplayName("Should not allocate while parsing")
+    void shouldNotAllocateWhileParsing() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemoryEnabled());
+        String formatted = "111.444.777-35";
+        byte[] bytes = formatted.getBytes(StandardCharsets.US_ASCII);
+        long checksum = 0;
+
+        // let the JIT compile both parse methods before measuring
+        for (int i = 0; i < 200_000; i++) {
+            checksum += Cpf.parse(formatted) + Cpf.parse(bytes, 0, bytes.length);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1_000_000; i++) {
+            checksum += Cpf.parse(formatted) + Cpf.parse(bytes, 0, bytes.length);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(checksum).isNotZero();
+        // two million parses; anything left is measurement noise, not per-call garbage
+        assertThat(allocated).as("allocated bytes").isLessThan(64 * 1024);
+    }
+}
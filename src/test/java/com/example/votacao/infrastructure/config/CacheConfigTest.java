@@ -0,0 +1,112 @@
+package com.example.votacao.infrastructure.config;
+
+import com.example.votacao.application.dto.AgendaResponse;
+import com.example.votacao.application.dto.VoteResponse;
+import com.example.votacao.domain.model.VoteType;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Heap-usage tests for the Caffeine cache configuration.
+ */
+@DisplayName("CacheConfig Tests")
+class CacheConfigTest {
+
+    private static List<VoteResponse> votes(int count) {
+        List<VoteResponse> votes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            votes.add(new VoteResponse(UUID.randomUUID(), UUID.randomUUID(), VoteType.YES, LocalDateTime.now()));
+        }
+        return votes;
+    }
+
+    private static CacheProperties.Spec spec(DataSize maximumWeight, Duration expireAfterWrite) {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setMaximumWeight(maximumWeight);
+        spec.setExpireAfterWrite(expireAfterWrite);
+        return spec;
+    }
+
+    @Test
+    @DisplayName("Should estimate vote lists proportionally to their size")
+    void shouldEstimateVoteListsBySize() {
+        long small = EntrySizeEstimator.estimate(votes(100));
+        long large = EntrySizeEstimator.estimate(votes(1000));
+
+        // VoteResponse with two UUIDs and a LocalDateTime is roughly 200 bytes
+        assertThat(large).isBetween(100_000L, 400_000L);
+        assertThat((double) large / small).isBetween(9.0, 11.0);
+    }
+
+    @Test
+    @DisplayName("Should estimate small DTOs in the hundreds of bytes")
+    void shouldEstimateSmallDtos() {
+        AgendaResponse agenda = new AgendaResponse(UUID.randomUUID(), "Title", "Description",
+                LocalDateTime.now(), VotingSessionStatus.OPEN, LocalDateTime.now(), LocalDateTime.now(), true, null);
+
+        assertThat(EntrySizeEstimator.estimate(agenda)).isBetween(200L, 1_000L);
+    }
+
+    @Test
+    @DisplayName("Should keep weighted size under the configured maximum")
+    void shouldBoundCacheByWeight() {
+        Cache<Object, Object> cache = CacheConfig.buildCache("votes", spec(DataSize.ofMegabytes(1), Duration.ofMinutes(10)));
+
+        for (int i = 0; i < 200; i++) {
+            cache.put(UUID.randomUUID(), votes(100));
+        }
+        cache.cleanUp();
+
+        long weighted = cache.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+        assertThat(weighted).isLessThanOrEqualTo(DataSize.ofMegabytes(1).toBytes());
+        assertThat(cache.estimatedSize()).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("Should expire entries after write")
+    void shouldExpireAfterWrite() throws InterruptedException {
+        Cache<Object, Object> cache = CacheConfig.buildCache("agendas", spec(DataSize.ofMegabytes(1), Duration.ofMillis(50)));
+        UUID key = UUID.randomUUID();
+        cache.put(key, "value");
+
+        Thread.sleep(100);
+
+        assertThat(cache.getIfPresent(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a refresh age that is not shorter than the expiry")
+    void shouldRejectRefreshAfterExpiry() {
+        CacheProperties.Spec spec = spec(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        spec.setRefreshAfterWrite(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> CacheConfig.buildCache("agendas", spec))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should register all application caches with their specs")
+    void shouldRegisterConfiguredCaches() {
+        CacheProperties properties = new CacheProperties();
+        properties.getSpecs().put("votes", spec(DataSize.ofMegabytes(64), Duration.ofSeconds(30)));
+
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties, new SimpleMeterRegistry());
+
+        assertThat(cacheManager.getCacheNames()).containsAll(CacheConfig.CACHE_NAMES);
+        assertThat(cacheManager.getCache("votes")).isNotNull();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.votacao.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InstrumentedCache Tests")
+class InstrumentedCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setMaximumWeight(DataSize.ofMegabytes(1));
+        spec.setExpireAfterWrite(Duration.ofMinutes(1));
+        cache = new InstrumentedCache(new CaffeineCache("agendas", CacheConfig.buildCache("agendas", spec)), registry);
+    }
+
+    @Test
+    @DisplayName("Should publish hits and misses")
+    void shouldPublishHitsAndMisses() {
+        cache.get("a");
+        cache.put("a", "value");
+        cache.get("a");
+        cache.get("a");
+
+        assertThat(registry.get("cache.gets").tag("cache", "agendas").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("cache", "agendas").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time loads between miss and put")
+    void shouldTimeNonSyncLoads() throws InterruptedException {
+        cache.get("a");
+        Thread.sleep(20);
+        cache.put("a", "value");
+
+        assertThat(registry.get("cache.load.latency").tag("cache", "agendas").timer().count()).isEqualTo(1);
+        assertThat(cache.snapshot().totalLoadMillis()).isGreaterThanOrEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Should not charge a probe miss to a later put")
+    void shouldForgetMissesNotFollowedByPut() {
+        cache.put("b", "value");
+        cache.get("a");
+        cache.get("b");
+        cache.put("a", "value");
+
+        cache.get("c");
+        cache.evict("c");
+        cache.put("c", "value");
+
+        assertThat(registry.get("cache.load.latency").tag("cache", "agendas").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should time loads through value loader")
+    void shouldTimeSyncLoads() {
+        assertThat(cache.get("a", () -> "value")).isEqualTo("value");
+        assertThat(cache.get("a", () -> "other")).isEqualTo("value");
+
+        assertThat(registry.get("cache.load.latency").tag("cache", "agendas").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve an entry due for refresh and reload it in the background")
+    void shouldRefreshAfterWrite() throws InterruptedException {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setExpireAfterWrite(Duration.ofMinutes(1));
+        spec.setRefreshAfterWrite(Duration.ofMillis(50));
+        // runs the reload on the reading thread, so the test sees it complete
+        InstrumentedCache refreshing = new InstrumentedCache(
+                new CaffeineCache("members", CacheConfig.buildCache("members", spec)), registry,
+                spec.getRefreshAfterWrite(), Runnable::run);
+        refreshing.get("a", () -> "first");
+
+        assertThat(refreshing.get("a", () -> "second")).isEqualTo("first");
+        Thread.sleep(60);
+        assertThat(refreshing.get("a", () -> "second")).isEqualTo("first");
+        assertThat(refreshing.get("a", () -> "third")).isEqualTo("second");
+        assertThat(registry.get("cache.load.latency").tag("cache", "members").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop a background reload that an eviction or put overtook")
+    void shouldDropRefreshOvertakenByEvictOrPut() throws InterruptedException {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setExpireAfterWrite(Duration.ofMinutes(1));
+        spec.setRefreshAfterWrite(Duration.ofMillis(50));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        InstrumentedCache refreshing = new InstrumentedCache(
+                new CaffeineCache("members", CacheConfig.buildCache("members", spec)), registry,
+                spec.getRefreshAfterWrite(), executor);
+        refreshing.put("evicted", "first");
+        refreshing.put("overwritten", "first");
+        Thread.sleep(60);
+
+        CountDownLatch loading = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        refreshing.get("evicted", () -> staleReload(loading, release));
+        refreshing.get("overwritten", () -> staleReload(loading, release));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        refreshing.evict("evicted");
+        refreshing.put("overwritten", "committed");
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(refreshing.get("evicted")).isNull();
+        assertThat(refreshing.get("overwritten").get()).isEqualTo("committed");
+    }
+
+    private static String staleReload(CountDownLatch loading, CountDownLatch release) throws InterruptedException {
+        loading.countDown();
+        release.await();
+        return "stale";
+    }
+
+    @Test
+    @DisplayName("Should not time plain puts")
+    void shouldNotTimePlainPuts() {
+        cache.put("a", "value");
+
+        assertThat(registry.get("cache.load.latency").tag("cache", "agendas").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report estimated entry bytes")
+    void shouldReportEstimatedBytes() {
+        cache.put("a", "x".repeat(1000));
+        ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).cleanUp();
+
+        double bytes = registry.get("cache.estimated.bytes").tag("cache", "agendas").gauge().value();
+        assertThat(bytes).isGreaterThan(1000);
+        assertThat(cache.snapshot().entries()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.votacao.infrastructure.config;
+
+import com.example.votacao.application.dto.AgendaResponse;
+import com.example.votacao.application.dto.CreateVoteRequest;
+import com.example.votacao.application.usecase.AgendaService;
+import com.example.votacao.application.usecase.VotingService;
+import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import com.example.votacao.domain.repository.AgendaRepository;
+import com.example.votacao.domain.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StartupWarmup Tests")
+class StartupWarmupTest {
+
+    @Mock
+    private AgendaService agendaService;
+
+    @Mock
+    private VotingService votingService;
+
+    @Mock
+    private AgendaRepository agendaRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("agendas", "members");
+    }
+
+    @Test
+    @DisplayName("Should preload open agendas, tallies and members")
+    void shouldPreloadCaches() {
+        UUID agendaId = UUID.randomUUID();
+        AgendaResponse agenda = new AgendaResponse(agendaId, "Agenda", "Description", LocalDateTime.now(),
+                VotingSessionStatus.OPEN, LocalDateTime.now(), LocalDateTime.now().plusMinutes(5), true, null);
+        Member member = new Member("11144477735", "Member");
+        when(agendaService.getOpenVotingSessions()).thenReturn(List.of(agenda));
+        when(memberRepository.findFirst(100)).thenReturn(List.of(member));
+
+        StartupWarmup warmup = warmup(true, 0);
+        warmup.run(null);
+
+        assertThat(cacheManager.getCache("agendas").get(agendaId).get()).isEqualTo(agenda);
+        assertThat(cacheManager.getCache("members").get(11144477735L).get()).isEqualTo(member);
+        verify(agendaService).getVotingResult(agendaId);
+        assertThat(warmup.getReport().status()).isEqualTo("COMPLETED");
+        assertThat(warmup.getReport().openAgendas()).isEqualTo(1);
+        assertThat(warmup.getReport().talliesLoaded()).isEqualTo(1);
+        assertThat(warmup.getReport().membersLoaded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run synthetic votes in rolled back transactions")
+    void shouldRollBackSyntheticVotes() {
+        SimpleTransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StartupWarmup warmup = warmup(true, 2);
+        warmup.run(null);
+
+        ArgumentCaptor<CreateVoteRequest> requests = ArgumentCaptor.forClass(CreateVoteRequest.class);
+        verify(votingService, times(2)).vote(any(UUID.class), requests.capture());
+        assertThat(requests.getAllValues().get(0).getMemberId()).isNotNull();
+        assertThat(requests.getAllValues().get(1).getMemberCpf()).matches(Cpf::isValid);
+        verify(agendaRepository, times(2)).save(any(Agenda.class));
+        // the template hands rollback-only transactions to commit, which rolls them back
+        verify(transactionManager, times(2)).commit(status);
+        assertThat(status.isRollbackOnly()).isTrue();
+        assertThat(warmup.getReport().syntheticVotes()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report failure without blocking startup")
+    void shouldReportFailure() {
+        when(agendaService.getOpenVotingSessions()).thenThrow(new IllegalStateException("database unavailable"));
+
+        StartupWarmup warmup = warmup(true, 5);
+        warmup.run(null);
+
+        assertThat(warmup.getReport().status()).isEqualTo("FAILED");
+        verify(votingService, never()).vote(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip when disabled")
+    void shouldSkipWhenDisabled() {
+        StartupWarmup warmup = warmup(false, 5);
+        warmup.run(null);
+
+        assertThat(warmup.getReport().status()).isEqualTo("SKIPPED");
+        verifyNoInteractions(agendaService, votingService, memberRepository, transactionManager);
+    }
+
+    private StartupWarmup warmup(boolean enabled, int iterations) {
+        return new StartupWarmup(agendaService, votingService, agendaRepository, memberRepository,
+                cacheManager, transactionManager, enabled, 100, iterations);
+    }
+}
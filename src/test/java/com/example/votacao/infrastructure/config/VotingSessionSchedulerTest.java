@@ -0,0 +1,109 @@
+package com.example.votacao.infrastructure.config;
+
+import com.example.votacao.application.dto.AgendaResponse;
+import com.example.votacao.application.usecase.AgendaService;
+import com.example.votacao.domain.event.VotingSessionOpenedEvent;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VotingSessionScheduler Tests")
+class VotingSessionSchedulerTest {
+
+    @Mock
+    private AgendaService agendaService;
+
+    private VotingSessionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new VotingSessionScheduler(agendaService, Duration.ofMillis(200));
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("Should close a session at its end time")
+    void shouldCloseSessionAtEndTime() {
+        UUID agendaId = UUID.randomUUID();
+        when(agendaService.closeExpiredVotingSession(agendaId)).thenReturn(true);
+
+        scheduler.onSessionOpened(new VotingSessionOpenedEvent(agendaId, LocalDateTime.now().plusNanos(200_000_000)));
+
+        verify(agendaService, after(100).never()).closeExpiredVotingSession(agendaId);
+        verify(agendaService, timeout(1000)).closeExpiredVotingSession(agendaId);
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should close sessions in deadline order")
+    void shouldCloseSessionsInDeadlineOrder() {
+        UUID later = UUID.randomUUID();
+        UUID sooner = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduler.register(later, now.plusNanos(150_000_000));
+        scheduler.register(sooner, now.plusNanos(50_000_000));
+
+        var inOrder = inOrder(agendaService);
+        inOrder.verify(agendaService, timeout(1000)).closeExpiredVotingSession(sooner);
+        inOrder.verify(agendaService, timeout(1000)).closeExpiredVotingSession(later);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed close after the backoff instead of dropping it")
+    void shouldRetryFailedClose() {
+        UUID agendaId = UUID.randomUUID();
+        when(agendaService.closeExpiredVotingSession(agendaId))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(true);
+
+        scheduler.register(agendaId, LocalDateTime.now());
+
+        verify(agendaService, timeout(1000)).closeExpiredVotingSession(agendaId);
+        verify(agendaService, after(100).times(1)).closeExpiredVotingSession(agendaId);
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+        verify(agendaService, timeout(1000).times(2)).closeExpiredVotingSession(agendaId);
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the timer from open sessions at startup")
+    void shouldRebuildFromOpenSessions() {
+        UUID expired = UUID.randomUUID();
+        UUID open = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(agendaService.getOpenVotingSessions()).thenReturn(List.of(
+                agenda(expired, now.minusMinutes(1)),
+                agenda(open, now.plusHours(1))));
+
+        scheduler.rebuild();
+
+        verify(agendaService, timeout(1000)).closeExpiredVotingSession(expired);
+        verify(agendaService, never()).closeExpiredVotingSession(open);
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+    }
+
+    private static AgendaResponse agenda(UUID id, LocalDateTime endTime) {
+        return new AgendaResponse(id, "Agenda", "Description", endTime.minusMinutes(5),
+                VotingSessionStatus.OPEN, endTime.minusMinutes(5), endTime, endTime.isAfter(LocalDateTime.now()), null);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.votacao.infrastructure.external;
+
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.model.CpfValidationResponse;
+import com.example.votacao.domain.model.CpfValidationStatus;
+import com.example.votacao.domain.service.CpfValidationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCpfValidationServiceTest {
+
+    private static final String ELIGIBLE = "11144477735";
+    private static final String INELIGIBLE = "52998224725";
+
+    @Mock
+    private CpfValidationService cpfValidationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BulkCpfValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkCpfValidationService(cpfValidationService, objectMapper, 1_000, 4, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldStreamResultsInInputOrderAndLookUpEachCpfOnce() throws Exception {
+        when(cpfValidationService.validateCpf(ELIGIBLE))
+                .thenReturn(new CpfValidationResponse(CpfValidationStatus.ABLE_TO_VOTE));
+        when(cpfValidationService.validateCpf(INELIGIBLE))
+                .thenThrow(new CpfValidationClient.CpfUnableToVoteException("unable"));
+        String body = ELIGIBLE + "\r\n\n111.444.777-35\n12345\n" + INELIGIBLE + "\n  " + ELIGIBLE + "  ";
+
+        List<JsonNode> lines = run(body.getBytes(StandardCharsets.UTF_8), false);
+
+        assertEquals(6, lines.size());
+        assertLine(lines.get(0), 0, ELIGIBLE, "ABLE_TO_VOTE");
+        assertLine(lines.get(1), 1, ELIGIBLE, "ABLE_TO_VOTE");
+        assertLine(lines.get(2), 2, "12345", "INVALID");
+        assertLine(lines.get(3), 3, INELIGIBLE, "UNABLE_TO_VOTE");
+        assertLine(lines.get(4), 4, ELIGIBLE, "ABLE_TO_VOTE");
+        JsonNode summary = lines.get(5).get("summary");
+        assertEquals(5, summary.get("total").asInt());
+        assertEquals(4, summary.get("valid").asInt());
+        assertEquals(2, summary.get("lookups").asInt());
+        assertEquals(3, summary.get("ableToVote").asInt());
+        assertTrue(summary.has("cpfsPerSecond"));
+        verify(cpfValidationService, times(1)).validateCpf(ELIGIBLE);
+        verify(cpfValidationService, times(1)).validateCpf(INELIGIBLE);
+    }
+
+    @Test
+    void shouldAcceptJsonArrayAndReportUnavailableLookups() throws Exception {
+        when(cpfValidationService.validateCpf(anyString()))
+                .thenThrow(new CpfValidationClient.CpfValidationUnavailableException("down"));
+
+        List<JsonNode> lines = run(("[\"" + ELIGIBLE + "\", \"abc\"]").getBytes(StandardCharsets.UTF_8), true);
+
+        assertLine(lines.get(0), 0, ELIGIBLE, "UNAVAILABLE");
+        assertLine(lines.get(1), 1, "abc", "INVALID");
+        assertEquals(1, lines.get(2).get("summary").get("unavailable").asInt());
+    }
+
+    @Test
+    void shouldCapLookupsInFlightPerRequest() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(cpfValidationService.validateCpf(anyString())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return new CpfValidationResponse(CpfValidationStatus.ABLE_TO_VOTE);
+        });
+
+        List<JsonNode> lines = run(distinctCpfs(20), false);
+
+        assertEquals(20, lines.get(20).get("summary").get("ableToVote").asInt());
+        assertTrue(maxRunning.get() <= 2, "at most two lookups in flight, saw " + maxRunning.get());
+        verify(cpfValidationService, times(20)).validateCpf(anyString());
+    }
+
+    @Test
+    void shouldCancelOutstandingLookupsWhenTheClientGoesAway() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cpfValidationService.validateCpf(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new CpfValidationResponse(CpfValidationStatus.ABLE_TO_VOTE);
+        });
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void flush() throws IOException {
+                try {
+                    started.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Broken pipe");
+            }
+        };
+        // one lookup thread: the first lookup runs, the second waits in the queue
+        BulkCpfValidationService singleThreaded =
+                new BulkCpfValidationService(cpfValidationService, objectMapper, 1_000, 1, 2);
+        BulkCpfValidationService.Batch batch = singleThreaded.parse(distinctCpfs(20), false);
+
+        try {
+            assertThrows(IOException.class, () -> singleThreaded.stream(batch, disconnected));
+            release.countDown();
+            Thread.sleep(100);
+        } finally {
+            singleThreaded.shutdown();
+        }
+
+        // the queued lookup was cancelled before it reached the service
+        verify(cpfValidationService, times(1)).validateCpf(anyString());
+    }
+
+    @Test
+    void shouldRejectOversizedOrMalformedBodies() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1_001; i++) {
+            Cpf.appendDigits(Cpf.withCheckDigits(100_000 + i), body).append('\n');
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.US_ASCII);
+
+        assertThrows(IllegalArgumentException.class, () -> service.parse(bytes, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.parse("{\"cpf\":1}".getBytes(StandardCharsets.UTF_8), true));
+        verifyNoInteractions(cpfValidationService);
+    }
+
+    private static byte[] distinctCpfs(int count) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            Cpf.appendDigits(Cpf.withCheckDigits(200_000 + i), body).append('\n');
+        }
+        return body.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private List<JsonNode> run(byte[] body, boolean jsonArray) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.stream(service.parse(body, jsonArray), out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static void assertLine(JsonNode line, int index, String cpf, String status) {
+        assertEquals(index, line.get("index").asInt());
+        assertEquals(cpf, line.get("cpf").asText());
+        assertEquals(status, line.get("status").asText());
+    }
+}
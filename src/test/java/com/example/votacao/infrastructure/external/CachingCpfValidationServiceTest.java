@@ -0,0 +1,118 @@
+package com.example.votacao.infrastructure.external;
+
+import com.example.votacao.domain.model.CpfValidationResponse;
+import com.example.votacao.domain.model.CpfValidationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCpfValidationServiceTest {
+
+    private static final String CPF = "11144477735";
+
+    @Mock
+    private CpfValidationClient upstream;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingCpfValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CachingCpfValidationService(upstream, meterRegistry,
+                Duration.ofMinutes(10), Duration.ofMillis(100), 1_000);
+    }
+
+    @Test
+    void shouldCachePositiveOutcomeKeyedOnPackedCpf() {
+        when(upstream.validateCpf(anyString()))
+                .thenReturn(new CpfValidationResponse(CpfValidationStatus.ABLE_TO_VOTE));
+
+        service.validateCpf(CPF);
+        CpfValidationResponse cached = service.validateCpf("111.444.777-35");
+
+        assertEquals(CpfValidationStatus.ABLE_TO_VOTE, cached.getStatus());
+        verify(upstream, times(1)).validateCpf(anyString());
+        assertEquals(1.0, meterRegistry.get("cpf.validation.cache.hits").tag("outcome", "positive").counter().count());
+        assertEquals(1, meterRegistry.get("cpf.validation.upstream.latency").timer().count());
+    }
+
+    @Test
+    void shouldCacheNegativeOutcomeForShorterTtl() throws InterruptedException {
+        when(upstream.validateCpf(CPF))
+                .thenThrow(new CpfValidationClient.CpfUnableToVoteException("unable"));
+
+        assertThrows(CpfValidationClient.CpfUnableToVoteException.class, () -> service.validateCpf(CPF));
+        CpfValidationClient.CpfUnableToVoteException cached =
+                assertThrows(CpfValidationClient.CpfUnableToVoteException.class, () -> service.validateCpf(CPF));
+        assertEquals("unable", cached.getMessage());
+        verify(upstream, times(1)).validateCpf(CPF);
+
+        Thread.sleep(200);
+
+        assertThrows(CpfValidationClient.CpfUnableToVoteException.class, () -> service.validateCpf(CPF));
+        verify(upstream, times(2)).validateCpf(CPF);
+    }
+
+    @Test
+    void shouldNotCacheUnexpectedFailures() {
+        when(upstream.validateCpf(CPF))
+                .thenThrow(new IllegalStateException("upstream down"))
+                .thenReturn(new CpfValidationResponse(CpfValidationStatus.ABLE_TO_VOTE));
+
+        assertThrows(IllegalStateException.class, () -> service.validateCpf(CPF));
+        assertEquals(CpfValidationStatus.ABLE_TO_VOTE, service.validateCpf(CPF).getStatus());
+    }
+
+    @Test
+    void shouldPassMalformedCpfsStraightToUpstream() {
+        when(upstream.validateCpf("123"))
+                .thenThrow(new CpfValidationClient.CpfNotFoundException("not found"));
+
+        assertThrows(CpfValidationClient.CpfNotFoundException.class, () -> service.validateCpf("123"));
+        assertThrows(CpfValidationClient.CpfNotFoundException.class, () -> service.validateCpf("123"));
+        verify(upstream, times(2)).validateCpf("123");
+    }
+
+    @Test
+    void shouldCoalesceConcurrentChecksOfSameCpf() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(upstream.validateCpf(CPF)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new CpfValidationResponse(CpfValidationStatus.ABLE_TO_VOTE);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CpfValidationResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> service.validateCpf(CPF)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<CpfValidationResponse> result : results) {
+                assertEquals(CpfValidationStatus.ABLE_TO_VOTE, result.get(5, TimeUnit.SECONDS).getStatus());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(upstream, times(1)).validateCpf(CPF);
+    }
+}
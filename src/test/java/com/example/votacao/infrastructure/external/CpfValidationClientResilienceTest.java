@@ -0,0 +1,218 @@
+package com.example.votacao.infrastructure.external;
+
+import com.example.votacao.domain.model.CpfValidationStatus;
+import com.example.votacao.infrastructure.config.CpfValidationConfig;
+import com.example.votacao.infrastructure.config.CpfValidationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises the CPF client against a local stub of the eligibility service
+ * with scripted status codes and injected latency.
+ */
+@DisplayName("CPF validation client resilience")
+class CpfValidationClientResilienceTest {
+
+    private static final String CPF = "11144477735";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Deque<Integer> scriptedStatuses = new ArrayDeque<>();
+    private volatile long latencyMillis;
+    private volatile String lastPath;
+    private CpfValidationProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/users/", this::handle);
+        server.start();
+
+        properties = new CpfValidationProperties();
+        properties.setBaseUrl(URI.create("http://127.0.0.1:" + server.getAddress().getPort()));
+        properties.setTimeout(Duration.ofMillis(200));
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        properties.setMaxAttempts(2);
+        properties.setFailureThreshold(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Maps 200 and 404 answers to eligibility outcomes")
+    void shouldMapAnswers() {
+        CpfValidationClient client = client();
+
+        assertThat(client.validateCpf(CPF).getStatus()).isEqualTo(CpfValidationStatus.ABLE_TO_VOTE);
+        assertThat(lastPath).isEqualTo("/users/" + CPF);
+
+        script(299);
+        assertThatThrownBy(() -> client.validateCpf(CPF))
+                .isInstanceOf(CpfValidationClient.CpfUnableToVoteException.class);
+
+        script(404);
+        assertThatThrownBy(() -> client.validateCpf(CPF))
+                .isInstanceOf(CpfValidationClient.CpfNotFoundException.class);
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Rejects malformed CPFs without calling the service")
+    void shouldRejectMalformedCpfLocally() {
+        assertThatThrownBy(() -> client().validateCpf("123"))
+                .isInstanceOf(CpfValidationClient.CpfNotFoundException.class);
+        assertThat(requests).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Retries a server error within the budget")
+    void shouldRetryServerError() {
+        script(503);
+
+        assertThat(client().validateCpf(CPF).getStatus()).isEqualTo(CpfValidationStatus.ABLE_TO_VOTE);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Gives up after the per-attempt timeout on every attempt")
+    void shouldTimeOut() {
+        latencyMillis = 1_000;
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> client().validateCpf(CPF))
+                .isInstanceOf(CpfValidationClient.CpfValidationUnavailableException.class);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Does not retry once the retry budget is spent")
+    void shouldRespectRetryBudget() {
+        properties.setRetryBudgetMinimum(0);
+        properties.setRetryBudgetRatio(0.5);
+        CpfValidationClient client = client();
+        script(500, 500, 500);
+
+        // first call deposits half a token: not enough for a retry
+        assertThatThrownBy(() -> client.validateCpf(CPF))
+                .isInstanceOf(CpfValidationClient.CpfValidationUnavailableException.class);
+        assertThat(requests).hasValue(1);
+
+        // second call completes the token, so it may retry once
+        assertThatThrownBy(() -> client.validateCpf(CPF))
+                .isInstanceOf(CpfValidationClient.CpfValidationUnavailableException.class);
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Opens the circuit after consecutive failures and sheds calls")
+    void shouldOpenCircuit() {
+        properties.setFailureThreshold(3);
+        properties.setMaxAttempts(1);
+        properties.setOpenDuration(Duration.ofMillis(300));
+        CpfValidationClient client = client();
+        script(500, 500, 500);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.validateCpf(CPF))
+                    .isInstanceOf(CpfValidationClient.CpfValidationUnavailableException.class);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.validateCpf(CPF))
+                .isInstanceOf(CpfValidationClient.CpfValidationUnavailableException.class)
+                .hasMessageContaining("circuit is open");
+        assertThat(requests).hasValue(3);
+
+        await(350);
+        assertThat(client.validateCpf(CPF).getStatus()).isEqualTo(CpfValidationStatus.ABLE_TO_VOTE);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Rejects calls beyond the bulkhead limit immediately")
+    void shouldRejectBeyondBulkhead() {
+        properties.setMaxConcurrentCalls(2);
+        properties.setTimeout(Duration.ofSeconds(2));
+        latencyMillis = 300;
+        CpfValidationClient client = client();
+
+        CompletableFuture<?> first = client.validateCpfAsync(CPF);
+        CompletableFuture<?> second = client.validateCpfAsync(CPF);
+        CompletableFuture<?> third = client.validateCpfAsync(CPF);
+
+        assertThat(third).isCompletedExceptionally();
+        assertThatThrownBy(third::join).hasCauseInstanceOf(CpfValidationClient.CpfValidationUnavailableException.class);
+        first.join();
+        second.join();
+        assertThat(client.availableConcurrentCalls()).isEqualTo(2);
+        assertThat(requests).hasValue(2);
+    }
+
+    private CpfValidationClient client() {
+        return new CpfValidationClient(properties,
+                new CpfValidationConfig().cpfValidationHttpClient(properties), new ObjectMapper());
+    }
+
+    private synchronized void script(Integer... statuses) {
+        scriptedStatuses.addAll(List.of(statuses));
+    }
+
+    private synchronized Integer nextStatus() {
+        return scriptedStatuses.poll();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        lastPath = exchange.getRequestURI().getPath();
+        await(latencyMillis);
+        Integer scripted = nextStatus();
+        int status = scripted == null ? 200 : scripted;
+        // 299 is shorthand for a 200 answering UNABLE_TO_VOTE
+        String body = status == 299 ? "{\"status\":\"UNABLE_TO_VOTE\"}" : "{\"status\":\"ABLE_TO_VOTE\"}";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status == 299 ? 200 : status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } catch (IOException e) {
+            // the client gave up on a slow response
+        }
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
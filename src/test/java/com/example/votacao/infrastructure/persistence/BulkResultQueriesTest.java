@@ -0,0 +1,148 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.AgendaResult;
+import com.example.votacao.domain.model.Vote;
+import com.example.votacao.domain.model.VoteType;
+import com.example.votacao.domain.model.VotingResult;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({VoteRepositoryImpl.class, AgendaRepositoryImpl.class, AgendaResultRepositoryImpl.class,
+        RowCountEstimator.class})
+@DisplayName("Bulk result queries")
+class BulkResultQueriesTest {
+
+    @Autowired
+    private VoteRepositoryImpl voteRepository;
+
+    @Autowired
+    private AgendaRepositoryImpl agendaRepository;
+
+    @Autowired
+    private AgendaResultRepositoryImpl agendaResultRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Tallies several agendas with one grouped query, leaving out agendas without votes")
+    void talliesSeveralAgendas() {
+        Agenda first = persistAgendaWithVotes(3, 1);
+        Agenda second = persistAgendaWithVotes(0, 2);
+        Agenda empty = persistAgendaWithVotes(0, 0);
+        Agenda notRequested = persistAgendaWithVotes(5, 5);
+        flush();
+
+        Map<UUID, VotingResult> tallies = voteRepository.tallyByAgendaIds(
+                List.of(first.getId(), second.getId(), empty.getId()));
+
+        assertThat(tallies).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(tallies.get(first.getId())).isEqualTo(new VotingResult(3, 1, 4));
+        assertThat(tallies.get(second.getId())).isEqualTo(new VotingResult(0, 2, 2));
+        assertThat(tallies.get(first.getId())).isEqualTo(voteRepository.tallyByAgendaId(first.getId()));
+        assertThat(voteRepository.tallyByAgendaIds(List.of())).isEmpty();
+        assertThat(notRequested.getId()).isNotIn(tallies.keySet());
+    }
+
+    @Test
+    @DisplayName("Finds existing agendas and stored results by id lists")
+    void findsByIdLists() {
+        Agenda closed = persistAgendaWithVotes(1, 0);
+        Agenda open = persistAgendaWithVotes(0, 0);
+        entityManager.persist(AgendaResult.of(closed.getId(), new VotingResult(1, 0, 1), LocalDateTime.now()));
+        flush();
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(agendaRepository.findExistingIds(List.of(closed.getId(), open.getId(), unknown)))
+                .containsExactlyInAnyOrder(closed.getId(), open.getId());
+        assertThat(agendaResultRepository.findByAgendaIds(List.of(closed.getId(), open.getId(), unknown)))
+                .extracting(AgendaResult::getAgendaId)
+                .containsExactly(closed.getId());
+    }
+
+    @Test
+    @DisplayName("Stores several results, overwriting existing ones, and marks their agendas final")
+    void finalizesSeveralAgendas() {
+        Agenda first = persistAgendaWithVotes(0, 0);
+        Agenda second = persistAgendaWithVotes(0, 0);
+        Agenda untouched = persistAgendaWithVotes(0, 0);
+        entityManager.persist(AgendaResult.of(second.getId(), new VotingResult(9, 9, 18), LocalDateTime.now()));
+        flush();
+        LocalDateTime finalizedAt = LocalDateTime.now().withNano(0);
+
+        agendaResultRepository.saveAll(List.of(
+                AgendaResult.of(first.getId(), new VotingResult(3, 1, 4), finalizedAt),
+                AgendaResult.of(second.getId(), new VotingResult(2, 0, 2), finalizedAt)));
+        agendaRepository.markFinalized(List.of(first.getId(), second.getId()), finalizedAt);
+        agendaRepository.markFinalized(List.of(), finalizedAt);
+        flush();
+
+        assertThat(agendaResultRepository.findByAgendaIds(List.of(first.getId(), second.getId())))
+                .extracting(AgendaResult::getAgendaId, AgendaResult::getYesVotes, AgendaResult::getNoVotes)
+                .containsExactlyInAnyOrder(tuple(first.getId(), 3L, 1L), tuple(second.getId(), 2L, 0L));
+        assertThat(agendaRepository.findById(first.getId()).orElseThrow().getFinalizedAt()).isEqualTo(finalizedAt);
+        assertThat(agendaRepository.findById(second.getId()).orElseThrow().isFinalized()).isTrue();
+        assertThat(agendaRepository.findById(untouched.getId()).orElseThrow().isFinalized()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Closes every expired open session with one update and reports exactly those")
+    void closesExpiredSessionsInBulk() {
+        // whole millis, so the column's rounding cannot push "ending now" past now
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Agenda expired = persistSession(now.minusSeconds(1));
+        Agenda endingNow = persistSession(now);
+        Agenda stillOpen = persistSession(now.plusMinutes(1));
+        Agenda neverOpened = persistAgendaWithVotes(0, 0);
+        flush();
+
+        assertThat(agendaRepository.closeExpiredSessions(now))
+                .containsExactlyInAnyOrder(expired.getId(), endingNow.getId());
+        assertThat(agendaRepository.closeExpiredSessions(now)).isEmpty();
+        assertThat(agendaRepository.findByStatus(VotingSessionStatus.OPEN))
+                .extracting(Agenda::getId)
+                .containsExactly(stillOpen.getId());
+        assertThat(agendaRepository.findById(neverOpened.getId()).orElseThrow().getStatus())
+                .isEqualTo(VotingSessionStatus.CLOSED);
+    }
+
+    private Agenda persistSession(LocalDateTime endTime) {
+        Agenda agenda = new Agenda("Agenda", "Bulk close");
+        agenda.openVotingSession(1);
+        agenda.setSessionEndTime(endTime);
+        entityManager.persist(agenda);
+        return agenda;
+    }
+
+    private Agenda persistAgendaWithVotes(int yes, int no) {
+        Agenda agenda = new Agenda("Agenda", "Bulk results");
+        entityManager.persist(agenda);
+        for (int i = 0; i < yes + no; i++) {
+            entityManager.persist(new Vote(agenda, UUID.randomUUID(), i < yes ? VoteType.YES : VoteType.NO));
+        }
+        return agenda;
+    }
+
+    private void flush() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.infrastructure.util.CpfGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the packed BIGINT CPF index against the previous VARCHAR one: index
+ * size in an H2 file database and single-threaded point lookups. Timings are
+ * logged, not asserted.
+ *
+ * Runs only with {@code -Pbenchmark}, by default with 100k members; pass
+ * {@code -Dbenchmark.members=10000000} for the full-size comparison.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("CPF index benchmark")
+class CpfIndexBenchmarkTest {
+
+    private static final int MEMBERS = Integer.getInteger("benchmark.members", 100_000);
+    private static final int LOOKUPS = 100_000;
+    private static final int BATCH = 10_000;
+
+    @TempDir
+    static Path directory;
+
+    private static long[] cpfs;
+
+    @BeforeAll
+    static void setUp() {
+        cpfs = CpfGenerator.uniquePackedCpfs(11L, 0, MEMBERS).toArray();
+    }
+
+    @Test
+    @DisplayName("BIGINT unique index is smaller and faster to probe than the VARCHAR one")
+    void compareIndexes() throws SQLException {
+        IndexStats varchar = measure("varchar", "VARCHAR(255)", false);
+        IndexStats packed = measure("packed", "BIGINT", true);
+
+        log.info("{} members: VARCHAR index {} KiB, {} lookups/s; BIGINT index {} KiB, {} lookups/s",
+                MEMBERS, varchar.sizeBytes / 1024, varchar.lookupsPerSecond,
+                packed.sizeBytes / 1024, packed.lookupsPerSecond);
+        assertThat(varchar.hits).isEqualTo(LOOKUPS);
+        assertThat(packed.hits).isEqualTo(LOOKUPS);
+    }
+
+    /**
+     * Loads one database per variant; the index size is the growth of the
+     * compacted database file when the unique index is added.
+     */
+    private static IndexStats measure(String name, String type, boolean packed) throws SQLException {
+        Path file = directory.resolve(name);
+        String url = "jdbc:h2:file:" + file;
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE members (id UUID PRIMARY KEY, cpf " + type
+                        + " NOT NULL, name VARCHAR(255) NOT NULL)");
+            }
+            load(connection, packed);
+            compact(connection);
+        }
+        long before = size(file);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE UNIQUE INDEX idx_member_cpf ON members (cpf)");
+            }
+            compact(connection);
+        }
+        long sizeBytes = size(file) - before;
+
+        SplittableRandom random = new SplittableRandom(42L);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement lookup = connection.prepareStatement("SELECT id FROM members WHERE cpf = ?")) {
+            // warm up the plan and the page cache before timing
+            lookups(lookup, packed, random, LOOKUPS / 4);
+            long start = System.nanoTime();
+            int hits = lookups(lookup, packed, random, LOOKUPS);
+            long elapsedNanos = System.nanoTime() - start;
+            return new IndexStats(sizeBytes, LOOKUPS * 1_000_000_000L / elapsedNanos, hits);
+        }
+    }
+
+    private static void load(Connection connection, boolean packed) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO members (id, cpf, name) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < cpfs.length; i++) {
+                insert.setObject(1, UUID.randomUUID());
+                if (packed) {
+                    insert.setLong(2, cpfs[i]);
+                } else {
+                    insert.setString(2, Cpf.toDigits(cpfs[i]));
+                }
+                insert.setString(3, "Member " + i);
+                insert.addBatch();
+                if (i % BATCH == BATCH - 1) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static int lookups(PreparedStatement lookup, boolean packed, SplittableRandom random, int count)
+            throws SQLException {
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            long cpf = cpfs[random.nextInt(cpfs.length)];
+            if (packed) {
+                lookup.setLong(1, cpf);
+            } else {
+                lookup.setString(1, Cpf.toDigits(cpf));
+            }
+            try (ResultSet result = lookup.executeQuery()) {
+                if (result.next()) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static void compact(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN COMPACT");
+        }
+    }
+
+    private static long size(Path file) {
+        return file.resolveSibling(file.getFileName() + ".mv.db").toFile().length();
+    }
+
+    private record IndexStats(long sizeBytes, long lookupsPerSecond, int hits) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.AgendaSummary;
+import com.example.votacao.domain.model.Cpf;
+import com.example.votacao.domain.model.Member;
+import com.example.votacao.domain.model.MemberSummary;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AgendaRepositoryImpl.class, MemberRepositoryImpl.class, RowCountEstimator.class})
+@DisplayName("Agenda and member keyset listings")
+class ListingKeysetPaginationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+    @Autowired
+    private AgendaRepositoryImpl agendaRepository;
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Agenda pages run newest first and honour the status and creation filters")
+    void pagesFilteredAgendasNewestFirst() {
+        // pairs of agendas share a creation time, so ties are broken by id; every third one is open
+        List<Agenda> agendas = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Agenda agenda = new Agenda("Agenda " + i, "Listed");
+            agenda.setCreatedAt(START.plusDays(i / 2));
+            if (i % 3 == 0) {
+                agenda.openVotingSession(60);
+            }
+            agendas.add(agenda);
+            entityManager.persist(agenda);
+        }
+        flush();
+
+        LocalDateTime from = START.plusDays(1);
+        LocalDateTime to = START.plusDays(5);
+        // the database orders UUIDs as unsigned bytes, like their hex strings, unlike UUID.compareTo
+        Comparator<Agenda> newestFirst = Comparator.comparing(Agenda::getCreatedAt)
+                .thenComparing(agenda -> agenda.getId().toString())
+                .reversed();
+
+        assertThat(readAgendas(null, null, null, 5)).containsExactlyElementsOf(
+                agendas.stream().sorted(newestFirst).map(Agenda::getId).toList());
+        assertThat(readAgendas(VotingSessionStatus.CLOSED, from, to, 3)).containsExactlyElementsOf(
+                agendas.stream()
+                        .filter(agenda -> agenda.getStatus() == VotingSessionStatus.CLOSED)
+                        .filter(agenda -> !agenda.getCreatedAt().isBefore(from) && agenda.getCreatedAt().isBefore(to))
+                        .sorted(newestFirst)
+                        .map(Agenda::getId)
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("Member pages run by name and id")
+    void pagesMembersByName() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            // three members per name, so ties are broken by id
+            Member member = new Member(Cpf.withCheckDigits(100_000_000 + i), "Member " + (char) ('C' - i % 3));
+            members.add(member);
+            entityManager.persist(member);
+        }
+        flush();
+
+        List<UUID> seen = new ArrayList<>();
+        List<MemberSummary> page = memberRepository.findSummariesByName(null, null, 4);
+        while (!page.isEmpty()) {
+            page.forEach(member -> seen.add(member.id()));
+            MemberSummary last = page.get(page.size() - 1);
+            page = memberRepository.findSummariesByName(last.name(), last.id(), 4);
+        }
+
+        assertThat(seen).containsExactlyElementsOf(members.stream()
+                .sorted(Comparator.comparing(Member::getName).thenComparing(member -> member.getId().toString()))
+                .map(Member::getId)
+                .toList());
+        assertThat(memberRepository.estimateCount()).isGreaterThanOrEqualTo(0);
+        try (Stream<MemberSummary> all = memberRepository.streamAllSummaries()) {
+            assertThat(all.map(MemberSummary::id)).containsExactlyInAnyOrderElementsOf(seen);
+        }
+    }
+
+    private List<UUID> readAgendas(VotingSessionStatus status, LocalDateTime from, LocalDateTime to, int limit) {
+        List<UUID> seen = new ArrayList<>();
+        List<AgendaSummary> page = agendaRepository.findSummaries(status, from, to, null, null, limit);
+        while (!page.isEmpty()) {
+            page.forEach(agenda -> seen.add(agenda.id()));
+            AgendaSummary last = page.get(page.size() - 1);
+            page = agendaRepository.findSummaries(status, from, to, last.createdAt(), last.id(), limit);
+        }
+        return seen;
+    }
+
+    private void flush() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
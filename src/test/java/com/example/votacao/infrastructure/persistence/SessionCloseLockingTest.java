@@ -0,0 +1,207 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.Vote;
+import com.example.votacao.domain.model.VoteType;
+import com.example.votacao.domain.model.VotingResult;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a vote and a session close in two real transactions to check that the
+ * agenda row lock taken for voting close to the session's end serializes them.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AgendaRepositoryImpl.class, VoteRepositoryImpl.class, RowCountEstimator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Session close locking")
+class SessionCloseLockingTest {
+
+    @Autowired
+    private AgendaRepositoryImpl agendaRepository;
+
+    @Autowired
+    private VoteRepositoryImpl voteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private ExecutorService pool;
+    private UUID agendaId;
+    // past the session's end time
+    private LocalDateTime closingTime;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        pool = Executors.newFixedThreadPool(2);
+        // inside the default lock window
+        agendaId = openAgenda(LocalDateTime.now().plusSeconds(3));
+        closingTime = LocalDateTime.now().plusMinutes(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Closing waits for a vote that saw the session open and tallies it")
+    void closingWaitsForVoteInFlight() throws Exception {
+        CountDownLatch checked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> vote = pool.submit(() -> transaction.executeWithoutResult(status -> {
+            Agenda agenda = agendaRepository.findByIdForVoting(agendaId).orElseThrow();
+            assertThat(agenda.isVotingOpen()).isTrue();
+            checked.countDown();
+            await(release);
+            voteRepository.save(new Vote(agenda, UUID.randomUUID(), VoteType.YES));
+        }));
+        assertThat(checked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<VotingResult> close = pool.submit(() -> transaction.execute(status -> {
+            assertThat(agendaRepository.closeExpiredSessions(closingTime)).containsExactly(agendaId);
+            return voteRepository.tallyByAgendaId(agendaId);
+        }));
+        Thread.sleep(200);
+        assertThat(close.isDone()).isFalse();
+        release.countDown();
+
+        vote.get(5, TimeUnit.SECONDS);
+        assertThat(close.get(5, TimeUnit.SECONDS)).isEqualTo(new VotingResult(1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("A vote waiting for a closing session sees it closed")
+    void voteWaitingForCloseSeesItClosed() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<UUID>> close = pool.submit(() -> transaction.execute(status -> {
+            List<UUID> ids = agendaRepository.closeExpiredSessions(closingTime);
+            closed.countDown();
+            await(release);
+            return ids;
+        }));
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<VotingSessionStatus> vote = pool.submit(() -> transaction.execute(status ->
+                agendaRepository.findByIdForVoting(agendaId).orElseThrow().getStatus()));
+        Thread.sleep(200);
+        assertThat(vote.isDone()).isFalse();
+        release.countDown();
+
+        assertThat(close.get(5, TimeUnit.SECONDS)).containsExactly(agendaId);
+        assertThat(vote.get(5, TimeUnit.SECONDS)).isEqualTo(VotingSessionStatus.CLOSED);
+    }
+
+    @Test
+    @DisplayName("A sweep racing the expiry timer does not report the session the timer closed")
+    void sweepSkipsSessionClosedByTimer() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> timer = pool.submit(() -> transaction.execute(status -> {
+            boolean changed = agendaRepository.closeIfExpired(agendaId, closingTime);
+            closed.countDown();
+            await(release);
+            return changed;
+        }));
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<List<UUID>> sweep = pool.submit(() -> transaction.execute(status ->
+                agendaRepository.closeExpiredSessions(closingTime)));
+        Thread.sleep(200);
+        assertThat(sweep.isDone()).isFalse();
+        release.countDown();
+
+        assertThat(timer.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sweep.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The expiry timer waits for a sweep that closed the session and changes nothing")
+    void timerAfterSweepChangesNothing() throws Exception {
+        CountDownLatch swept = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<UUID>> sweep = pool.submit(() -> transaction.execute(status -> {
+            List<UUID> ids = agendaRepository.closeExpiredSessions(closingTime);
+            swept.countDown();
+            await(release);
+            return ids;
+        }));
+        assertThat(swept.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<Boolean> timer = pool.submit(() -> transaction.execute(status ->
+                agendaRepository.closeIfExpired(agendaId, closingTime)));
+        Thread.sleep(200);
+        assertThat(timer.isDone()).isFalse();
+        release.countDown();
+
+        assertThat(sweep.get(5, TimeUnit.SECONDS)).containsExactly(agendaId);
+        assertThat(timer.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("A vote far from the session end does not wait for the agenda row")
+    void voteFarFromEndDoesNotLock() throws Exception {
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(1);
+        UUID farAgendaId = openAgenda(endTime);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // an uncommitted close holds the row; a locking read would wait for it
+        Future<?> holder = pool.submit(() -> transaction.executeWithoutResult(status -> {
+            assertThat(agendaRepository.closeIfExpired(farAgendaId, endTime.plusSeconds(1))).isTrue();
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<VotingSessionStatus> vote = pool.submit(() -> transaction.execute(status ->
+                agendaRepository.findByIdForVoting(farAgendaId).orElseThrow().getStatus()));
+
+        assertThat(vote.get(5, TimeUnit.SECONDS)).isEqualTo(VotingSessionStatus.OPEN);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    private UUID openAgenda(LocalDateTime endTime) {
+        return transaction.execute(status -> {
+            Agenda agenda = new Agenda("Agenda", "Closing while voting");
+            agenda.openVotingSession(1);
+            agenda.setSessionEndTime(endTime);
+            return agendaRepository.save(agenda).getId();
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.VotingSessionStatus;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares closing 10k simultaneously expiring sessions with the bulk update
+ * against the previous load-and-save loop. Timings are logged, not asserted;
+ * runs only with {@code -Pbenchmark}. {@code BulkResultQueriesTest} covers the
+ * bulk close itself.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AgendaRepositoryImpl.class, RowCountEstimator.class})
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Session closing benchmark")
+class SessionClosingBenchmarkTest {
+
+    private static final int AGENDAS = 10_000;
+
+    @Autowired
+    private AgendaRepositoryImpl agendaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        for (int i = 0; i < AGENDAS; i++) {
+            Agenda agenda = new Agenda("Agenda " + i, "Expiring agenda");
+            agenda.openVotingSession(1);
+            agenda.setSessionEndTime(now.minusSeconds(1));
+            entityManager.persist(agenda);
+            if (i % 1_000 == 999) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        Agenda stillOpen = new Agenda("Still open", "Not expired");
+        stillOpen.openVotingSession(60);
+        entityManager.persist(stillOpen);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Bulk update closes 10k expired sessions and reports their ids")
+    void bulkClose() {
+        long start = System.nanoTime();
+        List<UUID> closed = agendaRepository.closeExpiredSessions(now);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bulk close of {} sessions took {} ms", closed.size(), elapsedMillis);
+
+        assertThat(closed).hasSize(AGENDAS).doesNotHaveDuplicates();
+        assertThat(agendaRepository.findByStatus(VotingSessionStatus.OPEN)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Previous load-and-save loop, for comparison")
+    void entityLoopClose() {
+        long start = System.nanoTime();
+        List<Agenda> open = agendaRepository.findByStatus(VotingSessionStatus.OPEN);
+        open.stream()
+                .filter(agenda -> !agenda.isVotingOpen())
+                .forEach(agenda -> {
+                    agenda.closeVotingSession();
+                    agendaRepository.save(agenda);
+                });
+        entityManager.flush();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Entity loop close of {} sessions took {} ms", open.size() - 1, elapsedMillis);
+
+        entityManager.clear();
+        assertThat(agendaRepository.findByStatus(VotingSessionStatus.OPEN)).hasSize(1);
+    }
+}
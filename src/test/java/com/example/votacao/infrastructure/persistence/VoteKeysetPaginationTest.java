@@ -0,0 +1,82 @@
+package com.example.votacao.infrastructure.persistence;
+
+import com.example.votacao.domain.model.Agenda;
+import com.example.votacao.domain.model.Vote;
+import com.example.votacao.domain.model.VoteType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(VoteRepositoryImpl.class)
+@DisplayName("Vote keyset pagination")
+class VoteKeysetPaginationTest {
+
+    private static final int VOTES = 25;
+
+    @Autowired
+    private VoteRepositoryImpl voteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID agendaId;
+    private List<UUID> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        Agenda agenda = new Agenda("Agenda", "Paged votes");
+        entityManager.persist(agenda);
+        Agenda other = new Agenda("Other", "Not listed");
+        entityManager.persist(other);
+        agendaId = agenda.getId();
+
+        // groups of five votes share a timestamp, so ties are broken by id
+        LocalDateTime start = LocalDateTime.of(2025, 9, 19, 10, 0);
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < VOTES; i++) {
+            Vote vote = new Vote(agenda, UUID.randomUUID(), VoteType.YES);
+            vote.setVotedAt(start.plusSeconds(i / 5));
+            votes.add(vote);
+            entityManager.persist(vote);
+        }
+        entityManager.persist(new Vote(other, UUID.randomUUID(), VoteType.NO));
+        entityManager.flush();
+        entityManager.clear();
+
+        // the database orders UUIDs as unsigned bytes, like their hex strings, unlike UUID.compareTo
+        expectedOrder = votes.stream()
+                .sorted(Comparator.comparing(Vote::getVotedAt).thenComparing(vote -> vote.getId().toString()))
+                .map(Vote::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Pages cover every vote exactly once in (votedAt, id) order")
+    void pagesCoverAllVotesInOrder() {
+        List<UUID> seen = new ArrayList<>();
+        List<Vote> page = voteRepository.findPageByAgendaId(agendaId, null, null, 4);
+        while (!page.isEmpty()) {
+            assertThat(page).hasSizeLessThanOrEqualTo(4);
+            page.forEach(vote -> seen.add(vote.getId()));
+            Vote last = page.get(page.size() - 1);
+            page = voteRepository.findPageByAgendaId(agendaId, last.getVotedAt(), last.getId(), 4);
+        }
+
+        assertThat(seen).containsExactlyElementsOf(expectedOrder);
+    }
+}
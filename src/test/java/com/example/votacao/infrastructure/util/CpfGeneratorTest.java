@@ -0,0 +1,87 @@
+package com.example.votacao.infrastructure.util;
+
+import com.example.votacao.domain.model.Cpf;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class CpfGeneratorTest {
+
+    @Test
+    void shouldGenerateUniqueValidCpfsWithinARun() {
+        int count = 1_000_000;
+        long[] packed = CpfGenerator.uniquePackedCpfs(42L, 0, count).parallel().toArray();
+
+        BitSet bases = new BitSet(1_000_000_000);
+        for (long cpf : packed) {
+            assertTrue(Cpf.isValid(Cpf.toDigits(cpf)), () -> "invalid CPF " + cpf);
+            int base = (int) (cpf / 100);
+            assertFalse(bases.get(base), () -> "duplicate CPF " + cpf);
+            bases.set(base);
+        }
+    }
+
+    @Test
+    void shouldContinueARunWithoutRepeatsAcrossRanges() {
+        long[] first = CpfGenerator.uniquePackedCpfs(7L, 0, 1_000).toArray();
+        long[] again = CpfGenerator.uniquePackedCpfs(7L, 0, 1_000).toArray();
+        long[] next = CpfGenerator.uniquePackedCpfs(7L, 1_000, 1_000).toArray();
+
+        assertArrayEquals(first, again);
+        BitSet bases = new BitSet();
+        for (long cpf : first) {
+            bases.set((int) (cpf / 100));
+        }
+        for (long cpf : next) {
+            assertFalse(bases.get((int) (cpf / 100)));
+        }
+    }
+
+    @Test
+    void shouldSkipRepeatedDigitBasesAcrossTheWholeSpace() {
+        CpfPermutation permutation = new CpfPermutation(1L);
+
+        assertTrue(Cpf.isValid(Cpf.toDigits(permutation.packedAt(0))));
+        assertTrue(Cpf.isValid(Cpf.toDigits(permutation.packedAt(CpfPermutation.SIZE - 1))));
+        assertThrows(IllegalArgumentException.class, () -> permutation.packedAt(CpfPermutation.SIZE));
+        assertThrows(IllegalArgumentException.class,
+                () -> CpfGenerator.uniquePackedCpfs(1L, CpfPermutation.SIZE - 10, 11));
+    }
+
+    @Test
+    void shouldWriteOneCpfPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CpfGenerator.writeUniqueCpfs(3L, 0, 20_000, true, out);
+
+        String[] lines = out.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals(20_000, lines.length);
+        long[] expected = CpfGenerator.uniquePackedCpfs(3L, 0, 20_000).toArray();
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(Cpf.format(expected[i]), lines[i]);
+        }
+    }
+
+    @Test
+    void shouldStreamMillionsOfCpfsPerSecond() throws Exception {
+        OutputStream discard = OutputStream.nullOutputStream();
+        CpfGenerator.writeUniqueCpfs(5L, 0, 1_000_000, false, discard);
+
+        int count = 5_000_000;
+        long start = System.nanoTime();
+        CpfGenerator.writeUniqueCpfs(5L, 1_000_000, count, false, discard);
+        long elapsedNanos = System.nanoTime() - start;
+        long perSecond = count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        log.info("Generated {} unique CPFs in {} ms ({} CPFs/s)", count,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), perSecond);
+
+        assertTrue(perSecond > 1_000_000, () -> "only " + perSecond + " CPFs/s");
+    }
+}
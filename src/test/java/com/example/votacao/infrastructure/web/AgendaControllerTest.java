@@ -1,7 +1,11 @@
 package com.example.votacao.infrastructure.web;
 
 import com.example.votacao.application.dto.AgendaResponse;
+import com.example.votacao.application.dto.AgendaResultsRequest;
+import com.example.votacao.application.dto.AgendaVotingResultResponse;
 import com.example.votacao.application.dto.CreateAgendaRequest;
+import com.example.votacao.application.dto.Versioned;
+import com.example.votacao.application.dto.VotingResultResponse;
 import com.example.votacao.application.usecase.AgendaService;
 import com.example.votacao.domain.model.VotingSessionStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,9 +13,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -20,6 +32,9 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +43,14 @@ class AgendaControllerTest {
     @Mock
     private AgendaService agendaService;
     
+    @Spy
+    private HttpCachePolicy httpCachePolicy = new HttpCachePolicy(Duration.ofSeconds(60));
+    
+    @Spy
+    private SerializedResponseCache serializedResponseCache = new SerializedResponseCache(
+            new ConcurrentMapCacheManager(SerializedResponseCache.CACHE_NAME),
+            Jackson2ObjectMapperBuilder.json().build(), httpCachePolicy);
+    
     @InjectMocks
     private AgendaController agendaController;
     
@@ -43,7 +66,8 @@ class AgendaControllerTest {
                 VotingSessionStatus.CLOSED,
                 null,
                 null,
-                false
+                false,
+                null
         );
     }
     
@@ -62,6 +86,25 @@ class AgendaControllerTest {
         assertEquals("Test Agenda", response.getBody().getTitle());
     }
     
+    @Test
+    void shouldGetVotingResultsInBulk() {
+        // Given
+        UUID agendaId = mockAgendaResponse.getId();
+        UUID otherId = UUID.randomUUID();
+        List<AgendaVotingResultResponse> results = List.of(
+                new AgendaVotingResultResponse(agendaId, 3, new VotingResultResponse(2, 1, 3, "APPROVED", 66.67, 33.33)),
+                new AgendaVotingResultResponse(otherId, 0, new VotingResultResponse(0, 0, 0, "TIE", 0, 0)));
+        when(agendaService.getVotingResults(List.of(agendaId, otherId))).thenReturn(results);
+        
+        // When
+        ResponseEntity<List<AgendaVotingResultResponse>> response =
+                agendaController.getVotingResults(new AgendaResultsRequest(List.of(agendaId, otherId)));
+        
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+    
     @Test
     void shouldGetAllAgendas() {
         // Given
@@ -85,11 +128,92 @@ class AgendaControllerTest {
         when(agendaService.getAgenda(agendaId)).thenReturn(mockAgendaResponse);
         
         // When
-        ResponseEntity<AgendaResponse> response = agendaController.getAgenda(agendaId);
+        ResponseEntity<AgendaResponse> response = agendaController.getAgenda(agendaId, request(null));
         
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("Test Agenda", response.getBody().getTitle());
     }
+    
+    @Test
+    void shouldAnswerMatchingETagWithNotModifiedWithoutLoadingTheAgenda() {
+        UUID agendaId = UUID.randomUUID();
+        when(agendaService.getVersion(agendaId)).thenReturn(3L);
+        when(agendaService.getAgenda(agendaId)).thenReturn(mockAgendaResponse);
+        
+        ResponseEntity<AgendaResponse> first = agendaController.getAgenda(agendaId, request(null));
+        String etag = first.getHeaders().getETag();
+        ServletWebRequest revalidation = request(etag);
+        ResponseEntity<AgendaResponse> second = agendaController.getAgenda(agendaId, revalidation);
+        
+        assertNotNull(etag);
+        assertEquals("no-cache", first.getHeaders().getCacheControl());
+        assertNull(second);
+        assertEquals(304, ((MockHttpServletResponse) revalidation.getResponse()).getStatus());
+        verify(agendaService).getAgenda(agendaId);
+        
+        when(agendaService.getVersion(agendaId)).thenReturn(4L);
+        assertEquals(HttpStatus.OK, agendaController.getAgenda(agendaId, request(etag)).getStatusCode());
+    }
+    
+    @Test
+    void shouldServeFinalResultsPreSerializedAndLetClientsReuseThemBriefly() throws Exception {
+        UUID agendaId = UUID.randomUUID();
+        VotingResultResponse result = new VotingResultResponse(3, 1, 4, "APPROVED", 75, 25);
+        when(agendaService.getVersion(agendaId)).thenReturn(9L);
+        when(agendaService.isResultFinal(agendaId)).thenReturn(true);
+        when(agendaService.getVersionedVotingResult(agendaId)).thenReturn(new Versioned<>(result, 9L));
+        
+        ServletWebRequest first = request(null);
+        ServletWebRequest second = request(null);
+        assertNull(agendaController.getVotingResult(agendaId, null, first));
+        assertNull(agendaController.getVotingResult(agendaId, null, second));
+        MockHttpServletResponse response = (MockHttpServletResponse) second.getResponse();
+        ServletWebRequest revalidation = request(response.getHeader("ETag"));
+        
+        assertEquals("max-age=60", response.getHeader("Cache-Control"));
+        assertEquals("application/json", response.getContentType());
+        assertTrue(response.getContentAsString().contains("\"yesVotes\":3"));
+        assertNull(agendaController.getVotingResult(agendaId, null, revalidation));
+        assertEquals(304, ((MockHttpServletResponse) revalidation.getResponse()).getStatus());
+        assertEquals("max-age=60", ((MockHttpServletResponse) revalidation.getResponse()).getHeader("Cache-Control"));
+        verify(agendaService).getVersionedVotingResult(agendaId);
+    }
+    
+    @Test
+    void shouldReserializeOpenSessionsOnlyWhenTheyChange() throws Exception {
+        when(agendaService.getOpenVotingSessions()).thenReturn(List.of(mockAgendaResponse));
+        
+        agendaController.getOpenVotingSessions(request(null));
+        agendaController.getOpenVotingSessions(request(null));
+        when(agendaService.getOpenVotingSessionsVersion()).thenReturn(1L);
+        ServletWebRequest changed = request(null);
+        agendaController.getOpenVotingSessions(changed);
+        
+        assertTrue(((MockHttpServletResponse) changed.getResponse()).getContentAsString()
+                .contains("\"title\":\"Test Agenda\""));
+        verify(agendaService, times(2)).getOpenVotingSessions();
+    }
+    
+    @Test
+    void shouldNotMatchETagsOfUnversionedAgendas() {
+        UUID agendaId = UUID.randomUUID();
+        when(agendaService.getAgenda(agendaId)).thenReturn(mockAgendaResponse);
+        
+        ResponseEntity<AgendaResponse> response = agendaController.getAgenda(agendaId,
+                request(httpCachePolicy.etag(0)));
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+        verify(agendaService, never()).getVersionedVotingResult(any());
+    }
+    
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/agendas/v1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
\ No newline at end of file
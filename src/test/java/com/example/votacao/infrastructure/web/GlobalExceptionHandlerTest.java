@@ -3,6 +3,7 @@ package com.example.votacao.infrastructure.web;
 import com.example.votacao.domain.exception.EntityNotFoundException;
 import com.example.votacao.domain.exception.VotingException;
 import com.example.votacao.infrastructure.external.CpfValidationClient;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -180,4 +182,16 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getCode()).isEqualTo("INTERNAL_ERROR");
         assertThat(response.getBody().getMessage()).isEqualTo("An unexpected error occurred. Please try again later.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should stay silent when the client disconnects mid-stream")
+    void shouldIgnoreClientDisconnectOnCommittedResponse() {
+        HttpServletResponse committed = mock(HttpServletResponse.class);
+        when(committed.isCommitted()).thenReturn(true);
+        HttpServletResponse pending = mock(HttpServletResponse.class);
+
+        assertThat(exceptionHandler.handleClientDisconnect(new IOException("Broken pipe"), committed)).isNull();
+        assertThat(exceptionHandler.handleClientDisconnect(new IOException("Disk full"), pending).getStatusCode())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.votacao.infrastructure.web;
+
+import com.example.votacao.application.dto.Versioned;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SerializedResponseCache Tests")
+class SerializedResponseCacheTest {
+
+    private SerializedResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SerializedResponseCache(new ConcurrentMapCacheManager(SerializedResponseCache.CACHE_NAME),
+                Jackson2ObjectMapperBuilder.json().build(), new HttpCachePolicy(Duration.ofSeconds(60)));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should serialize once per version")
+    void shouldSerializeOncePerVersion() throws Exception {
+        assertThat(body(write(1, null))).isEqualTo(body(write(1, null)));
+        write(2, null);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should serve the gzip variant only to clients that accept it")
+    void shouldServeGzipToClientsThatAcceptIt() throws Exception {
+        MockHttpServletResponse identity = write(1, null);
+        MockHttpServletResponse gzip = write(1, "br, gzip;q=0.8");
+        MockHttpServletResponse refused = write(1, "gzip;q=0");
+
+        assertThat(gzip.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzip.getContentAsByteArray().length).isLessThan(identity.getContentAsByteArray().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body(identity));
+        }
+        assertThat(refused.getHeader("Content-Encoding")).isNull();
+        assertThat(identity.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(identity.getContentLength()).isEqualTo(identity.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Should parse Accept-Encoding")
+    void shouldParseAcceptEncoding() {
+        assertThat(SerializedResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("GZIP ; q=0.5")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip(null)).isFalse();
+    }
+
+    private MockHttpServletResponse write(long version, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/agendas/v1/voting-sessions/open");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.write(new ServletWebRequest(request, response), "open-sessions", version, false, () -> {
+            loads.incrementAndGet();
+            List<String> titles = Collections.nCopies(100, "Open agenda, version " + version);
+            return new Versioned<>(titles, version);
+        });
+        return response;
+    }
+
+    private static String body(MockHttpServletResponse response) throws Exception {
+        return response.getContentAsString(StandardCharsets.UTF_8);
+    }
+}